@@ -0,0 +1,301 @@
+package io.game.test;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+// 효과음 로더
+// - 경로당 한 번만 로드 (같은 파일을 여러 곳에서 써도 Sound 하나를 공유)
+// - 짧은 효과음은 백그라운드 스레드에서 PCM 으로 디코딩해 메모리에 올림 (libGDX SoundLoader 와 같은 방식)
+// - 디코딩 크기가 STREAM_THRESHOLD_BYTES 를 넘는 긴 클립은 Music 으로 스트리밍
+// load() 로 미리 요청해 두고, 다른 초기화가 끝난 뒤 finishLoading() 으로 기다린다.
+// 짧은 효과음은 동시 재생 수 제한(setVoiceCap)을 거치는 Sound 로 넘겨준다 (QualityGovernor 가 조절).
+// 다른 스레드(SimulationThread)에서 재생을 요청하면 큐에 넣었다가 update() 에서 렌더 스레드가 재생한다.
+public class AudioAssets {
+    // 디코딩된 PCM 이 이보다 크면 스트리밍 (16bit 스테레오 44.1kHz 기준 약 1.3초)
+    // 겹쳐 재생되는 짧은 효과음(bounce, slow)은 메모리에, 한 번씩 나오는 긴 징글은 스트리밍
+    public static final int STREAM_THRESHOLD_BYTES = 224 * 1024;
+
+    // 클립 하나
+    public static class Clip {
+        public final String path;
+        public long fileBytes;
+        public long pcmBytes;           // 디코딩 후 크기 (헤더로 계산)
+        public float durationSeconds;
+        public boolean streamed;
+        public long decodeNanos;
+        public Sound sound;
+        public Music music;
+        Future<?> pending;
+        Sound limited;                  // 동시 재생 수 제한을 거치는 sound
+
+        Clip(String path) {
+            this.path = path;
+        }
+    }
+
+    private final HashMap<String, Clip> clips = new HashMap<String, Clip>();
+    private final ArrayList<Clip> loadOrder = new ArrayList<Clip>();
+    private final ExecutorService decoder;
+
+    // 동시 재생 제한 (0 = 제한 없음). 재생 중인 효과음의 종료 예정 시각
+    private static final int MAX_TRACKED_VOICES = 32;
+    private final long[] voiceEnds = new long[MAX_TRACKED_VOICES];
+    private int voiceCap;
+    private int droppedVoices;
+
+    // 다른 스레드에서 들어온 재생 요청
+    private static class PendingPlay {
+        final Clip clip;
+        final float volume, pitch, pan;
+
+        PendingPlay(Clip clip, float volume, float pitch, float pan) {
+            this.clip = clip;
+            this.volume = volume;
+            this.pitch = pitch;
+            this.pan = pan;
+        }
+    }
+
+    private final Thread renderThread = Thread.currentThread();
+    private final ConcurrentLinkedQueue<PendingPlay> pendingPlays = new ConcurrentLinkedQueue<PendingPlay>();
+
+    public AudioAssets() {
+        decoder = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "audio-decoder");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    // 로드 요청 (이미 요청한 경로는 무시)
+    public void load(String path) {
+        if (clips.containsKey(path)) return;
+
+        final Clip clip = new Clip(path);
+        clips.put(path, clip);
+        loadOrder.add(clip);
+        clip.pending = decoder.submit(new Runnable() {
+            @Override
+            public void run() {
+                decode(clip);
+            }
+        });
+    }
+
+    private static void decode(Clip clip) {
+        FileHandle file = Gdx.files.internal(clip.path);
+        byte[] data = file.readBytes();
+        clip.fileBytes = data.length;
+        AudioFormatInfo.measure(clip, data);
+
+        clip.streamed = clip.pcmBytes > STREAM_THRESHOLD_BYTES;
+        if (!clip.streamed) {
+            long start = System.nanoTime();
+            clip.sound = Gdx.audio.newSound(file);
+            clip.decodeNanos = System.nanoTime() - start;
+            ResourceTracker.track(clip.sound, "AudioAssets", clip.path, clip.pcmBytes, true);
+        }
+    }
+
+    // 요청한 클립이 모두 준비될 때까지 대기 + 클립별 결과 로그
+    public void finishLoading() {
+        long resident = 0;
+        for (Clip clip : loadOrder) {
+            if (clip.pending == null) continue;
+            try {
+                clip.pending.get();
+            } catch (Exception e) {
+                Gdx.app.error("Audio", "Could not load " + clip.path, e);
+            }
+            clip.pending = null;
+
+            // 스트리밍 클립은 파일만 열어 두므로 렌더 스레드에서 생성
+            if (clip.streamed && clip.music == null) {
+                clip.music = Gdx.audio.newMusic(Gdx.files.internal(clip.path));
+                ResourceTracker.track(clip.music, "AudioAssets", clip.path, 0L, true);
+            }
+
+            if (clip.streamed) {
+                Gdx.app.log("Audio", String.format("%s: streamed (%.1f KB file, %.1f KB PCM, %.1f s)",
+                    clip.path, clip.fileBytes / 1024f, clip.pcmBytes / 1024f, clip.durationSeconds));
+            } else if (clip.sound != null) {
+                resident += clip.pcmBytes;
+                Gdx.app.log("Audio", String.format("%s: %.1f KB file -> %.1f KB PCM (%.1f s), decoded in %.1f ms",
+                    clip.path, clip.fileBytes / 1024f, clip.pcmBytes / 1024f, clip.durationSeconds,
+                    clip.decodeNanos / 1e6f));
+            }
+        }
+        Gdx.app.log("Audio", String.format("%d clips, %.1f KB of resident PCM", loadOrder.size(), resident / 1024f));
+    }
+
+    // 짧은 효과음 (스트리밍 클립이거나 로드 실패면 null). 동시 재생 제한이 적용됨
+    public Sound getSound(String path) {
+        Clip clip = clips.get(path);
+        if (clip == null || clip.sound == null) return null;
+        if (clip.limited == null) {
+            clip.limited = new LimitedSound(this, clip);
+        }
+        return clip.limited;
+    }
+
+    public void setVoiceCap(int voiceCap) {
+        this.voiceCap = voiceCap;
+    }
+
+    public int getVoiceCap() { return voiceCap; }
+    public int getDroppedVoices() { return droppedVoices; }
+
+    // 렌더 스레드: 다른 스레드에서 요청된 효과음 재생 (매 프레임)
+    public void update() {
+        PendingPlay play;
+        while ((play = pendingPlays.poll()) != null) {
+            if (acquireVoice(play.clip)) {
+                play.clip.sound.play(play.volume, play.pitch, play.pan);
+            }
+        }
+    }
+
+    long playLimited(Clip clip, float volume, float pitch, float pan) {
+        if (Thread.currentThread() != renderThread) {
+            pendingPlays.add(new PendingPlay(clip, volume, pitch, pan));
+            return 0;
+        }
+        return acquireVoice(clip) ? clip.sound.play(volume, pitch, pan) : -1;
+    }
+
+    // 재생 자리 확보 (제한에 걸리면 false)
+    boolean acquireVoice(Clip clip) {
+        if (voiceCap <= 0) return true;
+
+        long now = System.nanoTime();
+        int active = 0;
+        int free = -1;
+        for (int i = 0; i < MAX_TRACKED_VOICES; i++) {
+            if (voiceEnds[i] > now) {
+                active++;
+            } else if (free < 0) {
+                free = i;
+            }
+        }
+        if (active >= voiceCap || free < 0) {
+            droppedVoices++;
+            return false;
+        }
+        voiceEnds[free] = now + (long)(clip.durationSeconds * 1e9f);
+        return true;
+    }
+
+    public Clip getClip(String path) {
+        return clips.get(path);
+    }
+
+    // 효과음이든 스트리밍 클립이든 처음부터 재생
+    public void play(String path, float volume) {
+        Clip clip = clips.get(path);
+        if (clip == null) return;
+        if (clip.sound != null) {
+            clip.sound.play(volume);
+        } else if (clip.music != null) {
+            clip.music.stop();
+            clip.music.setVolume(volume);
+            clip.music.play();
+        }
+    }
+
+    public void stop(String path) {
+        Clip clip = clips.get(path);
+        if (clip == null) return;
+        if (clip.sound != null) {
+            clip.sound.stop();
+        } else if (clip.music != null) {
+            clip.music.stop();
+        }
+    }
+
+    // 재생 요청만 제한(과 스레드 전달)하고 나머지는 원래 Sound 로 넘김
+    private static class LimitedSound implements Sound {
+        private final AudioAssets owner;
+        private final Clip clip;
+
+        LimitedSound(AudioAssets owner, Clip clip) {
+            this.owner = owner;
+            this.clip = clip;
+        }
+
+        @Override
+        public long play() {
+            return owner.playLimited(clip, 1f, 1f, 0f);
+        }
+
+        @Override
+        public long play(float volume) {
+            return owner.playLimited(clip, volume, 1f, 0f);
+        }
+
+        @Override
+        public long play(float volume, float pitch, float pan) {
+            return owner.playLimited(clip, volume, pitch, pan);
+        }
+
+        @Override
+        public long loop() { return clip.sound.loop(); }
+        @Override
+        public long loop(float volume) { return clip.sound.loop(volume); }
+        @Override
+        public long loop(float volume, float pitch, float pan) { return clip.sound.loop(volume, pitch, pan); }
+        @Override
+        public void stop() { clip.sound.stop(); }
+        @Override
+        public void pause() { clip.sound.pause(); }
+        @Override
+        public void resume() { clip.sound.resume(); }
+        @Override
+        public void stop(long soundId) { clip.sound.stop(soundId); }
+        @Override
+        public void pause(long soundId) { clip.sound.pause(soundId); }
+        @Override
+        public void resume(long soundId) { clip.sound.resume(soundId); }
+        @Override
+        public void setLooping(long soundId, boolean looping) { clip.sound.setLooping(soundId, looping); }
+        @Override
+        public void setPitch(long soundId, float pitch) { clip.sound.setPitch(soundId, pitch); }
+        @Override
+        public void setVolume(long soundId, float volume) { clip.sound.setVolume(soundId, volume); }
+        @Override
+        public void setPan(long soundId, float pan, float volume) { clip.sound.setPan(soundId, pan, volume); }
+
+        // 원본은 AudioAssets.dispose 에서 해제
+        @Override
+        public void dispose() {
+        }
+    }
+
+    public void dispose() {
+        decoder.shutdownNow();
+        for (Clip clip : loadOrder) {
+            if (clip.sound != null) {
+                ResourceTracker.release(clip.sound);
+                clip.sound.dispose();
+            }
+            if (clip.music != null) {
+                ResourceTracker.release(clip.music);
+                clip.music.dispose();
+            }
+        }
+        clips.clear();
+        loadOrder.clear();
+    }
+}
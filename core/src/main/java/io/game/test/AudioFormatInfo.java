@@ -0,0 +1,108 @@
+package io.game.test;
+
+// 오디오 파일 헤더에서 디코딩 후 PCM 크기와 길이 계산 (디코딩 없이)
+// WAV: fmt/data 청크, MP3: 프레임 헤더를 따라가며 샘플 수 합산. libGDX 는 둘 다 16bit PCM 으로 올린다.
+public class AudioFormatInfo {
+    private static final int[] MPEG1_LAYER3_KBPS = { 0, 32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320 };
+    private static final int[] MPEG2_LAYER3_KBPS = { 0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160 };
+    private static final int[][] SAMPLE_RATES = {
+        { 11025, 12000, 8000 },   // MPEG 2.5
+        null,
+        { 22050, 24000, 16000 },  // MPEG 2
+        { 44100, 48000, 32000 }   // MPEG 1
+    };
+
+    private AudioFormatInfo() {
+    }
+
+    public static void measure(AudioAssets.Clip clip, byte[] data) {
+        String path = clip.path.toLowerCase();
+        if (path.endsWith(".wav")) {
+            measureWav(clip, data);
+        } else if (path.endsWith(".mp3")) {
+            measureMp3(clip, data);
+        }
+    }
+
+    private static void measureWav(AudioAssets.Clip clip, byte[] data) {
+        int channels = 0;
+        int sampleRate = 0;
+        int bitsPerSample = 0;
+        int offset = 12; // "RIFF" size "WAVE"
+        while (offset + 8 <= data.length) {
+            int chunkSize = readIntLE(data, offset + 4);
+            if (matches(data, offset, "fmt ")) {
+                channels = readShortLE(data, offset + 10);
+                sampleRate = readIntLE(data, offset + 12);
+                bitsPerSample = readShortLE(data, offset + 22);
+            } else if (matches(data, offset, "data")) {
+                long pcmBytes = Math.min(chunkSize & 0xFFFFFFFFL, data.length - offset - 8);
+                // 8bit 도 16bit 로 변환되어 올라감
+                clip.pcmBytes = bitsPerSample == 8 ? pcmBytes * 2 : pcmBytes;
+                if (channels > 0 && sampleRate > 0) {
+                    clip.durationSeconds = (float)clip.pcmBytes / (channels * 2 * sampleRate);
+                }
+                return;
+            }
+            offset += 8 + chunkSize + (chunkSize & 1);
+        }
+    }
+
+    private static void measureMp3(AudioAssets.Clip clip, byte[] data) {
+        int offset = 0;
+        // ID3v2 태그 건너뛰기
+        if (data.length > 10 && matches(data, 0, "ID3")) {
+            int size = ((data[6] & 0x7F) << 21) | ((data[7] & 0x7F) << 14) | ((data[8] & 0x7F) << 7) | (data[9] & 0x7F);
+            offset = 10 + size + ((data[5] & 0x10) != 0 ? 10 : 0);
+        }
+
+        long samples = 0;
+        int channels = 0;
+        int sampleRate = 0;
+        while (offset + 4 <= data.length) {
+            int b1 = data[offset + 1] & 0xFF;
+            int b2 = data[offset + 2] & 0xFF;
+            int version = (b1 >> 3) & 3;
+            int layer = (b1 >> 1) & 3;
+            int bitrateIndex = b2 >> 4;
+            int rateIndex = (b2 >> 2) & 3;
+            if ((data[offset] & 0xFF) != 0xFF || (b1 & 0xE0) != 0xE0 || version == 1 || layer != 1 ||
+                bitrateIndex == 0 || bitrateIndex == 15 || rateIndex == 3) {
+                offset++;
+                continue;
+            }
+
+            boolean mpeg1 = version == 3;
+            int kbps = mpeg1 ? MPEG1_LAYER3_KBPS[bitrateIndex] : MPEG2_LAYER3_KBPS[bitrateIndex];
+            sampleRate = SAMPLE_RATES[version][rateIndex];
+            int padding = (b2 >> 1) & 1;
+            int frameLength = (mpeg1 ? 144 : 72) * kbps * 1000 / sampleRate + padding;
+            channels = ((data[offset + 3] & 0xFF) >> 6) == 3 ? 1 : 2;
+
+            samples += mpeg1 ? 1152 : 576;
+            offset += frameLength;
+        }
+
+        if (sampleRate > 0) {
+            clip.pcmBytes = samples * channels * 2;
+            clip.durationSeconds = (float)samples / sampleRate;
+        }
+    }
+
+    private static boolean matches(byte[] data, int offset, String tag) {
+        if (offset + tag.length() > data.length) return false;
+        for (int i = 0; i < tag.length(); i++) {
+            if (data[offset + i] != tag.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private static int readIntLE(byte[] data, int offset) {
+        return (data[offset] & 0xFF) | (data[offset + 1] & 0xFF) << 8 |
+            (data[offset + 2] & 0xFF) << 16 | (data[offset + 3] & 0xFF) << 24;
+    }
+
+    private static int readShortLE(byte[] data, int offset) {
+        return (data[offset] & 0xFF) | (data[offset + 1] & 0xFF) << 8;
+    }
+}
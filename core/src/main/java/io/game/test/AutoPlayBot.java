@@ -0,0 +1,143 @@
+package io.game.test;
+
+import java.util.ArrayList;
+
+// 자동 플레이 봇 (소크 테스트용)
+// 사람과 같은 Player.addImpulse 플릭만 사용하고, 쿨타임 중에는 아무것도 하지 않는다.
+// 플릭할 수 있을 때 현재 상태를 스냅샷으로 떠서 별도의 헤드리스 시뮬레이션에 복원한 뒤,
+// 후보 플릭마다 몇 초 앞까지 돌려 보고 가장 오래/안전하게 버틴 것을 고른다.
+// 스냅샷 버퍼와 엔티티 객체를 재사용하므로 포크 비용은 복원 한 번 정도다.
+public class AutoPlayBot implements GameSession.Controller {
+    // 후보 플릭 (방향 x 세기). 세기는 드래그 거리 * 8 기준 (Main.handleInput)
+    private static final int DIRECTIONS = 12;
+    private static final float[] STRENGTHS = { 350f, 800f };
+
+    private final GameSimulation scratch;
+    private final StateSnapshot root = new StateSnapshot();
+    private final int horizonTicks;
+    private final int decisionInterval;
+
+    private final float[] candidateX;
+    private final float[] candidateY;
+
+    // 측정값
+    private final LatencyHistogram decisionTime = new LatencyHistogram();
+    private long decisions;
+    private long flicks;
+    private long rolloutTicks;
+
+    public AutoPlayBot() {
+        this(GameSimulation.createHeadless(0, 0L), 90, 4);
+    }
+
+    // scratch: 미리보기 전용 헤드리스 시뮬레이션 (레벨 파라미터를 바꿨다면 같은 값으로 맞춰서 넘길 것)
+    // horizonTicks: 후보마다 앞으로 돌려 볼 틱 수, decisionInterval: 판단 간격 (틱)
+    public AutoPlayBot(GameSimulation scratch, int horizonTicks, int decisionInterval) {
+        this.scratch = scratch;
+        scratch.setRecordEvents(false);
+        this.horizonTicks = horizonTicks;
+        this.decisionInterval = decisionInterval;
+
+        // 0번 후보는 "플릭 안 함"
+        int count = 1 + DIRECTIONS * STRENGTHS.length;
+        candidateX = new float[count];
+        candidateY = new float[count];
+        int index = 1;
+        for (float strength : STRENGTHS) {
+            for (int i = 0; i < DIRECTIONS; i++) {
+                double angle = Math.PI * 2 * i / DIRECTIONS;
+                candidateX[index] = (float)Math.cos(angle) * strength;
+                candidateY[index] = (float)Math.sin(angle) * strength;
+                index++;
+            }
+        }
+    }
+
+    @Override
+    public void control(GameSimulation simulation) {
+        Player player = simulation.getLevelManager().getPlayer();
+        if (player == null || !player.isFlickReady()) return;
+        if (simulation.getOutcome() != GameSimulation.Outcome.NONE) return;
+        if (simulation.getTick() % decisionInterval != 0) return;
+
+        Object phase = GameEvents.beginPhase();
+        long start = System.nanoTime();
+        root.save(simulation);
+
+        int best = 0;
+        float bestScore = rollout(0f, 0f);
+        for (int i = 1; i < candidateX.length; i++) {
+            float score = rollout(candidateX[i], candidateY[i]);
+            if (score > bestScore) {
+                bestScore = score;
+                best = i;
+            }
+        }
+
+        // 플릭 안 하는 것과 비슷하면 쿨타임을 아껴 둠
+        if (best != 0) {
+            simulation.applyImpulse(candidateX[best], candidateY[best]);
+            flicks++;
+        }
+        decisions++;
+        decisionTime.record(System.nanoTime() - start);
+        GameEvents.endPhase(phase, "BotDecision");
+    }
+
+    // 후보 하나를 앞으로 돌려서 점수 계산
+    // 살아남은 틱 수가 우선이고, 같으면 끝 시점에 탄환/벽에서 떨어진 정도로 비교
+    private float rollout(float ix, float iy) {
+        root.restore(scratch);
+        if (ix != 0f || iy != 0f) {
+            scratch.applyImpulse(ix, iy);
+        }
+
+        int survived = 0;
+        for (; survived < horizonTicks; survived++) {
+            scratch.step();
+            GameSimulation.Outcome outcome = scratch.getOutcome();
+            if (outcome == GameSimulation.Outcome.GAME_OVER) break;
+            if (outcome != GameSimulation.Outcome.NONE) {
+                // 레벨 클리어까지 버티면 최고 점수
+                rolloutTicks += survived + 1;
+                return horizonTicks * 2f;
+            }
+        }
+        rolloutTicks += survived;
+        return survived + clearance(scratch) / 1000f;
+    }
+
+    // 플레이어와 가장 가까운 탄환/벽 사이 거리 (최대 1000)
+    private static float clearance(GameSimulation simulation) {
+        LevelManager levelManager = simulation.getLevelManager();
+        Player player = levelManager.getPlayer();
+        float px = player.getX();
+        float py = player.getY();
+
+        float nearest = Math.min(Math.min(px, simulation.getWorld().getWidth() - px),
+            Math.min(py, simulation.getWorld().getHeight() - py)) * 2f;
+        float nearestSquared = nearest * nearest;
+        ArrayList<Bullet> bullets = levelManager.getBullets();
+        for (int i = 0; i < bullets.size(); i++) {
+            Bullet bullet = bullets.get(i);
+            float dx = bullet.getX() - px;
+            float dy = bullet.getY() - py;
+            float distanceSquared = dx * dx + dy * dy;
+            if (distanceSquared < nearestSquared) {
+                nearestSquared = distanceSquared;
+            }
+        }
+        return Math.min((float)Math.sqrt(nearestSquared), 1000f);
+    }
+
+    // Getters
+    public LatencyHistogram getDecisionTime() { return decisionTime; }
+    public long getDecisions() { return decisions; }
+    public long getFlicks() { return flicks; }
+    public long getRolloutTicks() { return rolloutTicks; }
+
+    // 미리보기 시뮬레이션 정리
+    public void dispose() {
+        scratch.getLevelManager().dispose();
+    }
+}
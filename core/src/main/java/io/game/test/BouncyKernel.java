@@ -0,0 +1,51 @@
+package io.game.test;
+
+import com.badlogic.gdx.audio.Sound;
+
+// 튕기는 블록: 사각형, 플레이어를 법선으로 반사시키며 가속하고 탄환을 막음
+public class BouncyKernel extends ObstacleKernel {
+    private static final float BOUNCE_STRENGTH = 1.5f;
+    private static final float SOUND_VOLUME = 0.6f;
+
+    @Override
+    public void collidePlayer(Player player) {
+        float pr = player.getRadius();
+        for (int i = 0; i < count; i++) {
+            if (!Collision.circleVsAabb(player.getX(), player.getY(), pr,
+                x[i], y[i], halfWidth[i], halfHeight[i], contact)) {
+                continue;
+            }
+            // 중심이 블록 안에 들어가면 방향을 알 수 없어서 그대로 둠
+            if (contact.distance <= 0) continue;
+
+            float nx = contact.nx;
+            float ny = contact.ny;
+            float pvx = player.getVx();
+            float pvy = player.getVy();
+
+            player.setX(player.getX() + nx * contact.depth);
+            player.setY(player.getY() + ny * contact.depth);
+
+            float dotProduct = pvx * nx + pvy * ny;
+            player.setVx((pvx - 2 * dotProduct * nx) * BOUNCE_STRENGTH);
+            player.setVy((pvy - 2 * dotProduct * ny) * BOUNCE_STRENGTH);
+
+            Sound sound = obstacles[i].getBounceSound();
+            if (sound != null) {
+                sound.play(SOUND_VOLUME);
+            }
+            if (particles != null) {
+                particles.emit(ParticleSystem.Emitter.BOUNCE, player.getX() - nx * pr, player.getY() - ny * pr, nx, ny);
+            }
+        }
+    }
+
+    @Override
+    public int markBulletHits(float[] xs, float[] ys, float[] rs, int bulletCount, boolean[] hits) {
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            found += Collision.circlesVsAabb(xs, ys, rs, bulletCount, x[i], y[i], halfWidth[i], halfHeight[i], hits);
+        }
+        return found;
+    }
+}
@@ -4,10 +4,16 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.Color;
+import java.nio.ByteBuffer;
 
 public class Bullet {
+    public static final String TEXTURE_PATH = "spike.png";
+    public static final float RADIUS = 8f;
+    public static final int LIFETIME_TICKS = 5 * GameSimulation.TICKS_PER_SECOND;   // 5초 (GameSimulation 의 타이밍 휠이 만료시킴)
+
     private Sprite sprite;
     private Texture texture;
+    private int id;             // LevelManager 가 부여하는 고유 번호
     private float x, y;
     private float vx, vy;
     private float radius;
@@ -15,48 +21,50 @@ public class Bullet {
 
     // 시각 효과
     private Color color;
-    private float lifetime;
-    private float age;
+
+    // 만료 틱 (GameSimulation 이 등록할 때 정함, -1 = 미등록)
+    private int expireTick = -1;
+
+    // 생성/해제 짝 확인 (ResourceTracker)
+    private static final ResourceTracker.Counter TRACKED = ResourceTracker.counter("Bullet");
+    private boolean disposed;
 
     public Bullet(String texturePath, float x, float y, float vx, float vy, float radius) {
+        TRACKED.acquire();
         this.x = x;
         this.y = y;
         this.vx = vx;
         this.vy = vy;
         this.radius = radius;
         this.active = true;
-        this.lifetime = 5f;
-        this.age = 0f;
-
-        // 텍스처 로드
-        texture = new Texture(texturePath);
-        sprite = new Sprite(texture);
-
-        // 스프라이트 설정
-        float size = radius * 2f;
-        sprite.setSize(size, size);
-        sprite.setOriginCenter();
 
         // 기본 색상
         color = new Color(1f, 1f, 1f, 1f);
-        sprite.setColor(color);
+
+        // 텍스처 로드 (헤드리스면 null)
+        if (texturePath != null) {
+            texture = TextureAssets.get(texturePath, radius * 2f, radius * 2f);
+            sprite = new Sprite(texture);
+
+            // 스프라이트 설정
+            float size = radius * 2f;
+            sprite.setSize(size, size);
+            sprite.setOriginCenter();
+            sprite.setColor(color);
+        }
     }
 
     // 색상 설정
     public void setColor(Color color) {
         this.color = color;
-        sprite.setColor(color);
+        if (sprite != null) {
+            sprite.setColor(color);
+        }
     }
 
     public void update(float dt, Player player, GameWorld world) {
         if (!active) return;
 
-        age += dt;
-        if (age > lifetime) {
-            active = false;
-            return;
-        }
-
         // 위치 업데이트
         x += vx * dt;
         y += vy * dt;
@@ -68,12 +76,14 @@ public class Bullet {
         }
 
         // 각도 변경
-        float angle = (float)Math.toDegrees(Math.atan2(vy, vx));
-        sprite.setRotation(angle);
+        if (sprite != null) {
+            float angle = (float)Math.toDegrees(Math.atan2(vy, vx));
+            sprite.setRotation(angle);
+        }
     }
 
     public void render(SpriteBatch batch) {
-        if (!active) return;
+        if (!active || sprite == null) return;
 
         sprite.setPosition(x - radius, y - radius);
         sprite.draw(batch);
@@ -83,15 +93,47 @@ public class Bullet {
     public boolean checkCollision(Player player) {
         if (!active) return false;
 
-        float dx = x - player.getX();
-        float dy = y - player.getY();
-        float distance = (float)Math.sqrt(dx * dx + dy * dy);
+        return Collision.circleOverlap(x, y, radius, player.getX(), player.getY(), player.getRadius());
+    }
 
-        return distance < (radius + player.getRadius());
+    // 스냅샷 저장 / 복원
+    public void writeState(ByteBuffer buffer) {
+        buffer.putInt(id);
+        buffer.putFloat(x).putFloat(y);
+        buffer.putFloat(vx).putFloat(vy);
+        buffer.putFloat(radius);
+        buffer.put((byte)(active ? 1 : 0));
+        buffer.putFloat(color.r).putFloat(color.g).putFloat(color.b).putFloat(color.a);
+        buffer.putInt(expireTick);
     }
 
+    public void readState(ByteBuffer buffer) {
+        id = buffer.getInt();
+        x = buffer.getFloat();
+        y = buffer.getFloat();
+        vx = buffer.getFloat();
+        vy = buffer.getFloat();
+        radius = buffer.getFloat();
+        active = buffer.get() != 0;
+        color.set(buffer.getFloat(), buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+        expireTick = buffer.getInt();
+
+        if (sprite != null) {
+            float size = radius * 2f;
+            sprite.setSize(size, size);
+            sprite.setOriginCenter();
+            sprite.setColor(color);
+            sprite.setRotation((float)Math.toDegrees(Math.atan2(vy, vx)));
+        }
+    }
+
+    // 텍스처는 TextureAssets 가 공유/해제하므로 참조만 놓음
     public void dispose() {
-        texture.dispose();
+        if (!disposed) {
+            disposed = true;
+            TRACKED.release();
+        }
+        texture = null;
     }
 
     // Getters
@@ -99,5 +141,12 @@ public class Bullet {
     public void setActive(boolean active) { this.active = active; }
     public float getX() { return x; }
     public float getY() { return y; }
+    public float getVx() { return vx; }
+    public float getVy() { return vy; }
     public float getRadius() { return radius; }
+    public Color getColor() { return color; }
+    public int getId() { return id; }
+    public void setId(int id) { this.id = id; }
+    public int getExpireTick() { return expireTick; }
+    public void setExpireTick(int expireTick) { this.expireTick = expireTick; }
 }
@@ -22,12 +22,18 @@ public class CameraManager {
     // 부드러운 추적
     private float smoothSpeed = 0.1f;
 
-    // 월드 경계
+    // 기본 시야 크기 (줌 1 일 때 보이는 월드 크기)
+    private final float viewWidth;
+    private final float viewHeight;
+
+    // 월드 경계 (레벨이 화면보다 크면 setWorldSize 로 넓힘)
     private float worldWidth;
     private float worldHeight;
 
     public CameraManager(OrthographicCamera camera, float worldWidth, float worldHeight) {
         this.camera = camera;
+        this.viewWidth = worldWidth;
+        this.viewHeight = worldHeight;
         this.worldWidth = worldWidth;
         this.worldHeight = worldHeight;
         this.targetZoom = baseZoom;
@@ -59,8 +65,8 @@ public class CameraManager {
         }
 
         // 플레이어를 부드럽게 추적
-        float effectiveWidth = worldWidth * camera.zoom;
-        float effectiveHeight = worldHeight * camera.zoom;
+        float effectiveWidth = viewWidth * camera.zoom;
+        float effectiveHeight = viewHeight * camera.zoom;
 
         float minX = effectiveWidth / 2f;
         float maxX = worldWidth - effectiveWidth / 2f;
@@ -81,6 +87,11 @@ public class CameraManager {
         camera.update();
     }
 
+    public void setWorldSize(float worldWidth, float worldHeight) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+    }
+
     // 카메라 흔들림
     public void shake(float intensity, float duration) {
         this.shaking = true;
@@ -97,6 +108,7 @@ public class CameraManager {
 
     // Getters
     public float getZoom() { return camera.zoom; }
+    public float getBaseZoom() { return baseZoom; }
     public float getCurrentZoom() { return camera.zoom; }
     public boolean isShaking() { return shaking; }
     public OrthographicCamera getCamera() { return camera; }
@@ -0,0 +1,140 @@
+package io.game.test;
+
+// 충돌 판정 커널
+// 모두 제곱 거리로 비교하고, 실제로 겹쳤을 때만 법선을 구하려고 sqrt 를 한 번 쓴다.
+// 배치 커널은 원시 배열(x, y, r / 사각형 경계)을 받아 한 번에 돌리므로 객체 필드를 하나씩 읽지 않는다.
+// 결과는 Contact 에 담아서 판정과 밀어내기가 같은 계산을 공유한다.
+public final class Collision {
+
+    // 접촉 정보 (재사용)
+    public static class Contact {
+        public boolean hit;
+        public int index = -1;    // 배치 커널에서 맞은 대상 번호
+        public float nx, ny;      // 상대 -> 원 방향 단위 법선
+        public float depth;       // 겹친 깊이 (이만큼 밀어내면 떨어짐)
+        public float distance;    // 원 중심과 가장 가까운 점 사이 거리 (중심이 사각형 안이면 0)
+
+        public void clear() {
+            hit = false;
+            index = -1;
+            nx = 0f;
+            ny = 0f;
+            depth = 0f;
+            distance = 0f;
+        }
+    }
+
+    private Collision() {
+    }
+
+    // 원 - 원 겹침 여부
+    public static boolean circleOverlap(float ax, float ay, float ar, float bx, float by, float br) {
+        float dx = ax - bx;
+        float dy = ay - by;
+        float r = ar + br;
+        return dx * dx + dy * dy < r * r;
+    }
+
+    // 원(a) 이 원(b) 에 겹쳤을 때의 접촉 정보
+    public static boolean circleVsCircle(float ax, float ay, float ar, float bx, float by, float br, Contact out) {
+        float dx = ax - bx;
+        float dy = ay - by;
+        float r = ar + br;
+        float distanceSquared = dx * dx + dy * dy;
+        if (distanceSquared >= r * r) {
+            out.hit = false;
+            return false;
+        }
+        fill(out, dx, dy, distanceSquared, r);
+        return true;
+    }
+
+    // 원이 사각형에 겹쳤을 때의 접촉 정보 (법선은 사각형의 가장 가까운 점 -> 원 중심)
+    public static boolean circleVsAabb(float cx, float cy, float cr,
+                                       float boxX, float boxY, float halfWidth, float halfHeight, Contact out) {
+        float dx = cx - clamp(cx, boxX - halfWidth, boxX + halfWidth);
+        float dy = cy - clamp(cy, boxY - halfHeight, boxY + halfHeight);
+        float distanceSquared = dx * dx + dy * dy;
+        if (distanceSquared >= cr * cr) {
+            out.hit = false;
+            return false;
+        }
+        fill(out, dx, dy, distanceSquared, cr);
+        return true;
+    }
+
+    // 원 하나 vs 원 여러 개: 처음 겹친 대상의 접촉 정보 (없으면 -1)
+    public static int circleVsCircles(float cx, float cy, float cr,
+                                      float[] xs, float[] ys, float[] rs, int count, Contact out) {
+        for (int i = 0; i < count; i++) {
+            float dx = cx - xs[i];
+            float dy = cy - ys[i];
+            float r = cr + rs[i];
+            float distanceSquared = dx * dx + dy * dy;
+            if (distanceSquared < r * r) {
+                fill(out, dx, dy, distanceSquared, r);
+                out.index = i;
+                return i;
+            }
+        }
+        out.hit = false;
+        out.index = -1;
+        return -1;
+    }
+
+    // 원 여러 개 vs 원 하나: 겹친 원의 hits 를 true 로 표시하고 개수 반환 (탄환 vs 기둥)
+    public static int circlesVsCircle(float[] xs, float[] ys, float[] rs, int count,
+                                      float bx, float by, float br, boolean[] hits) {
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            float dx = xs[i] - bx;
+            float dy = ys[i] - by;
+            float r = rs[i] + br;
+            if (dx * dx + dy * dy < r * r) {
+                hits[i] = true;
+                found++;
+            }
+        }
+        return found;
+    }
+
+    // 원 여러 개 vs 사각형 하나: 겹친 원의 hits 를 true 로 표시하고 개수 반환 (탄환 vs 얼음 블록)
+    public static int circlesVsAabb(float[] xs, float[] ys, float[] rs, int count,
+                                    float boxX, float boxY, float halfWidth, float halfHeight, boolean[] hits) {
+        float left = boxX - halfWidth;
+        float right = boxX + halfWidth;
+        float bottom = boxY - halfHeight;
+        float top = boxY + halfHeight;
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            float dx = xs[i] - clamp(xs[i], left, right);
+            float dy = ys[i] - clamp(ys[i], bottom, top);
+            if (dx * dx + dy * dy < rs[i] * rs[i]) {
+                hits[i] = true;
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private static void fill(Contact out, float dx, float dy, float distanceSquared, float radius) {
+        out.hit = true;
+        if (distanceSquared > 0f) {
+            float distance = (float)Math.sqrt(distanceSquared);
+            out.nx = dx / distance;
+            out.ny = dy / distance;
+            out.distance = distance;
+            out.depth = radius - distance;
+        } else {
+            // 중심이 겹치면 방향을 정할 수 없음 (위쪽으로 가정)
+            out.nx = 0f;
+            out.ny = 1f;
+            out.distance = 0f;
+            out.depth = radius;
+        }
+    }
+
+    private static float clamp(float value, float min, float max) {
+        return value < min ? min : (value > max ? max : value);
+    }
+}
@@ -4,9 +4,13 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.Color;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 
 public class Enemy {
+    public static final String TEXTURE_PATH = "doge.png";
+    public static final float PULSE_AMOUNT = 0.15f;     // 맥동 효과 최대 확대 비율
+
     public enum ShootPattern {
         CIRCLE,        // 원형 발사
         AIMED,         // 플레이어 조준
@@ -46,10 +50,26 @@ public class Enemy {
     // 시각 효과
     private Color color;
     private float pulseTime;
+    private float rotation;
+
+    // 탄환 텍스처 (헤드리스면 null)
+    private String bulletTexturePath;
+
+    // 난수 (랜덤 패턴)
+    private GameRandom random;
+
+    // 레벨 데이터의 몇 번째 적인지 (큰 월드에서 칸을 다시 로드할 때 / 스냅샷 복원 때 맞춰 봄)
+    private int dataIndex;
+
+    // 생성/해제 짝 확인 (ResourceTracker)
+    private static final ResourceTracker.Counter TRACKED = ResourceTracker.counter("Enemy");
+    private boolean disposed;
 
     public Enemy(String texturePath, float x, float y, float radius,
                  ShootPattern pattern, float shootCooldown, float bulletSpeed, int bulletsPerShot,
-                 MovementPattern movementPattern, float moveSpeed, float movementRange) {
+                 MovementPattern movementPattern, float moveSpeed, float movementRange,
+                 GameRandom random) {
+        TRACKED.acquire();
         this.x = x;
         this.y = y;
         this.startX = x;
@@ -68,16 +88,20 @@ public class Enemy {
         this.moveSpeed = moveSpeed;
         this.movementRange = movementRange;
         this.movementTime = 0f;
-
-        // 텍스처 로드
-        texture = new Texture(texturePath);
-        sprite = new Sprite(texture);
-
-        // 스프라이트 설정
-        float size = radius * 2f;
-        sprite.setSize(size, size);
-        sprite.setOriginCenter();
-        sprite.setPosition(x - radius, y - radius);
+        this.random = random;
+
+        // 텍스처 로드 (헤드리스면 텍스처와 탄환 텍스처 모두 없음)
+        if (texturePath != null) {
+            texture = TextureAssets.get(texturePath, getTextureSize(radius), getTextureSize(radius));
+            sprite = new Sprite(texture);
+            bulletTexturePath = Bullet.TEXTURE_PATH;
+
+            // 스프라이트 설정
+            float size = radius * 2f;
+            sprite.setSize(size, size);
+            sprite.setOriginCenter();
+            sprite.setPosition(x - radius, y - radius);
+        }
 
     }
 
@@ -89,15 +113,13 @@ public class Enemy {
         // 이동 패턴 적용
         updateMovement(dt);
 
-        // 펄스 효과
-        float pulseFactor = 1f + (float)Math.sin(pulseTime) * 0.15f;
-        sprite.setScale(pulseFactor);
-
         // 회전 효과
-        sprite.rotate(30f * dt);
+        rotation += 30f * dt;
 
-        // 스프라이트 위치 업데이트
-        sprite.setPosition(x - radius, y - radius);
+        if (sprite != null) {
+            // 스프라이트 위치 업데이트 (펄스/회전은 render 에서)
+            sprite.setPosition(x - radius, y - radius);
+        }
     }
 
     private void updateMovement(float dt) {
@@ -168,7 +190,7 @@ public class Enemy {
             float vx = (float)Math.cos(rad) * bulletSpeed;
             float vy = (float)Math.sin(rad) * bulletSpeed;
 
-            Bullet bullet = new Bullet("spike.png", x, y, vx, vy, 8f);
+            Bullet bullet = new Bullet(bulletTexturePath, x, y, vx, vy, Bullet.RADIUS);
             bullet.setColor(new Color(1f, 1f, 1f, 1f));
             bullets.add(bullet);
         }
@@ -190,8 +212,8 @@ public class Enemy {
             float dirX = dx / distance;
             float dirY = dy / distance;
 
-            Bullet bullet = new Bullet("spike.png", x, y,
-                dirX * bulletSpeed, dirY * bulletSpeed, 8f);
+            Bullet bullet = new Bullet(bulletTexturePath, x, y,
+                dirX * bulletSpeed, dirY * bulletSpeed, Bullet.RADIUS);
             bullet.setColor(new Color(1f, 0.2f, 0.8f, 1f));
             bullets.add(bullet);
 
@@ -204,8 +226,8 @@ public class Enemy {
                 float newDirX = dirX * cos - dirY * sin;
                 float newDirY = dirX * sin + dirY * cos;
 
-                Bullet b = new Bullet("spike.png", x, y,
-                    newDirX * bulletSpeed, newDirY * bulletSpeed, 8f);
+                Bullet b = new Bullet(bulletTexturePath, x, y,
+                    newDirX * bulletSpeed, newDirY * bulletSpeed, Bullet.RADIUS);
                 b.setColor(new Color(1f, 0.2f, 0.8f, 1f));
                 bullets.add(b);
             }
@@ -218,13 +240,13 @@ public class Enemy {
         ArrayList<Bullet> bullets = new ArrayList<Bullet>();
 
         for (int i = 0; i < bulletsPerShot; i++) {
-            float angle = (float)(Math.random() * 360f);
+            float angle = random.nextFloat() * 360f;
             float rad = (float)Math.toRadians(angle);
-            float speed = bulletSpeed * (0.7f + (float)Math.random() * 0.6f);
+            float speed = bulletSpeed * (0.7f + random.nextFloat() * 0.6f);
             float vx = (float)Math.cos(rad) * speed;
             float vy = (float)Math.sin(rad) * speed;
 
-            Bullet bullet = new Bullet("spike.png", x, y, vx, vy, 8f);
+            Bullet bullet = new Bullet(bulletTexturePath, x, y, vx, vy, Bullet.RADIUS);
             bullet.setColor(new Color(0.8f, 1f, 0.3f, 1f));
             bullets.add(bullet);
         }
@@ -232,12 +254,62 @@ public class Enemy {
         return bullets;
     }
 
-    public void render(SpriteBatch batch) {
+    // animate: 이번 프레임에 장식 애니메이션 갱신, effects: 펄스/회전 효과 (QualityGovernor 단계)
+    public void render(SpriteBatch batch, boolean animate, boolean effects) {
+        if (sprite == null) return;
+
+        if (animate) {
+            if (effects) {
+                // 펄스 효과
+                float pulseFactor = 1f + (float)Math.sin(pulseTime) * PULSE_AMOUNT;
+                sprite.setScale(pulseFactor);
+                sprite.setRotation(rotation);
+            } else {
+                sprite.setScale(1f);
+            }
+        }
         sprite.draw(batch);
     }
 
+    // 스냅샷 저장 / 복원 (레벨 데이터에서 오는 설정값은 제외)
+    public void writeState(ByteBuffer buffer) {
+        buffer.putFloat(x).putFloat(y);
+        buffer.putFloat(shootTimer);
+        buffer.putFloat(pulseTime);
+        buffer.putFloat(movementTime);
+        buffer.putFloat(patternAngle);
+        buffer.putFloat(rotation);
+    }
+
+    public void readState(ByteBuffer buffer) {
+        x = buffer.getFloat();
+        y = buffer.getFloat();
+        shootTimer = buffer.getFloat();
+        pulseTime = buffer.getFloat();
+        movementTime = buffer.getFloat();
+        patternAngle = buffer.getFloat();
+        rotation = buffer.getFloat();
+
+        if (sprite != null) {
+            float pulseFactor = 1f + (float)Math.sin(pulseTime) * PULSE_AMOUNT;
+            sprite.setScale(pulseFactor);
+            sprite.setRotation(rotation);
+            sprite.setPosition(x - radius, y - radius);
+        }
+    }
+
+    // 텍스처는 TextureAssets 가 공유/해제하므로 참조만 놓음
     public void dispose() {
-        texture.dispose();
+        if (!disposed) {
+            disposed = true;
+            TRACKED.release();
+        }
+        texture = null;
+    }
+
+    // 맥동까지 포함해 화면에 그려지는 최대 크기 (텍스처 축소본 선택용)
+    public static float getTextureSize(float radius) {
+        return radius * 2f * (1f + PULSE_AMOUNT);
     }
 
     // Getters
@@ -245,4 +317,6 @@ public class Enemy {
     public float getY() { return y; }
     public float getRadius() { return radius; }
     public ShootPattern getPattern() { return pattern; }
+    public int getDataIndex() { return dataIndex; }
+    public void setDataIndex(int dataIndex) { this.dataIndex = dataIndex; }
 }
@@ -0,0 +1,137 @@
+package io.game.test;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.InputAdapter;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// 플릭 입력 (InputProcessor)
+// - 프레임마다 justTouched()/isTouched() 를 한 번 읽던 방식은 누른 위치/뗀 위치가 프레임 시점의 샘플이고,
+//   한 프레임 안에 눌렀다 뗀 짧은 플릭은 다음 프레임에야 끝난 것으로 보여서 힘이 0 이 되거나 한 프레임 늦었다.
+// - 여기서는 touchDown/touchUp 이벤트의 위치와 이벤트 시각(getCurrentEventTime)을 그대로 받아
+//   락 없는 큐에 넣는다 (렌더 스레드 -> 시뮬레이션 쪽).
+// - 시뮬레이션 쪽은 틱마다 그 틱의 예정 시각까지 들어온 플릭만 적용한다 (control). 그래서 한 프레임에 여러 틱을
+//   진행하거나 시뮬레이션 스레드가 밀려서 따라잡는 중이어도 플릭이 실제로 뗀 시각 직후의 틱에 들어간다.
+// - 예정 시각은 advance 전에 beginTicks 로 첫 틱 시각을 주면 틱마다 TICK_NANOS 씩 늘어난다.
+public class FlickInput extends InputAdapter implements GameSession.Controller {
+    static final float IMPULSE_SCALE = 8f;
+
+    // 뗀 시각에 적용할 힘 하나
+    static final class Flick {
+        final float ix, iy;
+        final long timeNanos;
+
+        Flick(float ix, float iy, long timeNanos) {
+            this.ix = ix;
+            this.iy = iy;
+            this.timeNanos = timeNanos;
+        }
+    }
+
+    final ConcurrentLinkedQueue<Flick> flicks = new ConcurrentLinkedQueue<Flick>();   // 아직 적용 안 된 플릭 (뗀 순서)
+    private final CameraManager cameraManager;
+    private volatile boolean accepting = true;
+
+    // 렌더 스레드 전용
+    private boolean dragging;
+    private float startX, startY;
+
+    // 시뮬레이션 쪽 전용
+    private GameSession.Controller next;
+    private long tickNanos;
+    private long ticks;     // control 로 진행한 누적 틱 수 (InputLatency 가 반영된 상태를 찾는 번호)
+    private final InputLatency latency = new InputLatency();
+    private final LatencyHistogram delay = new LatencyHistogram();   // 뗀 시각 -> 적용한 틱의 예정 시각
+
+    public FlickInput(CameraManager cameraManager) {
+        this.cameraManager = cameraManager;
+    }
+
+    // 플릭을 받을지 (RUNNING 일 때만). 끄면 아직 적용 안 된 플릭도 버림
+    public void setAccepting(boolean accepting) {
+        this.accepting = accepting;
+        if (!accepting) {
+            dragging = false;
+            flicks.clear();
+        }
+    }
+
+    // 틱마다 입력을 넣는 다음 controller (봇)
+    public void setNext(GameSession.Controller next) {
+        this.next = next;
+    }
+
+    @Override
+    public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+        if (pointer != 0) return false;
+        press(screenX, screenY, eventTime());
+        return true;
+    }
+
+    @Override
+    public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+        if (pointer != 0) return false;
+        release(screenX, screenY, eventTime());
+        return true;
+    }
+
+    @Override
+    public boolean touchCancelled(int screenX, int screenY, int pointer, int button) {
+        if (pointer != 0) return false;
+        dragging = false;
+        return true;
+    }
+
+    // 이벤트 시각 (백엔드가 주지 않으면 지금). 미래 시각은 지금으로 자름
+    private static long eventTime() {
+        long now = System.nanoTime();
+        long time = Gdx.input != null ? Gdx.input.getCurrentEventTime() : 0L;
+        return time > 0L && time <= now ? time : now;
+    }
+
+    void press(float x, float y, long timeNanos) {
+        dragging = accepting;
+        startX = x;
+        startY = y;
+    }
+
+    void release(float x, float y, long timeNanos) {
+        if (!dragging) return;
+        dragging = false;
+        if (!accepting) return;
+        float zoom = cameraManager != null ? cameraManager.getCurrentZoom() : 1f;
+        flicks.add(new Flick((startX - x) * IMPULSE_SCALE / zoom, (y - startY) * IMPULSE_SCALE / zoom, timeNanos));
+    }
+
+    // 시뮬레이션 쪽: 이번 advance 의 첫 틱 예정 시각
+    public void beginTicks(long firstTickNanos) {
+        tickNanos = firstTickNanos;
+    }
+
+    // advance 의 controller: 이 틱의 예정 시각까지 뗀 플릭을 적용하고 다음 controller 로
+    @Override
+    public void control(GameSimulation simulation) {
+        applyDue(simulation, tickNanos);
+        tickNanos += SimulationThread.TICK_NANOS;
+        ticks++;
+        if (next != null) {
+            next.control(simulation);
+        }
+    }
+
+    void applyDue(GameSimulation simulation, long tickNanos) {
+        Flick flick;
+        while ((flick = flicks.peek()) != null && flick.timeNanos <= tickNanos) {
+            flicks.poll();
+            simulation.applyImpulse(flick.ix, flick.iy);
+            delay.record(tickNanos - flick.timeNanos);
+            latency.applied(flick.timeNanos, ticks);
+        }
+    }
+
+    public int getPending() { return flicks.size(); }
+    public InputLatency getLatency() { return latency; }
+
+    // 시뮬레이션 쪽에서만 읽을 것 (종료 후에는 어디서든)
+    public LatencyHistogram getDelay() { return delay; }
+}
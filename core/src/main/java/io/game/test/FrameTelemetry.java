@@ -0,0 +1,221 @@
+package io.game.test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// 프레임별 지표를 파일로 (오프라인 성능 분석용, -Dgame.telemetryFile=경로 일 때만)
+// - 렌더 스레드는 record() 로 미리 할당된 링 버퍼(열마다 배열 하나)에 값만 쓰고 바로 돌아간다.
+//   버퍼가 가득 차면 기다리지 않고 그 프레임을 버린다 (버린 수는 getDropped()).
+// - 백그라운드 스레드가 모인 만큼을 묶어 열 단위 블록으로 기록한다. 쓰기 버퍼도 미리 할당하므로
+//   몇 시간을 돌려도 메모리는 링 크기만큼만 쓴다.
+// - GC 횟수는 MXBean 목록을 훑어야 해서 기록 스레드가 블록마다 한 번 읽는다 (블록 안 행은 같은 값, 최대 0.5초 단위).
+// 파일: 헤더 [MAGIC, VERSION, 열 수, (형식, 이름) x 열 수] 다음에
+//       블록 [BLOCK_MAGIC, 행 수, 첫 프레임 번호, 열0 값들, 열1 값들, ...] 이 이어진다. 읽기는 TelemetryReader.
+// 생산자(렌더 스레드) 하나, 소비자(기록 스레드) 하나.
+public class FrameTelemetry implements Runnable {
+    static final int MAGIC = 0x32444654;        // "2DFT"
+    static final int BLOCK_MAGIC = 0x424c4b31;  // "BLK1"
+    static final int VERSION = 1;
+    static final byte LONG = 0;
+    static final byte INT = 1;
+    static final byte FLOAT = 2;
+
+    // 열 (순서가 곧 파일 안의 순서)
+    static final String[] COLUMN_NAMES = {
+        "time_ns", "dt_ms", "sim_ticks", "bullets", "obstacles", "draw_calls", "gc_count",
+        "update_us", "draw_us", "frame_us"
+    };
+    static final byte[] COLUMN_TYPES = {
+        LONG, FLOAT, INT, INT, INT, INT, INT,
+        INT, INT, INT
+    };
+    private static final int ROW_BYTES = 8 + 4 * 9;
+
+    private static final int DEFAULT_CAPACITY = 4096;            // 약 68초 분량 (60fps)
+    private static final long FLUSH_INTERVAL_NANOS = 500000000L;
+
+    private final int capacity;
+    private final int mask;
+    private final long[] time;
+    private final float[] dt;
+    private final int[] simTicks;
+    private final int[] bullets;
+    private final int[] obstacles;
+    private final int[] drawCalls;
+    private final int[] updateMicros;
+    private final int[] drawMicros;
+    private final int[] frameMicros;
+
+    private final AtomicLong published = new AtomicLong();   // 렌더 스레드가 쓴 프레임 수
+    private final AtomicLong flushed = new AtomicLong();     // 기록 스레드가 내려쓴 프레임 수
+    private long dropped;                                     // 렌더 스레드 전용
+
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();   // 기록 스레드 전용
+    private final long startNanos = System.nanoTime();
+
+    private final File file;
+    private final FileOutputStream output;
+    private final FileChannel channel;
+    private final ByteBuffer block;
+    private volatile boolean running;
+    private Thread thread;
+
+    public FrameTelemetry(File file) throws IOException {
+        this(file, DEFAULT_CAPACITY);
+    }
+
+    public FrameTelemetry(File file, int capacity) throws IOException {
+        this.capacity = Integer.highestOneBit(Math.max(64, capacity));
+        this.mask = this.capacity - 1;
+        time = new long[this.capacity];
+        dt = new float[this.capacity];
+        simTicks = new int[this.capacity];
+        bullets = new int[this.capacity];
+        obstacles = new int[this.capacity];
+        drawCalls = new int[this.capacity];
+        updateMicros = new int[this.capacity];
+        drawMicros = new int[this.capacity];
+        frameMicros = new int[this.capacity];
+
+        this.file = file;
+        output = new FileOutputStream(file);
+        channel = output.getChannel();
+        block = ByteBuffer.allocateDirect(16 + this.capacity * ROW_BYTES);
+        writeHeader();
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(1024);
+        header.putInt(MAGIC).putInt(VERSION).putInt(COLUMN_NAMES.length);
+        for (int i = 0; i < COLUMN_NAMES.length; i++) {
+            byte[] name = COLUMN_NAMES[i].getBytes(StandardCharsets.UTF_8);
+            header.put(COLUMN_TYPES[i]).putShort((short)name.length).put(name);
+        }
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+    }
+
+    public void start() {
+        running = true;
+        thread = new Thread(this, "telemetry-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // 남은 것을 모두 내려쓰고 닫음
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+        try {
+            flush();
+            channel.force(false);
+            output.close();
+        } catch (IOException e) {
+            // 종료 중 기록 실패는 무시
+        }
+    }
+
+    // 렌더 스레드: 프레임 하나 (시간은 나노초로 받아 마이크로초로 저장)
+    public void record(long frameStartNanos, float dtSeconds, int ticks, int bulletCount, int obstacleCount,
+                       int renderCalls, long updateNanos, long drawNanos, long frameNanos) {
+        long row = published.get();
+        if (row - flushed.get() >= capacity) {
+            dropped++;
+            return;
+        }
+        int i = (int)(row & mask);
+        time[i] = frameStartNanos - startNanos;
+        dt[i] = dtSeconds * 1000f;
+        simTicks[i] = ticks;
+        bullets[i] = bulletCount;
+        obstacles[i] = obstacleCount;
+        drawCalls[i] = renderCalls;
+        updateMicros[i] = (int)(updateNanos / 1000L);
+        drawMicros[i] = (int)(drawNanos / 1000L);
+        frameMicros[i] = (int)(frameNanos / 1000L);
+        // 배열을 다 쓴 뒤에 공개
+        published.lazySet(row + 1);
+
+        // 반 이상 차면 기록 스레드를 깨움
+        if (row + 1 - flushed.get() == capacity / 2 && thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private int collectionCount() {
+        long count = 0;
+        for (int i = 0; i < collectors.size(); i++) {
+            long collections = collectors.get(i).getCollectionCount();
+            if (collections > 0) count += collections;
+        }
+        return (int)count;
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            LockSupport.parkNanos(FLUSH_INTERVAL_NANOS);
+            try {
+                flush();
+            } catch (IOException e) {
+                running = false;
+            }
+        }
+    }
+
+    // 기록 스레드 (종료 후에는 stop 을 부른 스레드): 모인 프레임을 블록 하나로
+    private synchronized void flush() throws IOException {
+        long from = flushed.get();
+        long to = published.get();
+        int rows = (int)(to - from);
+        if (rows <= 0) return;
+
+        block.clear();
+        block.putInt(BLOCK_MAGIC).putInt(rows).putLong(from);
+        for (long row = from; row < to; row++) block.putLong(time[(int)(row & mask)]);
+        for (long row = from; row < to; row++) block.putFloat(dt[(int)(row & mask)]);
+        putColumn(simTicks, from, to);
+        putColumn(bullets, from, to);
+        putColumn(obstacles, from, to);
+        putColumn(drawCalls, from, to);
+        int collections = collectionCount();
+        for (long row = from; row < to; row++) block.putInt(collections);
+        putColumn(updateMicros, from, to);
+        putColumn(drawMicros, from, to);
+        putColumn(frameMicros, from, to);
+        block.flip();
+        while (block.hasRemaining()) {
+            channel.write(block);
+        }
+        flushed.lazySet(to);
+    }
+
+    private void putColumn(int[] column, long from, long to) {
+        for (long row = from; row < to; row++) {
+            block.putInt(column[(int)(row & mask)]);
+        }
+    }
+
+    public long getDropped() { return dropped; }
+    public long getRecorded() { return published.get(); }
+    public File getFile() { return file; }
+}
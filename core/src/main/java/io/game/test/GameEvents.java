@@ -0,0 +1,92 @@
+package io.game.test;
+
+import com.badlogic.gdx.graphics.Texture;
+
+// 게임 이벤트 기록 (JFR)
+// jdk.jfr 가 있는 JVM (JDK 11+, 8u262+) 에서만 JfrEvents 로 넘기고, 없으면 아무것도 하지 않는다.
+// 녹화 중이 아니면 이벤트 객체 생성 + 활성 여부 확인 정도의 비용이라 항상 켜 둔다.
+// begin 계열은 토큰을 돌려주고, end 계열에 그대로 넘긴다 (비활성이면 null).
+public final class GameEvents {
+    private static final boolean ENABLED = detectJfr();
+
+    // 텍스처 로드 누적 (레벨 로드 이벤트에서 차이로 사용, 렌더 스레드 전용)
+    private static int texturesLoaded;
+    private static long textureBytes;
+
+    private GameEvents() {
+    }
+
+    private static boolean detectJfr() {
+        if (Boolean.getBoolean("game.noJfrEvents")) {
+            return false;
+        }
+        try {
+            Class.forName("jdk.jfr.Event");
+            return true;
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    // 프레임 (Main.render 전체)
+    public static Object beginFrame() {
+        return ENABLED ? JfrEvents.beginFrame() : null;
+    }
+
+    public static void endFrame(Object token, int simTicks, int bullets, int obstacles, int enemies) {
+        if (token != null) {
+            JfrEvents.endFrame(token, simTicks, bullets, obstacles, enemies);
+        }
+    }
+
+    // 레벨 로드 (LevelManager.loadCurrentLevel)
+    public static Object beginLevelLoad() {
+        return ENABLED ? JfrEvents.beginLevelLoad() : null;
+    }
+
+    public static void endLevelLoad(Object token, int level, int texturesBefore, long textureBytesBefore) {
+        if (token != null) {
+            JfrEvents.endLevelLoad(token, level, texturesLoaded - texturesBefore,
+                textureBytes - textureBytesBefore);
+        }
+    }
+
+    // 적 한 번 발사
+    public static void enemyVolley(Enemy.ShootPattern pattern, int count) {
+        if (ENABLED) {
+            JfrEvents.enemyVolley(pattern.name(), count);
+        }
+    }
+
+    // 동적 장애물 생성
+    public static void obstacleSpawn(Obstacle obstacle) {
+        if (ENABLED) {
+            JfrEvents.obstacleSpawn(obstacle.getType().name(), obstacle.getX(), obstacle.getY(),
+                obstacle.getLifetime());
+        }
+    }
+
+    // 할당이 몰리는 구간 (스냅샷 저장/복원, 봇 미리보기, 관전 인코딩). 이름은 "CheckpointSave" 형식
+    public static Object beginPhase() {
+        return ENABLED ? JfrEvents.beginPhase() : null;
+    }
+
+    public static void endPhase(Object token, String name) {
+        if (token != null) {
+            JfrEvents.endPhase(token, name);
+        }
+    }
+
+    // 텍스처 로드 기록 (RGBA8888 기준 크기)
+    public static void textureLoaded(Texture texture) {
+        texturesLoaded++;
+        textureBytes += (long)texture.getWidth() * texture.getHeight() * 4;
+    }
+
+    public static int getTexturesLoaded() { return texturesLoaded; }
+    public static long getTextureBytes() { return textureBytes; }
+}
@@ -0,0 +1,32 @@
+package io.game.test;
+
+// 시뮬레이션 전용 난수 생성기 (SplitMix64)
+// java.util.Random 과 달리 내부 상태를 꺼내고 되돌릴 수 있어서 스냅샷에 포함시킬 수 있다.
+public class GameRandom {
+    private long state;
+
+    public GameRandom(long seed) {
+        this.state = seed;
+    }
+
+    public long nextLong() {
+        long z = (state += 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // [0, 1) 범위의 float
+    public float nextFloat() {
+        return (nextLong() >>> 40) * 0x1.0p-24f;
+    }
+
+    // [0, bound) 범위의 int
+    public int nextInt(int bound) {
+        return (int)((nextLong() >>> 33) % bound);
+    }
+
+    // 상태 저장 / 복원
+    public long getState() { return state; }
+    public void setState(long state) { this.state = state; }
+}
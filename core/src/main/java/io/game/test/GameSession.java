@@ -0,0 +1,69 @@
+package io.game.test;
+
+// 헤드리스 게임 세션 하나
+// 레벨 하나를 계속 반복한다. 죽거나 깨면 레벨 시작 스냅샷으로 되돌리고 새 시드로 이어간다.
+public class GameSession {
+
+    // 틱마다 입력을 넣는 쪽 (봇, 리플레이 등)
+    public interface Controller {
+        void control(GameSimulation simulation);
+    }
+
+    private final int id;
+    private final GameSimulation simulation;
+    private final StateSnapshot levelStart = new StateSnapshot();
+    private final GameRandom seeds;
+    private Controller controller;
+
+    // 측정값
+    private final LatencyHistogram tickTime = new LatencyHistogram();  // 틱 계산 시간
+    private final LatencyHistogram lateness = new LatencyHistogram();  // 예정 시각보다 늦게 시작한 정도
+    private long ticks;
+    private int deaths;
+    private int clears;
+
+    public GameSession(int id, int levelIndex, long seed) {
+        this.id = id;
+        this.seeds = new GameRandom(seed);
+        this.simulation = GameSimulation.createHeadless(levelIndex, seeds.nextLong());
+        levelStart.save(simulation);
+    }
+
+    public void setController(Controller controller) {
+        this.controller = controller;
+    }
+
+    // 한 틱 실행. scheduledNanos 는 이 틱이 시작했어야 할 System.nanoTime() 값
+    public void tick(long scheduledNanos) {
+        long start = System.nanoTime();
+        lateness.record(start - scheduledNanos);
+
+        if (controller != null) {
+            controller.control(simulation);
+        }
+        simulation.step();
+
+        GameSimulation.Outcome outcome = simulation.getOutcome();
+        if (outcome != GameSimulation.Outcome.NONE) {
+            if (outcome == GameSimulation.Outcome.GAME_OVER) {
+                deaths++;
+            } else {
+                clears++;
+            }
+            levelStart.restore(simulation);
+            simulation.getLevelManager().setSeed(seeds.nextLong());
+        }
+
+        ticks++;
+        tickTime.record(System.nanoTime() - start);
+    }
+
+    // Getters
+    public int getId() { return id; }
+    public GameSimulation getSimulation() { return simulation; }
+    public LatencyHistogram getTickTime() { return tickTime; }
+    public LatencyHistogram getLateness() { return lateness; }
+    public long getTicks() { return ticks; }
+    public int getDeaths() { return deaths; }
+    public int getClears() { return clears; }
+}
@@ -0,0 +1,408 @@
+package io.game.test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+// 게임플레이 시뮬레이션 (고정 틱)
+// Main.render 에 있던 갱신 로직을 옮긴 것. Gdx 호출이나 텍스처 없이도 돌아가기 때문에
+// 창 모드, 헤드리스 세션 서버, 봇이 모두 같은 코드로 게임을 진행한다.
+public class GameSimulation {
+    public static final float WORLD_WIDTH = 1280;
+    public static final float WORLD_HEIGHT = 720;
+
+    // 고정 틱 (60Hz)
+    public static final int TICKS_PER_SECOND = 60;
+    public static final float TICK_DT = 1f / TICKS_PER_SECOND;
+
+    public enum Outcome { NONE, GAME_OVER, LEVEL_COMPLETE, GAME_COMPLETE }
+
+    // 틱마다 호출 (관전 스트림 등)
+    public interface Listener {
+        void onTick(GameSimulation simulation);
+    }
+
+    private final LevelManager levelManager;
+    private final GameWorld world;
+
+    // 탄환 충돌 검사용 좌표 배열 (틱마다 재사용)
+    private float[] bulletX = new float[64];
+    private float[] bulletY = new float[64];
+    private float[] bulletR = new float[64];
+    private boolean[] bulletBlocked = new boolean[64];
+
+    // 장애물 종류별 커널 (ObstacleType 순서). 틱마다 종류끼리 다시 모음
+    private final ObstacleKernel[] obstacleKernels = createObstacleKernels();
+    private final Collision.Contact bulletContact = new Collision.Contact();
+
+    // 탄환/장애물 수명 (틱 기준 타이밍 휠, 만료되는 것만 처리)
+    static final int TIMER_BULLET_EXPIRE = 0;
+    static final int TIMER_OBSTACLE_DYING = 1;
+    static final int TIMER_OBSTACLE_EXPIRE = 2;
+    private final TimingWheel timers = new TimingWheel();
+    private final TimingWheel.Handler timerHandler = new TimingWheel.Handler() {
+        @Override
+        public void onTimer(Object target, int kind, int id) {
+            handleTimer(target, kind, id);
+        }
+    };
+    private Listener listener;
+    private ParticleSystem particles;       // 충돌/게임 오버 파티클 (그리는 쪽이 있을 때만)
+    private boolean recordEvents = true;   // 봇의 미리보기처럼 실제가 아닌 진행은 JFR 이벤트를 남기지 않음
+
+    private int tick;
+    private long levelSeed;     // 레벨을 로드하기 직전의 난수 상태 (같은 값이면 같은 탄막)
+    private float accumulator;
+    private Outcome outcome = Outcome.NONE;
+
+    public GameSimulation(LevelManager levelManager, GameWorld world) {
+        this.levelManager = levelManager;
+        this.world = world;
+    }
+
+    // 텍스처/사운드 없는 시뮬레이션 생성
+    public static GameSimulation createHeadless(int levelIndex, long seed) {
+        GameWorld world = new GameWorld(WORLD_WIDTH, WORLD_HEIGHT);
+        world.setHeadless(true);
+        LevelManager levelManager = new LevelManager(WORLD_WIDTH, WORLD_HEIGHT, true);
+        levelManager.setSeed(seed);
+        levelManager.setCurrentLevelIndex(levelIndex);
+
+        GameSimulation simulation = new GameSimulation(levelManager, world);
+        simulation.loadCurrentLevel();
+        return simulation;
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    // 탄환이 막힐 때, 구름에 튕길 때, 게임 오버 때 파티클 방출 (시뮬레이션 스레드에서 불러도 됨)
+    public void setParticles(ParticleSystem particles) {
+        this.particles = particles;
+        for (ObstacleKernel kernel : obstacleKernels) {
+            kernel.setParticles(particles);
+        }
+    }
+
+    public void setRecordEvents(boolean recordEvents) {
+        this.recordEvents = recordEvents;
+    }
+
+    // 레벨 로드 + 물리 설정 + 틱 초기화
+    public void loadCurrentLevel() {
+        levelSeed = levelManager.getRandom().getState();
+        levelManager.loadCurrentLevel();
+        Level currentLevel = levelManager.getCurrentLevel();
+        world.setSize(levelManager.getWorldWidth(), levelManager.getWorldHeight());
+        world.setPhysics(currentLevel.getDragK(), currentLevel.getMaxSpeed());
+        tick = 0;
+        accumulator = 0f;
+        outcome = Outcome.NONE;
+
+        timers.reset(tick - 1);
+        for (Obstacle obstacle : levelManager.getObstacles()) {
+            obstacle.scheduleLifetime(tick);
+            scheduleObstacle(obstacle);
+        }
+    }
+
+    public void nextLevel() {
+        levelManager.nextLevel();
+        loadCurrentLevel();
+    }
+
+    public void resetToFirstLevel() {
+        levelManager.resetToFirstLevel();
+        loadCurrentLevel();
+    }
+
+    // 프레임 시간만큼 고정 틱 진행, 실행한 틱 수 반환
+    // 레벨이 끝나거나 게임 오버가 되면 그 틱에서 멈춘다.
+    public int advance(float frameDt) {
+        return advance(frameDt, null);
+    }
+
+    // controller 가 있으면 매 틱 직전에 입력을 넣게 함 (봇)
+    public int advance(float frameDt, GameSession.Controller controller) {
+        accumulator += frameDt;
+        int ticks = 0;
+        while (accumulator >= TICK_DT && outcome == Outcome.NONE) {
+            accumulator -= TICK_DT;
+            if (controller != null) {
+                controller.control(this);
+            }
+            step();
+            ticks++;
+        }
+        return ticks;
+    }
+
+    // 한 틱 진행
+    public void step() {
+        if (outcome != Outcome.NONE) return;
+
+        float dt = TICK_DT;
+
+        // 타이머 업데이트
+        levelManager.updateSurvivalTimer(dt);
+
+        Level currentLevel = levelManager.getCurrentLevel();
+        Player player = levelManager.getPlayer();
+        ArrayList<Enemy> enemies = levelManager.getEnemies();
+        ArrayList<Obstacle> obstacles = levelManager.getObstacles();
+        ArrayList<Bullet> bullets = levelManager.getBullets();
+
+        // 생존 시간 체크
+        if (levelManager.getSurvivalTimer() >= currentLevel.getSurvivalTime()) {
+            outcome = levelManager.isLastLevel() ? Outcome.GAME_COMPLETE : Outcome.LEVEL_COMPLETE;
+        }
+
+        // 플레이어 업데이트
+        world.updatePlayer(player, dt);
+
+        // 큰 월드: 플레이어 주변 칸 로드/해제 (새로 만든 장애물은 목록 끝)
+        int loaded = levelManager.updateChunks();
+        for (int i = obstacles.size() - loaded; i < obstacles.size(); i++) {
+            Obstacle obstacle = obstacles.get(i);
+            obstacle.scheduleLifetime(tick);
+            scheduleObstacle(obstacle);
+        }
+
+        // 이번 틱에 수명이 끝나는 탄환/장애물 처리
+        timers.advance(tick, timerHandler);
+
+        // 장애물 업데이트
+        for (Obstacle obstacle : obstacles) {
+            obstacle.update(dt);
+        }
+
+        // 동적 장애물 생성
+        if (currentLevel.isObstacleSpawnEnabled()) {
+            levelManager.updateObstacleSpawnTimer(dt);
+
+            if (levelManager.getObstacleSpawnTimer() >= currentLevel.getObstacleSpawnInterval() &&
+                obstacles.size() < currentLevel.getMaxObstacles()) {
+
+                levelManager.resetObstacleSpawnTimer();
+
+                WorldChunks chunks = levelManager.getChunks();
+                Obstacle obstacle = chunks == null ?
+                    world.spawnRandomObstacle(player, currentLevel.getObstacleLifetime(), levelManager.getRandom()) :
+                    world.spawnRandomObstacle(player, currentLevel.getObstacleLifetime(), levelManager.getRandom(),
+                        chunks.getActiveLeft(), chunks.getActiveBottom(), chunks.getActiveRight(), chunks.getActiveTop());
+                levelManager.addObstacle(obstacle);
+                obstacle.scheduleLifetime(tick);
+                scheduleObstacle(obstacle);
+                if (recordEvents) {
+                    GameEvents.obstacleSpawn(obstacle);
+                }
+            }
+        }
+
+        // 장애물 충돌 처리 (종류별로 모아서 커널마다 한 번)
+        gatherObstacles(obstacles);
+        for (ObstacleKernel kernel : obstacleKernels) {
+            kernel.collidePlayer(player);
+        }
+
+        // 적 업데이트 및 탄환 발사 (큰 월드에서 화면 주변 밖의 적은 멈춰 둠)
+        for (Enemy enemy : enemies) {
+            if (!levelManager.isActive(enemy)) continue;
+            enemy.update(dt);
+
+            ArrayList<Bullet> newBullets = enemy.tryShoot(player);
+            if (newBullets != null) {
+                levelManager.addBullets(newBullets);
+                for (Bullet bullet : newBullets) {
+                    bullet.setExpireTick(tick + Bullet.LIFETIME_TICKS);
+                    timers.schedule(bullet.getExpireTick(), bullet, TIMER_BULLET_EXPIRE, bullet.getId());
+                }
+                if (recordEvents) {
+                    GameEvents.enemyVolley(enemy.getPattern(), newBullets.size());
+                }
+            }
+        }
+
+        // 탄환 업데이트 (수명이 다했거나 화면 밖이면 제거)
+        int count = 0;
+        for (int i = 0; i < bullets.size(); i++) {
+            Bullet bullet = bullets.get(i);
+            bullet.update(dt, player, world);
+            if (bullet.isActive()) {
+                bullets.set(count++, bullet);
+            } else {
+                bullet.dispose();
+            }
+        }
+        trimBullets(bullets, count);
+
+        // 탄환 좌표를 배열로 모아서 장애물마다 한 번에 검사
+        ensureBulletCapacity(count);
+        for (int i = 0; i < count; i++) {
+            Bullet bullet = bullets.get(i);
+            bulletX[i] = bullet.getX();
+            bulletY[i] = bullet.getY();
+            bulletR[i] = bullet.getRadius();
+            bulletBlocked[i] = false;
+        }
+        int blocked = 0;
+        for (ObstacleKernel kernel : obstacleKernels) {
+            blocked += kernel.markBulletHits(bulletX, bulletY, bulletR, count, bulletBlocked);
+        }
+
+        // 장애물에 막힌 탄환 제거 (좌표 배열도 같이 당김)
+        if (blocked > 0) {
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                Bullet bullet = bullets.get(i);
+                if (bulletBlocked[i]) {
+                    if (particles != null) {
+                        particles.emit(ParticleSystem.Emitter.IMPACT, bulletX[i], bulletY[i],
+                            -bullet.getVx(), -bullet.getVy());
+                    }
+                    bullet.setActive(false);
+                    bullet.dispose();
+                    continue;
+                }
+                bullets.set(kept, bullet);
+                bulletX[kept] = bulletX[i];
+                bulletY[kept] = bulletY[i];
+                bulletR[kept] = bulletR[i];
+                kept++;
+            }
+            trimBullets(bullets, kept);
+            count = kept;
+        }
+
+        // 플레이어와 충돌 체크
+        if (Collision.circleVsCircles(player.getX(), player.getY(), player.getRadius(),
+            bulletX, bulletY, bulletR, count, bulletContact) >= 0) {
+            outcome = Outcome.GAME_OVER;
+            if (particles != null) {
+                particles.emit(ParticleSystem.Emitter.DEATH, player.getX(), player.getY(), 0f, 0f);
+            }
+        }
+
+        tick++;
+        if (listener != null) {
+            listener.onTick(this);
+        }
+    }
+
+    private void scheduleObstacle(Obstacle obstacle) {
+        if (obstacle.getExpireTick() < 0) return;
+        if (!obstacle.isDying()) {
+            timers.schedule(obstacle.getDyingTick(), obstacle, TIMER_OBSTACLE_DYING, obstacle.getId());
+        }
+        timers.schedule(obstacle.getExpireTick(), obstacle, TIMER_OBSTACLE_EXPIRE, obstacle.getId());
+    }
+
+    // 타이밍 휠 만료 (이미 사라졌거나 다른 오브젝트로 바뀐 대상은 id 로 걸러냄)
+    private void handleTimer(Object target, int kind, int id) {
+        if (kind == TIMER_BULLET_EXPIRE) {
+            Bullet bullet = (Bullet)target;
+            if (bullet.getId() == id) {
+                // 비활성 탄환은 아래 탄환 갱신에서 제거됨
+                bullet.setActive(false);
+            }
+            return;
+        }
+
+        Obstacle obstacle = (Obstacle)target;
+        if (obstacle.getId() != id) return;
+        if (kind == TIMER_OBSTACLE_DYING) {
+            obstacle.startDying();
+        } else if (levelManager.getObstacles().remove(obstacle)) {
+            obstacle.dispose();
+        }
+    }
+
+    // 스냅샷 복원 뒤 수명 타이머를 상태에서 다시 구성
+    private void rebuildTimers() {
+        timers.reset(tick - 1);
+        for (Bullet bullet : levelManager.getBullets()) {
+            if (bullet.isActive() && bullet.getExpireTick() >= 0) {
+                timers.schedule(bullet.getExpireTick(), bullet, TIMER_BULLET_EXPIRE, bullet.getId());
+            }
+        }
+        for (Obstacle obstacle : levelManager.getObstacles()) {
+            scheduleObstacle(obstacle);
+        }
+    }
+
+    private static ObstacleKernel[] createObstacleKernels() {
+        Obstacle.ObstacleType[] types = Obstacle.ObstacleType.values();
+        ObstacleKernel[] kernels = new ObstacleKernel[types.length];
+        for (int i = 0; i < types.length; i++) {
+            kernels[i] = types[i].newKernel();
+        }
+        return kernels;
+    }
+
+    // 이번 틱 장애물을 종류별 커널에 모음 (목록 순서 유지, 탄환 검사까지 장애물은 바뀌지 않음)
+    private void gatherObstacles(ArrayList<Obstacle> obstacles) {
+        for (ObstacleKernel kernel : obstacleKernels) {
+            kernel.clear();
+        }
+        for (int i = 0; i < obstacles.size(); i++) {
+            Obstacle obstacle = obstacles.get(i);
+            obstacleKernels[obstacle.getType().ordinal()].add(obstacle);
+        }
+    }
+
+    private void ensureBulletCapacity(int count) {
+        if (bulletX.length >= count) return;
+        int capacity = Math.max(count, bulletX.length * 2);
+        bulletX = new float[capacity];
+        bulletY = new float[capacity];
+        bulletR = new float[capacity];
+        bulletBlocked = new boolean[capacity];
+    }
+
+    private static void trimBullets(ArrayList<Bullet> bullets, int size) {
+        if (size < bullets.size()) {
+            bullets.subList(size, bullets.size()).clear();
+        }
+    }
+
+    // 플릭 입력 (쿨타임 중이면 Player 가 무시)
+    public void applyImpulse(float ix, float iy) {
+        Player player = levelManager.getPlayer();
+        if (player != null) {
+            player.addImpulse(ix, iy);
+        }
+    }
+
+    // 스냅샷 저장 / 복원
+    public void writeState(ByteBuffer buffer) {
+        buffer.putInt(tick);
+        buffer.putLong(levelSeed);
+        buffer.putFloat(accumulator);
+        buffer.put((byte)outcome.ordinal());
+        buffer.putFloat(world.getDragK());
+        buffer.putFloat(world.getMaxSpeed());
+        levelManager.writeState(buffer);
+    }
+
+    public void readState(ByteBuffer buffer) {
+        tick = buffer.getInt();
+        levelSeed = buffer.getLong();
+        accumulator = buffer.getFloat();
+        outcome = Outcome.values()[buffer.get()];
+        float dragK = buffer.getFloat();
+        float maxSpeed = buffer.getFloat();
+        world.setPhysics(dragK, maxSpeed);
+        levelManager.readState(buffer);
+        world.setSize(levelManager.getWorldWidth(), levelManager.getWorldHeight());
+        rebuildTimers();
+    }
+
+    // Getters
+    public LevelManager getLevelManager() { return levelManager; }
+    public GameWorld getWorld() { return world; }
+    public int getTick() { return tick; }
+    public long getLevelSeed() { return levelSeed; }
+    public Outcome getOutcome() { return outcome; }
+    public TimingWheel getTimers() { return timers; }
+    public float getAccumulator() { return accumulator; }
+}
@@ -3,9 +3,14 @@ package io.game.test;
 import com.badlogic.gdx.audio.Sound;
 
 public class GameWorld {
-    // 월드 크기
-    private final float width;
-    private final float height;
+    // 동적 장애물 텍스처
+    public static final String SPAWN_BOUNCY_TEXTURE_PATH = "ice.png";
+    public static final String SPAWN_TEXTURE_PATH = "snow.png";
+    public static final float SPAWN_OBSTACLE_SIZE = 70f;
+
+    // 월드 크기 (레벨마다 다를 수 있음, GameSimulation 이 레벨을 로드할 때 맞춤)
+    private float width;
+    private float height;
 
     // 물리 상수
     private float dragK;          // 공기저항 계수
@@ -14,6 +19,9 @@ public class GameWorld {
     // 효과음
     private Sound wallBounceSound;
 
+    // 헤드리스 (텍스처 없는 장애물 생성)
+    private boolean headless = false;
+
     public GameWorld(float width, float height) {
         this.width = width;
         this.height = height;
@@ -23,6 +31,11 @@ public class GameWorld {
         this.maxSpeed = 800f;
     }
 
+    public void setSize(float width, float height) {
+        this.width = width;
+        this.height = height;
+    }
+
     // 레벨별 물리 설정
     public void setPhysics(float dragK, float maxSpeed) {
         this.dragK = dragK;
@@ -34,6 +47,10 @@ public class GameWorld {
         this.wallBounceSound = sound;
     }
 
+    public void setHeadless(boolean headless) {
+        this.headless = headless;
+    }
+
     // 플레이어 물리 업데이트
     public void updatePlayerPhysics(Player player, float dt) {
         // 공기저항 적용
@@ -122,51 +139,60 @@ public class GameWorld {
         player.update(dt);
     }
 
-    // 랜덤 장애물 생성
-    public Obstacle spawnRandomObstacle(Player player, float lifetime) {
+    // 랜덤 장애물 생성 (월드 전체)
+    public Obstacle spawnRandomObstacle(Player player, float lifetime, GameRandom random) {
+        return spawnRandomObstacle(player, lifetime, random, 0f, 0f, width, height);
+    }
+
+    // 랜덤 장애물 생성 (주어진 범위 안, 큰 월드에서는 플레이어 주변)
+    public Obstacle spawnRandomObstacle(Player player, float lifetime, GameRandom random,
+                                        float left, float bottom, float right, float top) {
         Obstacle.ObstacleType[] types = {
             Obstacle.ObstacleType.BOUNCY,
             Obstacle.ObstacleType.SLOW_ZONE
         };
-        Obstacle.ObstacleType type = types[(int)(Math.random() * types.length)];
+        Obstacle.ObstacleType type = types[random.nextInt(types.length)];
 
         // 랜덤 위치
-        float minX = 150f;
-        float maxX = width - 50f;
-        float minY = 300f;
-        float maxY = height - 50f;
+        float minX = left + 150f;
+        float maxX = right - 50f;
+        float minY = bottom + 300f;
+        float maxY = top - 50f;
 
-        float x = minX + (float)Math.random() * (maxX - minX);
-        float y = minY + (float)Math.random() * (maxY - minY);
+        float x = minX + random.nextFloat() * (maxX - minX);
+        float y = minY + random.nextFloat() * (maxY - minY);
 
         // 플레이어와 너무 가까우면 재생성
         float dx = x - player.getX();
         float dy = y - player.getY();
-        float distance = (float)Math.sqrt(dx * dx + dy * dy);
-        if (distance < 200f) {
+        if (dx * dx + dy * dy < 200f * 200f) {
             // 플레이어와 반대편에 생성
-            x = width - x;
-            y = height - y;
+            x = left + right - x;
+            y = bottom + top - y;
         }
 
         // 고정 크기
-        float obstacleWidth = 70;   // 고정 가로 크기
-        float obstacleHeight = 70;   // 고정 세로 크기
+        float obstacleWidth = SPAWN_OBSTACLE_SIZE;   // 고정 가로 크기
+        float obstacleHeight = SPAWN_OBSTACLE_SIZE;   // 고정 세로 크기
 
         // 텍스처 선택
-        String texture = (type == Obstacle.ObstacleType.BOUNCY) ? "ice.png" : "snow.png";
+        String texture = (type == Obstacle.ObstacleType.BOUNCY) ? SPAWN_BOUNCY_TEXTURE_PATH : SPAWN_TEXTURE_PATH;
 
         // 랜덤 이동 속도
-        float moveSpeed = 60f + (float)Math.random() * 80f;  // 60~140
+        float moveSpeed = 60f + random.nextFloat() * 80f;  // 60~140
 
         // 장애물 생성
         Obstacle obstacle = new Obstacle(
-            type, x, y, obstacleWidth, obstacleHeight, texture,
+            type, x, y, obstacleWidth, obstacleHeight, headless ? null : texture,
             true,  // 이동함
             moveSpeed,
             width, height,
-            lifetime  // 생명주기
+            lifetime,  // 생명주기
+            random
         );
+        if (headless) {
+            obstacle.setTexturePath(texture);
+        }
         return obstacle;
     }
 }
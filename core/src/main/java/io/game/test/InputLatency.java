@@ -0,0 +1,72 @@
+package io.game.test;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// 입력 -> 화면 지연 측정
+// - 입력 이벤트 시각을 달고 다니며 세 구간을 잰다:
+//   apply: 이벤트 -> 시뮬레이션이 힘을 적용한 순간 (시뮬레이션 쪽, applied)
+//   draw:  이벤트 -> 그 결과가 담긴 상태를 처음 그린 프레임의 batch.end() (렌더 스레드, drawn)
+//   swap:  이벤트 -> 그 다음 render() 시작 (LWJGL3 는 render() 가 끝나면 버퍼를 교환하고 이벤트를 받은 뒤 다시 부르므로
+//          수직 동기 대기를 포함한 화면 교환 시점에 가까움, frameStarted)
+// - 어느 상태에 결과가 들어 있는지는 틱 번호로 판단한다. FlickInput 이 틱마다 세는 번호에 적용하고,
+//   렌더 스레드는 지금까지 그린 상태의 누적 틱 수(SimulationThread.Frame.totalTicks)가 그 번호를 넘으면 반영된 것으로 본다.
+// - 시뮬레이션 쪽 -> 렌더 스레드는 ConcurrentLinkedQueue. 입력 하나에 객체 하나 (플릭은 드물어서 할당 무시)
+public class InputLatency {
+    // 입력 하나
+    private static final class Sample {
+        final long eventNanos;
+        final long tick;
+
+        Sample(long eventNanos, long tick) {
+            this.eventNanos = eventNanos;
+            this.tick = tick;
+        }
+    }
+
+    private final ConcurrentLinkedQueue<Sample> applied = new ConcurrentLinkedQueue<Sample>();
+    private final ArrayList<Sample> waiting = new ArrayList<Sample>();     // 렌더 스레드: 아직 그리지 않음
+    private final ArrayList<Sample> presented = new ArrayList<Sample>();   // 렌더 스레드: 그렸고 교환 대기
+
+    private final LatencyHistogram toApply = new LatencyHistogram();   // 시뮬레이션 쪽 전용
+    private final LatencyHistogram toDraw = new LatencyHistogram();    // 렌더 스레드 전용
+    private final LatencyHistogram toSwap = new LatencyHistogram();    // 렌더 스레드 전용
+
+    // 시뮬레이션 쪽: tick 번째 틱 직전에 이벤트 결과를 적용함
+    public void applied(long eventNanos, long tick) {
+        toApply.record(System.nanoTime() - eventNanos);
+        applied.add(new Sample(eventNanos, tick));
+    }
+
+    // 렌더 스레드: render() 시작. 지난 프레임에 그린 입력은 이제 화면에 올라감
+    public void frameStarted(long nowNanos) {
+        for (int i = 0; i < presented.size(); i++) {
+            toSwap.record(nowNanos - presented.get(i).eventNanos);
+        }
+        presented.clear();
+    }
+
+    // 렌더 스레드: batch.end() 직후. renderedTicks = 지금 그린 상태까지 진행한 누적 틱 수
+    public void drawn(long renderedTicks, long nowNanos) {
+        Sample sample;
+        while ((sample = applied.poll()) != null) {
+            waiting.add(sample);
+        }
+        for (int i = waiting.size() - 1; i >= 0; i--) {
+            sample = waiting.get(i);
+            if (sample.tick < renderedTicks) {
+                toDraw.record(nowNanos - sample.eventNanos);
+                presented.add(sample);
+                waiting.remove(i);
+            }
+        }
+    }
+
+    // 아직 그리지 않은 입력 수 (렌더 스레드)
+    public int getWaiting() { return waiting.size() + applied.size(); }
+
+    // toApply 는 시뮬레이션 쪽에서만 읽을 것 (종료 후에는 어디서든)
+    public LatencyHistogram getToApply() { return toApply; }
+    public LatencyHistogram getToDraw() { return toDraw; }
+    public LatencyHistogram getToSwap() { return toSwap; }
+}
@@ -0,0 +1,147 @@
+package io.game.test;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// 게임 전용 JFR 이벤트
+// jdk.jfr 가 없는 JVM 에서도 로드되지 않도록 GameEvents 를 통해서만 사용한다.
+// 설정 파일: lwjgl3/jfr/game.jfc
+final class JfrEvents {
+    private JfrEvents() {
+    }
+
+    @Name("io.game.test.Frame")
+    @Label("Frame")
+    @Category({ "2dgame", "Frame" })
+    @StackTrace(false)
+    static class FrameEvent extends Event {
+        @Label("Simulation Ticks")
+        int simTicks;
+        @Label("Live Bullets")
+        int bullets;
+        @Label("Obstacles")
+        int obstacles;
+        @Label("Enemies")
+        int enemies;
+    }
+
+    @Name("io.game.test.LevelLoad")
+    @Label("Level Load")
+    @Category({ "2dgame", "Level" })
+    @StackTrace(false)
+    static class LevelLoadEvent extends Event {
+        @Label("Level")
+        int level;
+        @Label("Textures Loaded")
+        int texturesLoaded;
+        @Label("Texture Bytes")
+        @DataAmount
+        long textureBytes;
+    }
+
+    @Name("io.game.test.EnemyVolley")
+    @Label("Enemy Volley")
+    @Category({ "2dgame", "Spawn" })
+    @StackTrace(false)
+    static class EnemyVolleyEvent extends Event {
+        @Label("Pattern")
+        String pattern;
+        @Label("Bullet Count")
+        int count;
+    }
+
+    @Name("io.game.test.ObstacleSpawn")
+    @Label("Obstacle Spawn")
+    @Category({ "2dgame", "Spawn" })
+    @StackTrace(false)
+    static class ObstacleSpawnEvent extends Event {
+        @Label("Type")
+        String type;
+        @Label("X")
+        float x;
+        @Label("Y")
+        float y;
+        @Label("Lifetime")
+        float lifetime;
+    }
+
+    @Name("io.game.test.Phase")
+    @Label("Phase")
+    @Category({ "2dgame", "Phase" })
+    @StackTrace(false)
+    static class PhaseEvent extends Event {
+        @Label("Name")
+        String name;
+    }
+
+    static Object beginFrame() {
+        FrameEvent event = new FrameEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endFrame(Object token, int simTicks, int bullets, int obstacles, int enemies) {
+        FrameEvent event = (FrameEvent)token;
+        if (event.shouldCommit()) {
+            event.simTicks = simTicks;
+            event.bullets = bullets;
+            event.obstacles = obstacles;
+            event.enemies = enemies;
+            event.commit();
+        }
+    }
+
+    static Object beginLevelLoad() {
+        LevelLoadEvent event = new LevelLoadEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endLevelLoad(Object token, int level, int texturesLoaded, long textureBytes) {
+        LevelLoadEvent event = (LevelLoadEvent)token;
+        if (event.shouldCommit()) {
+            event.level = level;
+            event.texturesLoaded = texturesLoaded;
+            event.textureBytes = textureBytes;
+            event.commit();
+        }
+    }
+
+    static void enemyVolley(String pattern, int count) {
+        EnemyVolleyEvent event = new EnemyVolleyEvent();
+        if (event.shouldCommit()) {
+            event.pattern = pattern;
+            event.count = count;
+            event.commit();
+        }
+    }
+
+    static void obstacleSpawn(String type, float x, float y, float lifetime) {
+        ObstacleSpawnEvent event = new ObstacleSpawnEvent();
+        if (event.shouldCommit()) {
+            event.type = type;
+            event.x = x;
+            event.y = y;
+            event.lifetime = lifetime;
+            event.commit();
+        }
+    }
+
+    static Object beginPhase() {
+        PhaseEvent event = new PhaseEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endPhase(Object token, String name) {
+        PhaseEvent event = (PhaseEvent)token;
+        if (event.shouldCommit()) {
+            event.name = name;
+            event.commit();
+        }
+    }
+}
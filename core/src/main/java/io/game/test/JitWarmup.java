@@ -0,0 +1,77 @@
+package io.game.test;
+
+// 레벨 전환 중 JIT 예열
+// 버리는 헤드리스 시뮬레이션을 정해진 틱 수만큼 돌려서 Enemy.tryShoot, 탄환 루프, 충돌 처리,
+// 스냅샷 저장/복원 같은 핫 코드가 플레이어가 조작을 시작하기 전에 컴파일되게 한다.
+// 실제 게임 상태와 난수는 건드리지 않는다. -Dgame.warmupTicks=N (기본 0 = 끔)
+// 컴파일 결과는 프로세스 전체에 남으므로 레벨마다 한 번만 돈다.
+public class JitWarmup {
+    static final int FLICK_INTERVAL_TICKS = 30;
+
+    private final int ticks;
+    private final boolean[] warmedLevels = new boolean[16];
+
+    // 측정값
+    private long lastNanos;
+    private int lastTicks;
+
+    public JitWarmup(int ticks) {
+        this.ticks = ticks;
+    }
+
+    public JitWarmup() {
+        this(Integer.getInteger("game.warmupTicks", 0));
+    }
+
+    public boolean isEnabled() {
+        return ticks > 0;
+    }
+
+    // 아직 예열하지 않은 레벨이면 예열, 실제로 돌았으면 true
+    public boolean warmUp(int levelIndex) {
+        if (ticks <= 0) return false;
+        if (levelIndex < warmedLevels.length) {
+            if (warmedLevels[levelIndex]) return false;
+            warmedLevels[levelIndex] = true;
+        }
+        run(levelIndex, ticks);
+        return true;
+    }
+
+    // 레벨 하나를 ticks 만큼 진행 (게임 오버/클리어면 다시 로드)
+    public void run(int levelIndex, int ticks) {
+        long start = System.nanoTime();
+        GameSimulation simulation = GameSimulation.createHeadless(levelIndex, start);
+        GameSimulation restored = GameSimulation.createHeadless(levelIndex, 0L);
+        simulation.setRecordEvents(false);
+        restored.setRecordEvents(false);
+        StateSnapshot snapshot = new StateSnapshot();
+        GameRandom random = new GameRandom(start);
+
+        for (int i = 0; i < ticks; i++) {
+            // 플레이어가 움직여야 벽/장애물 충돌 경로도 예열됨
+            if (i % FLICK_INTERVAL_TICKS == 0) {
+                float angle = random.nextFloat() * (float)Math.PI * 2f;
+                float strength = 300f + random.nextFloat() * 500f;
+                simulation.applyImpulse((float)Math.cos(angle) * strength, (float)Math.sin(angle) * strength);
+            }
+            simulation.step();
+
+            // 시뮬레이션 스레드는 매 틱 저장, 렌더 스레드는 매 프레임 복원
+            snapshot.save(simulation);
+            snapshot.restore(restored);
+
+            if (simulation.getOutcome() != GameSimulation.Outcome.NONE) {
+                simulation.loadCurrentLevel();
+            }
+        }
+        restored.getLevelManager().dispose();
+        simulation.getLevelManager().dispose();
+
+        lastNanos = System.nanoTime() - start;
+        lastTicks = ticks;
+    }
+
+    public long getLastNanos() { return lastNanos; }
+    public int getLastTicks() { return lastTicks; }
+}
@@ -0,0 +1,117 @@
+package io.game.test;
+
+// 나노초 단위 지연 시간 히스토그램
+// 2의 거듭제곱 구간마다 32개씩 나눈 로그-선형 버킷 (오차 약 3%). 기록은 할당 없이 O(1).
+// 한 스레드에서만 기록하고, 다 끝난 뒤 다른 스레드에서 읽는 용도.
+public class LatencyHistogram {
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int SUB_MASK = SUB_COUNT - 1;
+
+    private final long[] counts = new long[(64 - SUB_BITS + 1) << SUB_BITS];
+    private long count;
+    private long sum;
+    private double sumSquares;     // 표준편차용 (나노초 제곱이라 double)
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        counts[indexOf(nanos)]++;
+        count++;
+        sum += nanos;
+        sumSquares += (double)nanos * nanos;
+        if (nanos < min) min = nanos;
+        if (nanos > max) max = nanos;
+    }
+
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        sumSquares += other.sumSquares;
+        if (other.count > 0) {
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+    }
+
+    public void reset() {
+        java.util.Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        sumSquares = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    // 백분위 값 (버킷 하한, 0 <= percentile <= 100)
+    public long getPercentile(double percentile) {
+        if (count == 0) return 0;
+        long target = (long)Math.ceil(count * percentile / 100.0);
+        if (target < 1) target = 1;
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(Math.max(valueOf(i), min), max);
+            }
+        }
+        return max;
+    }
+
+    // 임계값을 넘은 기록 수
+    public long countAbove(long nanos) {
+        long above = 0;
+        for (int i = indexOf(nanos) + 1; i < counts.length; i++) {
+            above += counts[i];
+        }
+        return above;
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_COUNT) {
+            return (int)value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BITS;
+        int sub = (int)((value >>> shift) & SUB_MASK);
+        return ((shift + 1) << SUB_BITS) + sub;
+    }
+
+    private static long valueOf(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        int shift = (index >> SUB_BITS) - 1;
+        int sub = index & SUB_MASK;
+        return ((long)(SUB_COUNT + sub)) << shift;
+    }
+
+    // "p50 12us p99 80us max 1.2ms" 형식
+    public String summary() {
+        return String.format("n=%d mean %s p50 %s p99 %s p99.9 %s max %s",
+            count, format(count > 0 ? sum / count : 0), format(getPercentile(50)),
+            format(getPercentile(99)), format(getPercentile(99.9)), format(max));
+    }
+
+    public static String format(long nanos) {
+        if (nanos < 1000L) return nanos + "ns";
+        if (nanos < 1000000L) return String.format("%.1fus", nanos / 1e3);
+        if (nanos < 1000000000L) return String.format("%.2fms", nanos / 1e6);
+        return String.format("%.2fs", nanos / 1e9);
+    }
+
+    // Getters
+    public long getCount() { return count; }
+    public long getMax() { return max; }
+    public long getMin() { return count > 0 ? min : 0; }
+    public double getMean() { return count > 0 ? (double)sum / count : 0; }
+    public double getStdDev() {
+        if (count == 0) return 0;
+        double mean = (double)sum / count;
+        return Math.sqrt(Math.max(0, sumSquares / count - mean * mean));
+    }
+}
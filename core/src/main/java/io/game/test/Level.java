@@ -8,6 +8,11 @@ public class Level {
     private Color backgroundColor;
     private String backgroundImagePath;
 
+    // 월드 크기 (0 = 화면 크기). 화면보다 크면 WorldChunks 로 나눠서 플레이어 주변만 로드
+    private float worldWidth;
+    private float worldHeight;
+    private String[] backgroundTiles;   // 큰 월드의 칸별 배경 (칸 위치에 따라 돌아가며 사용)
+
     // 물리 상수
     private float dragK;
     private float maxSpeed;
@@ -50,6 +55,15 @@ public class Level {
         this.backgroundImagePath = imagePath;
     }
 
+    public void setWorldSize(float width, float height) {
+        this.worldWidth = width;
+        this.worldHeight = height;
+    }
+
+    public void setBackgroundTiles(String... paths) {
+        this.backgroundTiles = paths;
+    }
+
     public void setDragK(float dragK) {
         this.dragK = dragK;
     }
@@ -94,6 +108,9 @@ public class Level {
     public int getLevelNumber() { return levelNumber; }
     public Color getBackgroundColor() { return backgroundColor; }
     public String getBackgroundImagePath() { return backgroundImagePath; }
+    public float getWorldWidth() { return worldWidth; }
+    public float getWorldHeight() { return worldHeight; }
+    public String[] getBackgroundTiles() { return backgroundTiles; }
     public float getDragK() { return dragK; }
     public float getMaxSpeed() { return maxSpeed; }
     public float getFlickCooldown() { return flickCooldown; }
@@ -4,9 +4,17 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.audio.Sound;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 
 public class LevelManager {
+    // pepe_the_ball.png (762px) * 0.05 스케일의 반지름. 헤드리스에서 텍스처 없이 같은 크기를 쓰기 위함
+    private static final String PLAYER_TEXTURE_PATH = "pepe_the_ball.png";
+    private static final float PLAYER_SCALE = 0.05f;
+    public static final float HEADLESS_PLAYER_RADIUS = 762 * PLAYER_SCALE / 2f;
+
     private ArrayList<Level> levels;
     private int currentLevelIndex;
 
@@ -18,25 +26,74 @@ public class LevelManager {
 
     // 배경 관련
     private Color currentBackgroundColor;
-    private Texture currentBackgroundTexture;
+    private Texture currentBackgroundTexture;  // TextureAssets 가 소유, 레벨 배경이 바뀔 때 해제
+    private String currentBackgroundPath;
 
     // 타이머
     private float survivalTimer;
     private float obstacleSpawnTimer;
 
-    // 월드 정보
+    // 난수 (적 랜덤 패턴, 장애물 이동/스폰)
+    private final GameRandom random;
+
+    // 스냅샷 복원에서 빠진 오브젝트 (다음 복원에서 다시 씀). 렌더 스레드가 매 프레임 복원하므로
+    // 칸 경계나 탄환 수가 오르내릴 때마다 생성/해제하지 않도록 모아 둠. 레벨을 다시 로드할 때 해제
+    private final ArrayList<Enemy> enemyPool = new ArrayList<Enemy>();
+    private final ArrayList<Obstacle> obstaclePool = new ArrayList<Obstacle>();
+    private final ArrayList<Bullet> bulletPool = new ArrayList<Bullet>();
+    // 스냅샷에서 읽은 텍스처 경로 (바이트, 문자열)
+    private final ArrayList<byte[]> pathBytes = new ArrayList<byte[]>();
+    private final ArrayList<String> paths = new ArrayList<String>();
+
+    // 탄환/장애물 고유 번호 (스냅샷 복원 후에도 재사용하지 않음)
+    private int nextEntityId = 1;
+
+    // 화면(카메라 기본 시야) 크기와 지금 레벨의 월드 크기 (레벨이 따로 정하지 않으면 화면 크기)
+    private final float screenWidth;
+    private final float screenHeight;
     private float worldWidth;
     private float worldHeight;
 
+    // 화면보다 큰 레벨: 칸 격자 (아니면 null), 칸별 레벨 데이터 번호, 칸별 배경 타일
+    private WorldChunks chunks;
+    private int[][] chunkEnemies;
+    private int[][] chunkObstacles;
+    private String[] tileSet;                  // 해석된 타일 경로 (레벨 로드 때)
+    private boolean[] tileLoaded;              // 칸마다 타일 참조를 잡고 있는지
+    private final HashMap<String, Integer> tileRefs = new HashMap<String, Integer>();
+    private int loadedObstacles;               // 이번 updateChunks 에서 새로 만든 장애물 수
+    private final WorldChunks.Listener chunkListener = new WorldChunks.Listener() {
+        @Override
+        public void onLoad(int chunk) {
+            loadChunk(chunk);
+        }
+
+        @Override
+        public void onUnload(int chunk) {
+            unloadChunk(chunk);
+        }
+    };
+
+    // 헤드리스 (텍스처/배경 없이 시뮬레이션만)
+    private final boolean headless;
+
     // 효과음
     private Sound bounceObstacleSound;
     private Sound slowZoneSound;
 
     public LevelManager(float worldWidth, float worldHeight) {
+        this(worldWidth, worldHeight, false);
+    }
+
+    public LevelManager(float worldWidth, float worldHeight, boolean headless) {
+        this.screenWidth = worldWidth;
+        this.screenHeight = worldHeight;
         this.worldWidth = worldWidth;
         this.worldHeight = worldHeight;
+        this.headless = headless;
         levels = new ArrayList<Level>();
         currentLevelIndex = 0;
+        random = new GameRandom(System.nanoTime());
         createLevels();
     }
 
@@ -231,80 +288,404 @@ public class LevelManager {
         levels.add(level3);
     }
 
+    // 큰 월드 시험용 레벨 (화면 screensWide x screensHigh 개 크기). 칸마다 적 하나, 두 칸에 하나씩 기둥
+    // 위치는 난수 없이 격자로 정하므로 같은 크기면 항상 같은 레벨
+    public Level createTestWorld(int screensWide, int screensHigh) {
+        Level level = new Level(levels.size() + 1);
+        float width = screenWidth * screensWide;
+        float height = screenHeight * screensHigh;
+
+        level.setWorldSize(width, height);
+        level.setBackgroundColor(new Color(1f, 1f, 1f, 1f));
+        level.setBackgroundTiles("level1_background.png", "level2_background.png", "level3_background.png");
+        level.setDragK(1.0f);
+        level.setMaxSpeed(900f);
+        level.setFlickCooldown(0.5f);
+        level.setSurvivalTime(600f);
+        level.setPlayerStart(screenWidth / 2f, 150f);
+        level.setBulletDensity(1.0f);
+
+        Enemy.ShootPattern[] patterns = Enemy.ShootPattern.values();
+        Enemy.MovementPattern[] movements = Enemy.MovementPattern.values();
+        int columns = (int)Math.ceil(width / WorldChunks.CHUNK_SIZE);
+        int rows = (int)Math.ceil(height / WorldChunks.CHUNK_SIZE);
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                float x = Math.min(width - 100f, column * WorldChunks.CHUNK_SIZE + 320f);
+                float y = Math.min(height - 100f, row * WorldChunks.CHUNK_SIZE + 400f);
+                int cell = row * columns + column;
+                level.addEnemy(new Level.EnemyData(
+                    x, y, 35f,
+                    patterns[cell % patterns.length],
+                    2.0f,
+                    200f,
+                    6,
+                    movements[cell % movements.length],
+                    1.0f,
+                    80f
+                ));
+                if (cell % 2 == 0) {
+                    level.addObstacle(new Level.ObstacleData(
+                        Obstacle.ObstacleType.BOUNCY,
+                        x - 160f, y - 200f, 128f, 30f,
+                        "cloud.png"
+                    ));
+                }
+            }
+        }
+        return level;
+    }
+
+    // 레벨 추가 (시험용 월드 등). 번호는 추가한 순서
+    public void addLevel(Level level) {
+        levels.add(level);
+    }
+
     public void loadCurrentLevel() {
+        Object loadEvent = GameEvents.beginLevelLoad();
+        int texturesBefore = GameEvents.getTexturesLoaded();
+        long textureBytesBefore = GameEvents.getTextureBytes();
         Level level = getCurrentLevel();
 
-        // 리소스 정리
+        // 리소스 정리 (그리는 쪽이면 정리 후 남은 레벨 리소스를 누수로 로그)
         cleanupResources();
+        if (!headless) {
+            ResourceTracker.checkLevel("level " + (currentLevelIndex + 1));
+        }
+
+        // 월드 크기 (화면보다 크면 칸으로 나눠서 플레이어 주변만 로드)
+        worldWidth = level.getWorldWidth() > 0f ? level.getWorldWidth() : screenWidth;
+        worldHeight = level.getWorldHeight() > 0f ? level.getWorldHeight() : screenHeight;
+        if (worldWidth > screenWidth || worldHeight > screenHeight) {
+            chunks = new WorldChunks(worldWidth, worldHeight, screenWidth, screenHeight);
+            indexChunks(level);
+        }
 
-        // 배경 설정
+        // 배경 설정 (이전 레벨 배경은 다른 그림이면 해제)
         currentBackgroundColor = level.getBackgroundColor();
+        String previousBackgroundPath = currentBackgroundPath;
         currentBackgroundTexture = loadBackgroundTexture(level);
+        if (previousBackgroundPath != null && !previousBackgroundPath.equals(currentBackgroundPath)) {
+            TextureAssets.unload(previousBackgroundPath);
+        }
 
         // 플레이어 생성
-        player = new Player("pepe_the_ball.png", 0.05f,
-            level.getPlayerStartX(), level.getPlayerStartY());
+        if (headless) {
+            player = new Player(HEADLESS_PLAYER_RADIUS, level.getPlayerStartX(), level.getPlayerStartY());
+        } else {
+            player = new Player(PLAYER_TEXTURE_PATH, PLAYER_SCALE,
+                level.getPlayerStartX(), level.getPlayerStartY());
+        }
         player.setFlickCooldown(level.getFlickCooldown());
 
-        // 적 생성
-        enemies = new ArrayList<Enemy>();
-        for (Level.EnemyData data : level.getEnemies()) {
-            Enemy enemy = new Enemy("doge.png",
-                data.x, data.y, data.radius,
-                data.pattern,
-                data.shootCooldown / level.getBulletDensity(),
-                data.bulletSpeed,
-                data.bulletsPerShot,
-                data.movementPattern,
-                data.moveSpeed,
-                data.movementRange);
-            enemies.add(enemy);
-        }
-        // 장애물 생성
-        obstacles = createObstacles(level);
-
         // 탄환 리스트 초기화
         bullets = new ArrayList<Bullet>();
 
+        // 적/장애물 생성 (큰 월드는 플레이어 주변 칸만)
+        enemies = new ArrayList<Enemy>();
+        if (chunks == null) {
+            for (int i = 0; i < level.getEnemies().size(); i++) {
+                enemies.add(createEnemy(level, i));
+            }
+            obstacles = createObstacles(level);
+        } else {
+            obstacles = new ArrayList<Obstacle>();
+            chunks.update(player.getX(), player.getY(), chunkListener);
+        }
+
         // 타이머 초기화
         survivalTimer = 0f;
         obstacleSpawnTimer = 0f;
+
+        GameEvents.endLevelLoad(loadEvent, level.getLevelNumber(), texturesBefore, textureBytesBefore);
+        if (!headless) {
+            Gdx.app.log("Texture", String.format("Level %d: %.1f KB resident (%.1f KB at source size)",
+                level.getLevelNumber(), TextureAssets.getResidentBytes() / 1024f,
+                TextureAssets.getResidentSourceBytes() / 1024f));
+        }
+    }
+
+    private Enemy createEnemy(Level level, int dataIndex) {
+        Level.EnemyData data = level.getEnemies().get(dataIndex);
+        Enemy enemy = new Enemy(headless ? null : Enemy.TEXTURE_PATH,
+            data.x, data.y, data.radius,
+            data.pattern,
+            data.shootCooldown / level.getBulletDensity(),
+            data.bulletSpeed,
+            data.bulletsPerShot,
+            data.movementPattern,
+            data.moveSpeed,
+            data.movementRange,
+            random);
+        enemy.setDataIndex(dataIndex);
+        return enemy;
     }
 
     private ArrayList<Obstacle> createObstacles(Level level) {
         ArrayList<Obstacle> obstacles = new ArrayList<Obstacle>();
 
         for (Level.ObstacleData data : level.getObstacles()) {
-            Obstacle obstacle;
+            obstacles.add(createObstacle(data.type, data.x, data.y, data.width, data.height, data.radius,
+                data.texturePath, data.isMoving, data.moveSpeed, data.lifetime));
+        }
+        return obstacles;
+    }
 
-            if (data.type == Obstacle.ObstacleType.PILLAR) {
-                obstacle = new Obstacle(data.type, data.x, data.y, data.radius, data.texturePath,
-                    data.isMoving, data.moveSpeed, worldWidth, worldHeight, data.lifetime);
+    private Obstacle createObstacle(Obstacle.ObstacleType type, float x, float y, float width, float height,
+                                    float radius, String texturePath, boolean isMoving, float moveSpeed,
+                                    float lifetime) {
+        Obstacle obstacle;
+        String loadPath = headless ? null : texturePath;
+
+        if (type == Obstacle.ObstacleType.PILLAR) {
+            obstacle = new Obstacle(type, x, y, radius, loadPath,
+                isMoving, moveSpeed, worldWidth, worldHeight, lifetime, random);
+        } else {
+            obstacle = new Obstacle(type, x, y, width, height, loadPath,
+                isMoving, moveSpeed, worldWidth, worldHeight, lifetime, random);
+        }
+        if (headless) {
+            obstacle.setTexturePath(texturePath);
+        }
+
+        obstacle.setId(nextEntityId++);
+        applySounds(obstacle);
+        return obstacle;
+    }
+
+    // 레벨 데이터를 시작 위치가 속한 칸별로 나눔
+    private void indexChunks(Level level) {
+        int count = chunks.getChunkCount();
+        chunkEnemies = new int[count][];
+        chunkObstacles = new int[count][];
+        int[] enemyCounts = new int[count];
+        int[] obstacleCounts = new int[count];
+        for (Level.EnemyData data : level.getEnemies()) {
+            enemyCounts[chunks.chunkAt(data.x, data.y)]++;
+        }
+        for (Level.ObstacleData data : level.getObstacles()) {
+            obstacleCounts[chunks.chunkAt(data.x, data.y)]++;
+        }
+        for (int chunk = 0; chunk < count; chunk++) {
+            chunkEnemies[chunk] = new int[enemyCounts[chunk]];
+            chunkObstacles[chunk] = new int[obstacleCounts[chunk]];
+            enemyCounts[chunk] = 0;
+            obstacleCounts[chunk] = 0;
+        }
+        for (int i = 0; i < level.getEnemies().size(); i++) {
+            Level.EnemyData data = level.getEnemies().get(i);
+            int chunk = chunks.chunkAt(data.x, data.y);
+            chunkEnemies[chunk][enemyCounts[chunk]++] = i;
+        }
+        for (int i = 0; i < level.getObstacles().size(); i++) {
+            Level.ObstacleData data = level.getObstacles().get(i);
+            int chunk = chunks.chunkAt(data.x, data.y);
+            chunkObstacles[chunk][obstacleCounts[chunk]++] = i;
+        }
+
+        // 배경 타일 (칸 위치에 따라 돌아가며, 칸 크기에 맞는 축소본)
+        String[] tiles = level.getBackgroundTiles();
+        tileSet = null;
+        if (!headless && tiles != null && tiles.length > 0) {
+            tileSet = new String[tiles.length];
+            for (int i = 0; i < tiles.length; i++) {
+                tileSet[i] = TextureAssets.resolve(tiles[i], WorldChunks.CHUNK_SIZE, WorldChunks.CHUNK_SIZE);
+            }
+        }
+        tileLoaded = new boolean[count];
+    }
+
+    // 칸 로드: 레벨 데이터로 적/장애물을 만들고 배경 타일 디코딩 요청
+    private void loadChunk(int chunk) {
+        Level level = getCurrentLevel();
+        for (int index : chunkEnemies[chunk]) {
+            enemies.add(createEnemy(level, index));
+        }
+        for (int index : chunkObstacles[chunk]) {
+            Level.ObstacleData data = level.getObstacles().get(index);
+            Obstacle obstacle = createObstacle(data.type, data.x, data.y, data.width, data.height, data.radius,
+                data.texturePath, data.isMoving, data.moveSpeed, data.lifetime);
+            obstacle.setHomeChunk(chunk);
+            obstacles.add(obstacle);
+            loadedObstacles++;
+        }
+        acquireTile(chunk);
+    }
+
+    // 칸 해제: 그 칸에서 만든 적/장애물, 지금 그 칸에 있는 스폰 장애물과 탄환을 정리
+    // 적은 상태를 남기지 않음 (다시 로드되면 레벨 데이터의 처음 상태로)
+    private void unloadChunk(int chunk) {
+        Level level = getCurrentLevel();
+        int kept = 0;
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            Level.EnemyData data = level.getEnemies().get(enemy.getDataIndex());
+            if (chunks.chunkAt(data.x, data.y) == chunk) {
+                enemy.dispose();
+            } else {
+                enemies.set(kept++, enemy);
+            }
+        }
+        trim(enemies, kept);
+
+        kept = 0;
+        for (int i = 0; i < obstacles.size(); i++) {
+            Obstacle obstacle = obstacles.get(i);
+            int home = obstacle.getHomeChunk() >= 0 ? obstacle.getHomeChunk() :
+                chunks.chunkAt(obstacle.getX(), obstacle.getY());
+            if (home == chunk) {
+                obstacle.dispose();
             } else {
-                obstacle = new Obstacle(data.type, data.x, data.y, data.width, data.height, data.texturePath,
-                    data.isMoving, data.moveSpeed, worldWidth, worldHeight, data.lifetime);
+                obstacles.set(kept++, obstacle);
             }
+        }
+        trim(obstacles, kept);
 
-            // 효과음 설정
-            if (data.type == Obstacle.ObstacleType.BOUNCY && bounceObstacleSound != null) {
-                obstacle.setBounceSound(bounceObstacleSound);
-            } else if (data.type == Obstacle.ObstacleType.SLOW_ZONE && slowZoneSound != null) {
-                obstacle.setSlowZoneSound(slowZoneSound);
+        kept = 0;
+        for (int i = 0; i < bullets.size(); i++) {
+            Bullet bullet = bullets.get(i);
+            if (chunks.chunkAt(bullet.getX(), bullet.getY()) == chunk) {
+                bullet.setActive(false);
+                bullet.dispose();
+            } else {
+                bullets.set(kept++, bullet);
             }
-            obstacles.add(obstacle);
         }
-        return obstacles;
+        trim(bullets, kept);
+
+        releaseTile(chunk);
+    }
+
+    private static void trim(ArrayList<?> list, int size) {
+        if (size < list.size()) {
+            list.subList(size, list.size()).clear();
+        }
+    }
+
+    // 틱마다 플레이어를 움직인 뒤 호출. 새로 로드된 장애물 수 반환 (목록 끝에 추가됨, 수명 타이머 등록용)
+    public int updateChunks() {
+        if (chunks == null) return 0;
+        loadedObstacles = 0;
+        chunks.update(player.getX(), player.getY(), chunkListener);
+        return loadedObstacles;
+    }
+
+    // 움직일 적인지 (큰 월드에서 화면 주변 밖의 적은 멈춰 둠)
+    public boolean isActive(Enemy enemy) {
+        return chunks == null || chunks.isActive(enemy.getX(), enemy.getY());
+    }
+
+    // 배경 타일: 경로마다 참조 수를 세서 마지막 칸이 빠질 때 해제 (디코딩은 워커 풀, 업로드는 TextureAssets.update)
+    private String tilePath(int chunk) {
+        if (tileSet == null) return null;
+        int column = chunk % chunks.getColumns();
+        int row = chunk / chunks.getColumns();
+        return tileSet[(column + row * 2) % tileSet.length];
+    }
+
+    private void acquireTile(int chunk) {
+        String path = tilePath(chunk);
+        if (path == null || tileLoaded[chunk]) return;
+        tileLoaded[chunk] = true;
+        Integer refs = tileRefs.get(path);
+        if (refs == null) {
+            TextureAssets.load(path);
+            refs = 0;
+        }
+        tileRefs.put(path, refs + 1);
+    }
+
+    private void releaseTile(int chunk) {
+        String path = tilePath(chunk);
+        if (path == null || !tileLoaded[chunk]) return;
+        tileLoaded[chunk] = false;
+        int refs = tileRefs.get(path) - 1;
+        if (refs > 0) {
+            tileRefs.put(path, refs);
+            return;
+        }
+        tileRefs.remove(path);
+        if (!path.equals(currentBackgroundPath)) {
+            TextureAssets.unload(path);
+        }
+    }
+
+    // 스냅샷 복원 뒤: 로드 범위에 맞게 타일 참조를 다시 맞춤
+    private void syncTiles() {
+        for (int chunk = 0; chunk < tileLoaded.length; chunk++) {
+            if (chunks.isLoaded(chunk)) {
+                acquireTile(chunk);
+            } else {
+                releaseTile(chunk);
+            }
+        }
+    }
+
+    // 칸의 배경 타일 (아직 디코딩 중이면 null, 그동안은 배경색)
+    public Texture getTileTexture(int chunk) {
+        String path = tilePath(chunk);
+        if (path == null || !tileLoaded[chunk] || !TextureAssets.isLoaded(path)) return null;
+        return TextureAssets.get(path);
+    }
+
+    // 효과음 설정
+    private void applySounds(Obstacle obstacle) {
+        if (obstacle.getType() == Obstacle.ObstacleType.BOUNCY && bounceObstacleSound != null) {
+            obstacle.setBounceSound(bounceObstacleSound);
+        } else if (obstacle.getType() == Obstacle.ObstacleType.SLOW_ZONE && slowZoneSound != null) {
+            obstacle.setSlowZoneSound(slowZoneSound);
+        }
     }
 
     private Texture loadBackgroundTexture(Level level) {
         String backgroundPath = level.getBackgroundImagePath();
-        if (backgroundPath != null && !backgroundPath.isEmpty()) {
-            Texture texture = new Texture(Gdx.files.internal(backgroundPath));
-            return texture;
+        if (!headless && backgroundPath != null && !backgroundPath.isEmpty()) {
+            currentBackgroundPath = TextureAssets.resolve(backgroundPath, worldWidth, worldHeight);
+            return TextureAssets.get(currentBackgroundPath);
         }
+        currentBackgroundPath = null;
         return null;
     }
 
+    // 레벨 하나에 필요한 텍스처 경로 (TextureAssets.load 로 미리 디코딩 요청)
+    // 오브젝트 생성자와 같은 크기로 축소본을 고르므로 생성할 때는 이미 올라간 것을 받는다
+    public ArrayList<String> getTexturePaths(int levelIndex) {
+        ArrayList<String> paths = new ArrayList<String>();
+        if (headless) return paths;
+
+        Level level = levels.get(levelIndex);
+        addPath(paths, level.getBackgroundImagePath(),
+            level.getWorldWidth() > 0f ? level.getWorldWidth() : screenWidth,
+            level.getWorldHeight() > 0f ? level.getWorldHeight() : screenHeight);
+        addPath(paths, PLAYER_TEXTURE_PATH, HEADLESS_PLAYER_RADIUS * 2f, HEADLESS_PLAYER_RADIUS * 2f);
+        for (Level.EnemyData data : level.getEnemies()) {
+            float size = Enemy.getTextureSize(data.radius);
+            addPath(paths, Enemy.TEXTURE_PATH, size, size);
+            addPath(paths, Bullet.TEXTURE_PATH, Bullet.RADIUS * 2f, Bullet.RADIUS * 2f);
+        }
+        for (Level.ObstacleData data : level.getObstacles()) {
+            if (data.type == Obstacle.ObstacleType.PILLAR) {
+                addPath(paths, data.texturePath, data.radius * 2f, data.radius * 2f);
+            } else {
+                addPath(paths, data.texturePath, data.width, data.height);
+            }
+        }
+        if (level.isObstacleSpawnEnabled()) {
+            float size = GameWorld.SPAWN_OBSTACLE_SIZE;
+            addPath(paths, GameWorld.SPAWN_BOUNCY_TEXTURE_PATH, size, size);
+            addPath(paths, GameWorld.SPAWN_TEXTURE_PATH, size, size);
+        }
+        return paths;
+    }
+
+    private static void addPath(ArrayList<String> paths, String path, float width, float height) {
+        if (path == null || path.isEmpty()) return;
+        String resolved = TextureAssets.resolve(path, width, height);
+        if (!paths.contains(resolved)) {
+            paths.add(resolved);
+        }
+    }
+
     private void cleanupResources() {
         if (player != null) {
             player.dispose();
@@ -332,16 +713,56 @@ public class LevelManager {
             bullets = null;
         }
 
-        if (currentBackgroundTexture != null) {
-            currentBackgroundTexture.dispose();
-            currentBackgroundTexture = null;
+        for (Enemy enemy : enemyPool) {
+            enemy.dispose();
+        }
+        enemyPool.clear();
+        for (Obstacle obstacle : obstaclePool) {
+            obstacle.dispose();
+        }
+        obstaclePool.clear();
+        for (Bullet bullet : bulletPool) {
+            bullet.dispose();
+        }
+        bulletPool.clear();
+
+        if (chunks != null) {
+            for (int chunk = 0; chunk < tileLoaded.length; chunk++) {
+                releaseTile(chunk);
+            }
+            chunks = null;
+            chunkEnemies = null;
+            chunkObstacles = null;
+            tileSet = null;
+            tileLoaded = null;
         }
+
+        currentBackgroundTexture = null;
     }
 
-    // 효과음 설정
+    // 새 탄환/장애물 추가 (고유 번호 부여)
+    public void addBullets(ArrayList<Bullet> newBullets) {
+        for (Bullet bullet : newBullets) {
+            bullet.setId(nextEntityId++);
+            bullets.add(bullet);
+        }
+    }
+
+    public void addObstacle(Obstacle obstacle) {
+        obstacle.setId(nextEntityId++);
+        applySounds(obstacle);
+        obstacles.add(obstacle);
+    }
+
+    // 효과음 설정 (이미 로드된 장애물에도 적용)
     public void setSounds(Sound bounceObstacleSound, Sound slowZoneSound) {
         this.bounceObstacleSound = bounceObstacleSound;
         this.slowZoneSound = slowZoneSound;
+        if (obstacles != null) {
+            for (Obstacle obstacle : obstacles) {
+                applySounds(obstacle);
+            }
+        }
     }
 
     // 타이머 관리
@@ -365,6 +786,261 @@ public class LevelManager {
         return obstacleSpawnTimer;
     }
 
+    // 스냅샷 저장
+    // 레벨 번호, 타이머, 난수 상태, 플레이어, (큰 월드면) 로드된 칸 범위, 적, 장애물, 탄환 순서로 기록한다.
+    // 적은 레벨 데이터 번호와 함께 기록 (큰 월드에서는 로드된 칸에 따라 목록이 달라짐)
+    // 탄환/장애물 고유 번호는 오브젝트와 함께 기록되고, nextEntityId 는 되돌리지 않는다.
+    public void writeState(ByteBuffer buffer) {
+        buffer.putInt(currentLevelIndex);
+        buffer.putFloat(survivalTimer);
+        buffer.putFloat(obstacleSpawnTimer);
+        buffer.putLong(random.getState());
+
+        player.writeState(buffer);
+
+        buffer.put((byte)(chunks != null ? 1 : 0));
+        if (chunks != null) {
+            chunks.writeState(buffer);
+        }
+
+        buffer.putInt(enemies.size());
+        for (Enemy enemy : enemies) {
+            buffer.putInt(enemy.getDataIndex());
+            enemy.writeState(buffer);
+        }
+
+        buffer.putInt(obstacles.size());
+        for (Obstacle obstacle : obstacles) {
+            // 생성 파라미터
+            buffer.put((byte)obstacle.getType().ordinal());
+            writeString(buffer, obstacle.getTexturePath());
+            buffer.putFloat(obstacle.getWidth()).putFloat(obstacle.getHeight()).putFloat(obstacle.getRadius());
+            buffer.put((byte)(obstacle.canMove() ? 1 : 0));
+            buffer.putFloat(obstacle.getMoveSpeed());
+            buffer.putFloat(obstacle.getLifetime());
+            // 현재 상태
+            obstacle.writeState(buffer);
+        }
+
+        buffer.putInt(bullets.size());
+        for (Bullet bullet : bullets) {
+            bullet.writeState(buffer);
+        }
+    }
+
+    // 스냅샷 복원
+    // 같은 레벨이면 기존 오브젝트(텍스처 포함)를 그대로 재사용하고 값만 덮어쓴다.
+    public void readState(ByteBuffer buffer) {
+        int levelIndex = buffer.getInt();
+        if (levelIndex != currentLevelIndex || player == null) {
+            currentLevelIndex = levelIndex;
+            loadCurrentLevel();
+        }
+        survivalTimer = buffer.getFloat();
+        obstacleSpawnTimer = buffer.getFloat();
+        long randomState = buffer.getLong();
+
+        player.readState(buffer);
+
+        if (buffer.get() != 0) {
+            chunks.readState(buffer);
+            syncTiles();
+        }
+
+        Level level = getCurrentLevel();
+        int enemyCount = buffer.getInt();
+        for (int i = 0; i < enemyCount; i++) {
+            int dataIndex = buffer.getInt();
+            Enemy enemy = i < enemies.size() ? enemies.get(i) : null;
+            if (enemy == null || enemy.getDataIndex() != dataIndex) {
+                // 로드된 칸이 달라서 다른 적이면 뒤쪽이나 풀에서 같은 적을 찾고, 없을 때만 레벨 데이터로 새로 생성
+                Enemy found = takeEnemy(i + 1, dataIndex);
+                if (found == null) {
+                    found = createEnemy(level, dataIndex);
+                }
+                if (enemy != null) {
+                    enemyPool.add(enemy);
+                    enemies.set(i, found);
+                } else {
+                    enemies.add(found);
+                }
+                enemy = found;
+            }
+            enemy.readState(buffer);
+        }
+        while (enemies.size() > enemyCount) {
+            enemyPool.add(enemies.remove(enemies.size() - 1));
+        }
+
+        Obstacle.ObstacleType[] types = Obstacle.ObstacleType.values();
+        int obstacleCount = buffer.getInt();
+        for (int i = 0; i < obstacleCount; i++) {
+            Obstacle.ObstacleType type = types[buffer.get()];
+            String texturePath = readPath(buffer);
+            float width = buffer.getFloat();
+            float height = buffer.getFloat();
+            float radius = buffer.getFloat();
+            boolean isMoving = buffer.get() != 0;
+            float moveSpeed = buffer.getFloat();
+            float lifetime = buffer.getFloat();
+            int id = buffer.getInt(buffer.position());   // Obstacle.writeState 의 첫 값
+
+            Obstacle obstacle = i < obstacles.size() ? obstacles.get(i) : null;
+            if (obstacle == null || obstacle.getId() != id || !sameShape(obstacle, type, texturePath, width,
+                height, radius, isMoving, moveSpeed, lifetime)) {
+                // 앞쪽 장애물이 사라지면 번호가 하나씩 밀리므로 같은 번호를 뒤쪽에서 찾아 당겨 옴.
+                // 없으면 모양이 같은 것을 풀에서, 그것도 없을 때만 새로 생성 (위치/속도는 아래 readState 에서 덮어씀)
+                Obstacle found = takeObstacle(i + 1, id, type, texturePath, width, height, radius,
+                    isMoving, moveSpeed, lifetime);
+                if (found == null) {
+                    found = createObstacle(type, 0f, 0f, width, height, radius,
+                        texturePath, isMoving, moveSpeed, lifetime);
+                }
+                if (obstacle != null) {
+                    obstaclePool.add(obstacle);
+                    obstacles.set(i, found);
+                } else {
+                    obstacles.add(found);
+                }
+                obstacle = found;
+            }
+            obstacle.readState(buffer);
+        }
+        while (obstacles.size() > obstacleCount) {
+            obstaclePool.add(obstacles.remove(obstacles.size() - 1));
+        }
+
+        int bulletCount = buffer.getInt();
+        for (int i = 0; i < bulletCount; i++) {
+            Bullet bullet;
+            if (i < bullets.size()) {
+                bullet = bullets.get(i);
+            } else {
+                if (!bulletPool.isEmpty()) {
+                    bullet = bulletPool.remove(bulletPool.size() - 1);
+                } else {
+                    bullet = new Bullet(headless ? null : Bullet.TEXTURE_PATH, 0f, 0f, 0f, 0f, Bullet.RADIUS);
+                }
+                bullets.add(bullet);
+            }
+            bullet.readState(buffer);
+        }
+        while (bullets.size() > bulletCount) {
+            bulletPool.add(bullets.remove(bullets.size() - 1));
+        }
+
+        // 장애물 생성자가 난수를 소비하므로 난수 상태는 마지막에 복원
+        random.setState(randomState);
+    }
+
+    private static void writeString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putShort((short)-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short)bytes.length);
+        buffer.put(bytes);
+    }
+
+    // 스냅샷의 문자열. 전에 읽은 경로와 바이트가 같으면 그 문자열을 그대로 돌려줌 (매 프레임 복원해도 할당 없음)
+    private String readPath(ByteBuffer buffer) {
+        int length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+        int start = buffer.position();
+        for (int i = 0; i < pathBytes.size(); i++) {
+            byte[] bytes = pathBytes.get(i);
+            if (bytes.length == length && sameBytes(buffer, start, bytes)) {
+                buffer.position(start + length);
+                return paths.get(i);
+            }
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        String path = new String(bytes, StandardCharsets.UTF_8);
+        pathBytes.add(bytes);
+        paths.add(path);
+        return path;
+    }
+
+    private static boolean sameBytes(ByteBuffer buffer, int start, byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (buffer.get(start + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 복원할 적: 지금 목록의 from 이후나 풀에서 같은 레벨 데이터 번호를 꺼냄 (없으면 null)
+    private Enemy takeEnemy(int from, int dataIndex) {
+        for (int i = from; i < enemies.size(); i++) {
+            if (enemies.get(i).getDataIndex() == dataIndex) {
+                return enemies.remove(i);
+            }
+        }
+        for (int i = 0; i < enemyPool.size(); i++) {
+            if (enemyPool.get(i).getDataIndex() == dataIndex) {
+                return enemyPool.remove(i);
+            }
+        }
+        return null;
+    }
+
+    // 복원할 장애물: 지금 목록의 from 이후에서 같은 번호를, 없으면 풀에서 모양이 같은 것을 꺼냄 (없으면 null)
+    private Obstacle takeObstacle(int from, int id, Obstacle.ObstacleType type, String texturePath,
+                                  float width, float height, float radius,
+                                  boolean isMoving, float moveSpeed, float lifetime) {
+        for (int i = from; i < obstacles.size(); i++) {
+            Obstacle obstacle = obstacles.get(i);
+            if (obstacle.getId() == id) {
+                if (sameShape(obstacle, type, texturePath, width, height, radius, isMoving, moveSpeed, lifetime)) {
+                    return obstacles.remove(i);
+                }
+                break;
+            }
+        }
+        for (int i = obstaclePool.size() - 1; i >= 0; i--) {
+            Obstacle obstacle = obstaclePool.get(i);
+            if (sameShape(obstacle, type, texturePath, width, height, radius, isMoving, moveSpeed, lifetime)) {
+                return obstaclePool.remove(i);
+            }
+        }
+        return null;
+    }
+
+    // 생성 인자가 같은지 (같으면 readState 로 값만 덮어써서 재사용 가능)
+    private boolean sameShape(Obstacle obstacle, Obstacle.ObstacleType type, String texturePath,
+                              float width, float height, float radius,
+                              boolean isMoving, float moveSpeed, float lifetime) {
+        return obstacle.getType() == type && obstacle.getWidth() == width &&
+            obstacle.getHeight() == height && obstacle.getRadius() == radius &&
+            obstacle.canMove() == isMoving && obstacle.getMoveSpeed() == moveSpeed &&
+            obstacle.getLifetime() == lifetime &&
+            (headless || sameTexture(obstacle.getTexturePath(), texturePath));
+    }
+
+    private static boolean sameTexture(String a, String b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    // 시드 설정 (같은 시드 = 같은 탄막/장애물 패턴)
+    public void setSeed(long seed) {
+        random.setState(seed);
+    }
+
+    public GameRandom getRandom() { return random; }
+    public boolean isHeadless() { return headless; }
+
+    // 레벨 데이터 직접 접근 (파라미터 조정용)
+    public Level getLevel(int index) { return levels.get(index); }
+
+    public void setCurrentLevelIndex(int index) {
+        currentLevelIndex = index;
+    }
+
     // Getter
     public Player getPlayer() { return player; }
     public ArrayList<Enemy> getEnemies() { return enemies; }
@@ -372,6 +1048,9 @@ public class LevelManager {
     public ArrayList<Bullet> getBullets() { return bullets; }
     public Color getCurrentBackgroundColor() { return currentBackgroundColor; }
     public Texture getCurrentBackgroundTexture() { return currentBackgroundTexture; }
+    public float getWorldWidth() { return worldWidth; }
+    public float getWorldHeight() { return worldHeight; }
+    public WorldChunks getChunks() { return chunks; }
 
     // 레벨 관리
     public Level getCurrentLevel() {
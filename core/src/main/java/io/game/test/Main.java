@@ -8,42 +8,100 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.utils.viewport.FitViewport;
-import com.badlogic.gdx.audio.Sound;
-import java.util.ArrayList;
-import java.util.Iterator;
+
+import java.io.File;
+import java.io.IOException;
 
 public class Main extends ApplicationAdapter {
 
-    enum GameState { RUNNING, PAUSED, GAME_OVER, LEVEL_COMPLETE, GAME_COMPLETE }
+    enum GameState { RUNNING, PAUSED, GAME_OVER, LEVEL_COMPLETE, GAME_COMPLETE, LOADING }
 
-    private static final float WORLD_WIDTH = 1280;
-    private static final float WORLD_HEIGHT = 720;
+    private static final float WORLD_WIDTH = GameSimulation.WORLD_WIDTH;
+    private static final float WORLD_HEIGHT = GameSimulation.WORLD_HEIGHT;
 
     private SpriteBatch batch;
     private OrthographicCamera camera;
     private FitViewport viewport;
     private BitmapFont font;
     private CameraManager cameraManager;
+    private StaticLayer staticLayer;       // 배경 + 움직이지 않는 장애물을 미리 그려 둔 레이어
+    private ParticleSystem particles;      // 충돌/튕김/게임 오버 파티클
+
+    // 효과음 (같은 파일은 한 번만 로드)
+    private static final String SOUND_BOUNCE = "bounce.mp3";
+    private static final String SOUND_GAME_OVER = "game_over.mp3";
+    private static final String SOUND_SLOW_ZONE = "slow.wav";
+    private static final String SOUND_LEVEL_CLEAR = "level_clear.wav";
+    private static final String SOUND_GAME_CLEAR = "game_complete.mp3";
 
-    private Sound wallBounceSound;
-    private Sound gameOverSound;
-    private Sound bounceObstacleSound;
-    private Sound slowZoneSound;
-    private Sound levelClearSound;
-    private Sound gameClearSound;
+    private AudioAssets audio;
 
     private com.badlogic.gdx.audio.Music backgroundMusic;
 
     private GameWorld world;
-    private LevelManager levelManager;
+    private LevelManager levelManager;       // 그리기/UI 용 (simulationView.getView() 의 것)
+
+    // 그리는 시뮬레이션과 진행하는 시뮬레이션 (-Dgame.simThread=false 면 예전처럼 render() 안에서 진행)
+    private SimulationView simulationView;
+    private boolean checkpointSaved;
+
+    // -Dgame.frameStats=true 면 600 프레임마다 프레임 시간 분포 로그
+    private final boolean logFrameStats = Boolean.getBoolean("game.frameStats");
+    private final LatencyHistogram frameTime = new LatencyHistogram();
+    private long lastFrameNanos;
+
+    // 레벨 전환 중 JIT 예열 (-Dgame.warmupTicks=N) 과 레벨 첫 1초 프레임 시간
+    private final JitWarmup warmup = new JitWarmup();
+    private final LatencyHistogram firstSecondFrames = new LatencyHistogram();
+    private boolean measuringFirstSecond;
+
+    // 프레임별 지표 기록 (-Dgame.telemetryFile=경로 일 때만)
+    private FrameTelemetry telemetry;
+
+    // 관전 스트림 (-Dgame.spectatorPort=7777 일 때만)
+    private SpectatorServer spectatorServer;
+
+    // 상태 스냅샷 (레벨 시작 / 체크포인트)
+    private StateSnapshot levelStartSnapshot;
+    private StateSnapshot checkpointSnapshot;
+
+    // 자동 플레이 (Lwjgl3Launcher --bot)
+    private final boolean autoPlay;
+    private AutoPlayBot bot;
+    private float autoContinueTimer;
 
-    private boolean dragging = false;
-    private float dragStartX, dragStartY;
+    // 학습 실행 (AppCDS 아카이브 생성): -Dgame.exitAfterFrames=N 이면 N 프레임 뒤 종료
+    private final int exitAfterFrames = Integer.getInteger("game.exitAfterFrames", 0);
+    private int renderedFrames;
+
+    // 프레임 예산을 넘으면 표시 품질을 낮춤 (시뮬레이션은 그대로)
+    private QualityGovernor quality;
+
+    // 플릭 입력 (터치 이벤트 시각과 위치를 그대로 시뮬레이션 틱에 맞춰 적용)
+    private FlickInput flickInput;
 
     private GameState state = GameState.RUNNING;
 
+    // 플레이 기록 (-Dgame.historyFile, 기본 ~/.2dgame/run_history.bin). 봇 플레이는 남기지 않음
+    private RunHistory history;
+    private final RunHistory.Record bestRecord = new RunHistory.Record();
+    private String bestText = "";       // 레벨이 바뀌거나 기록이 추가될 때만 다시 만듦
+    private int bestTextLevel = -1;
+
+    // 다음 레벨 텍스처를 올리는 동안 (LOADING) 기다리는 레벨 전환 명령
+    private SimulationThread.Command pendingLevelCommand;
+
+    public Main() {
+        this(false);
+    }
+
+    public Main(boolean autoPlay) {
+        this.autoPlay = autoPlay;
+    }
+
     @Override
     public void create() {
+        StartupTiming.markCreateStart();
         batch = new SpriteBatch();
         font = new BitmapFont();
         font.getData().setScale(2f);
@@ -54,198 +112,224 @@ public class Main extends ApplicationAdapter {
         camera.position.set(WORLD_WIDTH/2f, WORLD_HEIGHT/2f, 0);
 
         cameraManager = new CameraManager(camera, WORLD_WIDTH, WORLD_HEIGHT);
+        flickInput = new FlickInput(cameraManager);
+        Gdx.input.setInputProcessor(flickInput);
+        staticLayer = new StaticLayer(WORLD_WIDTH, WORLD_HEIGHT);
+        updateTextureResolution();
+
+        // 레벨 매니저 생성 + 첫 레벨 텍스처 디코딩 요청 (워커 풀에서 효과음/월드 초기화와 동시에 진행)
+        levelManager = new LevelManager(WORLD_WIDTH, WORLD_HEIGHT);
+        TextureAssets.load(levelManager.getTexturePaths(0));
 
-        // 효과음 로드
-        wallBounceSound = Gdx.audio.newSound(Gdx.files.internal("bounce.mp3"));
-        gameOverSound = Gdx.audio.newSound(Gdx.files.internal("game_over.mp3"));
-        bounceObstacleSound = Gdx.audio.newSound(Gdx.files.internal("bounce.mp3"));
-        slowZoneSound = Gdx.audio.newSound(Gdx.files.internal("slow.wav"));
-        levelClearSound = Gdx.audio.newSound(Gdx.files.internal("level_clear.wav"));
-        gameClearSound = Gdx.audio.newSound(Gdx.files.internal("game_complete.mp3"));
+        // 효과음 로드 요청 (디코딩은 백그라운드, 레벨 로드와 동시에 진행)
+        audio = new AudioAssets();
+        audio.load(SOUND_BOUNCE);
+        audio.load(SOUND_GAME_OVER);
+        audio.load(SOUND_SLOW_ZONE);
+        audio.load(SOUND_LEVEL_CLEAR);
+        audio.load(SOUND_GAME_CLEAR);
 
         // 배경음악
         backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal("background_music.mp3"));
+        ResourceTracker.track(backgroundMusic, "Main", "background_music.mp3", 0L, true);
         backgroundMusic.setLooping(true);
         backgroundMusic.setVolume(0.1f);
         backgroundMusic.play();
 
         // 게임 월드 생성
         world = new GameWorld(WORLD_WIDTH, WORLD_HEIGHT);
-        world.setWallBounceSound(wallBounceSound);
-
-        // 레벨 매니저 생성 및 초기화
-        levelManager = new LevelManager(WORLD_WIDTH, WORLD_HEIGHT);
-        levelManager.setSounds(bounceObstacleSound, slowZoneSound);
-        levelManager.loadCurrentLevel();
-
-        // 레벨의 물리 설정을 월드에 적용
-        Level currentLevel = levelManager.getCurrentLevel();
-        world.setPhysics(currentLevel.getDragK(), currentLevel.getMaxSpeed());
-    }
-
-    @Override
-    public void render() {
-        handleInput();
-
-        float dt = Math.min(Gdx.graphics.getDeltaTime(), 1/30f);
-
-        if (state == GameState.RUNNING) {
-            // 타이머 업데이트
-            levelManager.updateSurvivalTimer(dt);
 
-            Level currentLevel = levelManager.getCurrentLevel();
-            Player player = levelManager.getPlayer();
-            ArrayList<Enemy> enemies = levelManager.getEnemies();
-            ArrayList<Obstacle> obstacles = levelManager.getObstacles();
-            ArrayList<Bullet> bullets = levelManager.getBullets();
-
-            // 생존 시간 체크
-            if (levelManager.getSurvivalTimer() >= currentLevel.getSurvivalTime()) {
-                if (levelManager.isLastLevel()) {
-                    state = GameState.GAME_COMPLETE;
-                    if (gameClearSound != null) {
-                        gameClearSound.play(0.5f);
-                    }
-                } else {
-                    state = GameState.LEVEL_COMPLETE;
-                    if (levelClearSound != null) {
-                        levelClearSound.play(1.0f);
-                    }
-                }
+        // 그리기용 시뮬레이션 생성 (레벨 로드 + 물리 설정). 아직 첫 프레임 전이라 업로드는 한 번에
+        TextureAssets.finishLoading();
+        GameSimulation viewSimulation = new GameSimulation(levelManager, world);
+        viewSimulation.loadCurrentLevel();
+
+        // 시뮬레이션 스레드 쪽은 텍스처 없이 진행 (텍스처는 GL 스레드에서만 만들 수 있음)
+        boolean threaded = Boolean.parseBoolean(System.getProperty("game.simThread", "true"));
+        GameSimulation simulation = threaded ?
+            GameSimulation.createHeadless(0, System.nanoTime()) : viewSimulation;
+        simulationView = new SimulationView(viewSimulation, simulation, flickInput);
+
+        // 효과음 디코딩이 끝나면 연결 (시뮬레이션 스레드에서 울린 효과음은 audio.update() 에서 재생)
+        audio.finishLoading();
+        simulation.getWorld().setWallBounceSound(audio.getSound(SOUND_BOUNCE));
+        simulation.getLevelManager().setSounds(audio.getSound(SOUND_BOUNCE), audio.getSound(SOUND_SLOW_ZONE));
+
+        // 충돌/게임 오버 파티클 (방출은 시뮬레이션 쪽, 갱신과 그리기는 여기서)
+        particles = new ParticleSystem(ParticleSystem.DEFAULT_CAPACITY);
+        simulation.setParticles(particles);
+
+        quality = new QualityGovernor();
+        applyQuality();
+
+        openHistory();
+
+        String telemetryFile = System.getProperty("game.telemetryFile");
+        if (telemetryFile != null) {
+            try {
+                telemetry = new FrameTelemetry(new File(telemetryFile));
+                telemetry.start();
+                Gdx.app.log("Telemetry", "Writing frame metrics to " + telemetryFile);
+            } catch (IOException e) {
+                Gdx.app.error("Telemetry", "Could not open " + telemetryFile, e);
             }
+        }
 
-            // 플레이어 업데이트
-            world.updatePlayer(player, dt);
+        // 레벨 시작 상태 저장
+        levelStartSnapshot = new StateSnapshot();
+        checkpointSnapshot = new StateSnapshot();
+        saveLevelStart(simulation);
 
-            // 장애물 업데이트
-            for (Obstacle obstacle : obstacles) {
-                obstacle.update(dt);
-            }
+        // 자동 플레이 봇 (창 모드에서는 프레임이 밀리지 않게 짧게 내다봄)
+        if (autoPlay) {
+            bot = new AutoPlayBot(GameSimulation.createHeadless(0, 0L), 60, 4);
+            Gdx.app.log("Bot", "Autoplay enabled");
+        }
 
-            // 만료된 장애물 제거
-            Iterator<Obstacle> obstacleIterator = obstacles.iterator();
-            while (obstacleIterator.hasNext()) {
-                Obstacle obstacle = obstacleIterator.next();
-                if (obstacle.isExpired()) {
-                    obstacle.dispose();
-                    obstacleIterator.remove();
-                }
+        // 관전 스트림 서버
+        String spectatorPort = System.getProperty("game.spectatorPort");
+        if (spectatorPort != null) {
+            try {
+                spectatorServer = new SpectatorServer(Integer.parseInt(spectatorPort));
+                simulation.setListener(new GameSimulation.Listener() {
+                    @Override
+                    public void onTick(GameSimulation simulation) {
+                        spectatorServer.publish(simulation.getTick(), GameSimulation.TICK_DT,
+                            simulation.getLevelManager());
+                    }
+                });
+                Gdx.app.log("Spectator", "Streaming on 127.0.0.1:" + spectatorServer.getPort());
+            } catch (Exception e) {
+                Gdx.app.error("Spectator", "Could not start spectator stream", e);
             }
+        }
 
-            // 동적 장애물 생성
-            if (currentLevel.isObstacleSpawnEnabled()) {
-                levelManager.updateObstacleSpawnTimer(dt);
+        // 첫 레벨은 시뮬레이션 스레드를 띄우기 전에 예열
+        warmUpLevel(0);
+        measuringFirstSecond = true;
 
-                if (levelManager.getObstacleSpawnTimer() >= currentLevel.getObstacleSpawnInterval() &&
-                    obstacles.size() < currentLevel.getMaxObstacles()) {
+        simulationView.start(bot);
+        if (threaded) {
+            Gdx.app.log("Simulation", "Running on a separate thread");
+        }
 
-                    levelManager.resetObstacleSpawnTimer();
+        StartupTiming.markCreateEnd();
+    }
 
-                    Obstacle obstacle = world.spawnRandomObstacle(player, currentLevel.getObstacleLifetime());
+    @Override
+    public void render() {
+        Object frameEvent = GameEvents.beginFrame();
+        long frameStart = System.nanoTime();
+        recordFrameTime(frameStart);
+        flickInput.getLatency().frameStarted(frameStart);
+        if (quality.frame(frameStart)) {
+            applyQuality();
+        }
+        handleInput();
 
-                    if (obstacle.getType() == Obstacle.ObstacleType.BOUNCY) {
-                        obstacle.setBounceSound(bounceObstacleSound);
-                    } else if (obstacle.getType() == Obstacle.ObstacleType.SLOW_ZONE) {
-                        obstacle.setSlowZoneSound(slowZoneSound);
-                    }
+        float dt = Math.min(Gdx.graphics.getDeltaTime(), 1/30f);
+        boolean autoContinue = updateAutoContinue(dt);
 
-                    obstacles.add(obstacle);
-                }
-            }
+        // 스레드 모드: 최신 상태를 받아옴, 아니면 여기서 고정 틱으로 진행
+        int simTicks = simulationView.update(dt, state == GameState.RUNNING);
+        audio.update();
+        particles.update(dt);
 
-            // 장애물 충돌 처리
-            for (Obstacle obstacle : obstacles) {
-                obstacle.handlePlayerCollision(player);
+        if (state == GameState.RUNNING) {
+            GameSimulation.Outcome outcome = simulationView.getOutcome();
+            if (outcome != GameSimulation.Outcome.NONE) {
+                recordAttempt(outcome);
             }
-
-            // 적 업데이트 및 탄환 발사
-            for (Enemy enemy : enemies) {
-                enemy.update(dt);
-
-                ArrayList<Bullet> newBullets = enemy.tryShoot(player);
-                if (newBullets != null) {
-                    bullets.addAll(newBullets);
-                }
+            if (outcome == GameSimulation.Outcome.GAME_COMPLETE) {
+                state = GameState.GAME_COMPLETE;
+                audio.play(SOUND_GAME_CLEAR, 0.5f);
+            } else if (outcome == GameSimulation.Outcome.LEVEL_COMPLETE) {
+                state = GameState.LEVEL_COMPLETE;
+                audio.play(SOUND_LEVEL_CLEAR, 1.0f);
+            } else if (outcome == GameSimulation.Outcome.GAME_OVER) {
+                state = GameState.GAME_OVER;
+                cameraManager.gameOverShake();
+                audio.play(SOUND_GAME_OVER, 0.2f);
             }
 
-            // 탄환 업데이트 및 충돌 체크
-            Iterator<Bullet> bulletIterator = bullets.iterator();
-            while (bulletIterator.hasNext()) {
-                Bullet bullet = bulletIterator.next();
-                bullet.update(dt, player, world);
-
-                if (!bullet.isActive()) {
-                    bullet.dispose();
-                    bulletIterator.remove();
-                    continue;
-                }
-
-                // 장애물과 충돌 체크
-                boolean hitObstacle = false;
-                for (Obstacle obstacle : obstacles) {
-                    if (obstacle.checkCollisionWithBullet(bullet)) {
-                        bullet.setActive(false);
-                        hitObstacle = true;
-                        break;
-                    }
-                }
-
-                if (hitObstacle) {
-                    bullet.dispose();
-                    bulletIterator.remove();
-                    continue;
-                }
-
-                // 플레이어와 충돌 체크
-                if (bullet.checkCollision(player)) {
-                    state = GameState.GAME_OVER;
-                    cameraManager.gameOverShake();
-                    if (gameOverSound != null) {
-                        gameOverSound.play(0.2f);
-                    }
-                    break;
-                }
+            // 화면보다 큰 레벨은 칸 배경 타일을 스트리밍 (디코딩이 끝난 것을 프레임당 몇 개씩 업로드)
+            if (TextureAssets.getQueued() > 0) {
+                TextureAssets.update();
             }
 
             // 카메라 업데이트
+            Player player = levelManager.getPlayer();
+            cameraManager.setWorldSize(world.getWidth(), world.getHeight());
             cameraManager.update(dt, player.getX(), player.getY());
 
         } else if (state == GameState.GAME_OVER) {
             Player player = levelManager.getPlayer();
             cameraManager.update(dt, player.getX(), player.getY());
 
-            if (Gdx.input.isKeyJustPressed(Input.Keys.R)) {
-                levelManager.loadCurrentLevel();
-                Level currentLevel = levelManager.getCurrentLevel();
-                world.setPhysics(currentLevel.getDragK(), currentLevel.getMaxSpeed());
+            if (autoContinue || Gdx.input.isKeyJustPressed(Input.Keys.R)) {
+                // 레벨을 다시 로드하지 않고 시작 스냅샷으로 되돌림
+                simulationView.runAndAwait(new SimulationThread.Command() {
+                    @Override
+                    public void run(GameSimulation simulation) {
+                        restoreSnapshot(levelStartSnapshot, "Retry", simulation);
+                    }
+                });
                 state = GameState.RUNNING;
             }
         } else if (state == GameState.LEVEL_COMPLETE) {
-            if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
-                if (levelClearSound != null) {
-                    levelClearSound.stop();
-                }
-                levelManager.nextLevel();
-                levelManager.loadCurrentLevel();
-                Level currentLevel = levelManager.getCurrentLevel();
-                world.setPhysics(currentLevel.getDragK(), currentLevel.getMaxSpeed());
-                state = GameState.RUNNING;
+            if (autoContinue || Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
+                audio.stop(SOUND_LEVEL_CLEAR);
+                checkpointSaved = false;
+                int nextLevelIndex = levelManager.getCurrentLevelNumber() - (levelManager.hasNextLevel() ? 0 : 1);
+                beginLevelLoad(nextLevelIndex, new SimulationThread.Command() {
+                    @Override
+                    public void run(GameSimulation simulation) {
+                        LevelManager levels = simulation.getLevelManager();
+                        if (levels.hasNextLevel()) {
+                            warmUpLevel(levels.getCurrentLevelNumber());
+                        }
+                        simulation.nextLevel();
+                        saveLevelStart(simulation);
+                    }
+                });
             }
         } else if (state == GameState.GAME_COMPLETE) {
-            if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
-                if (gameClearSound != null) {
-                    gameClearSound.stop();
-                }
-                levelManager.resetToFirstLevel();
-                levelManager.loadCurrentLevel();
-                Level currentLevel = levelManager.getCurrentLevel();
-                world.setPhysics(currentLevel.getDragK(), currentLevel.getMaxSpeed());
+            if (autoContinue || Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
+                audio.stop(SOUND_GAME_CLEAR);
+                checkpointSaved = false;
+                beginLevelLoad(0, new SimulationThread.Command() {
+                    @Override
+                    public void run(GameSimulation simulation) {
+                        simulation.resetToFirstLevel();
+                        saveLevelStart(simulation);
+                    }
+                });
+            }
+        } else if (state == GameState.LOADING) {
+            // 디코딩이 끝난 텍스처를 프레임당 몇 개씩 올리고, 다 올라가면 레벨 전환
+            if (TextureAssets.update()) {
+                simulationView.runAndAwait(pendingLevelCommand);
+                pendingLevelCommand = null;
                 state = GameState.RUNNING;
+                measuringFirstSecond = true;
             }
         }
+        flickInput.setAccepting(state == GameState.RUNNING);
+        long updateEnd = System.nanoTime();
 
-        // 스크린 클리어
+        // 배경 + 움직이지 않는 장애물 (바뀐 것이 있을 때만 다시 구움)
+        // 화면보다 큰 레벨은 월드 전체를 구울 수 없으므로 로드된 칸의 배경 타일을 그대로 그림
         com.badlogic.gdx.graphics.Color bgColor = levelManager.getCurrentBackgroundColor();
+        QualityGovernor.Tier tier = quality.getTier();
+        WorldChunks chunks = levelManager.getChunks();
+        if (chunks == null) {
+            com.badlogic.gdx.graphics.Texture backgroundTexture = levelManager.getCurrentBackgroundTexture();
+            if (staticLayer.update(batch, backgroundTexture, bgColor, levelManager.getObstacles(), tier.effects)) {
+                viewport.apply(false);
+            }
+        }
+
+        // 스크린 클리어
         Gdx.gl.glClearColor(bgColor.r, bgColor.g, bgColor.b, bgColor.a);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
@@ -253,20 +337,24 @@ public class Main extends ApplicationAdapter {
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
 
-        // 배경화면
-        com.badlogic.gdx.graphics.Texture backgroundTexture = levelManager.getCurrentBackgroundTexture();
-        if (backgroundTexture != null) {
-            batch.draw(backgroundTexture, 0, 0, WORLD_WIDTH, WORLD_HEIGHT);
+        // 정적 레이어 (배경화면 포함) 또는 칸 배경 타일
+        if (chunks == null) {
+            staticLayer.draw(batch);
+        } else {
+            renderBackgroundTiles(chunks);
         }
 
-        // 장애물
+        // 장애물 (정적 레이어에 없는 것만)
+        boolean animate = quality.isAnimationFrame();
         for (Obstacle obstacle : levelManager.getObstacles()) {
-            obstacle.render(batch);
+            if (chunks != null || !staticLayer.contains(obstacle)) {
+                obstacle.render(batch, animate, tier.effects);
+            }
         }
 
         // 적
         for (Enemy enemy : levelManager.getEnemies()) {
-            enemy.render(batch);
+            enemy.render(batch, animate, tier.effects);
         }
 
         // 탄막
@@ -274,6 +362,9 @@ public class Main extends ApplicationAdapter {
             bullet.render(batch);
         }
 
+        // 파티클
+        particles.draw(batch);
+
         // 플레이어
         Player player = levelManager.getPlayer();
         if (player != null) {
@@ -284,6 +375,44 @@ public class Main extends ApplicationAdapter {
         renderUI();
 
         batch.end();
+        flickInput.getLatency().drawn(simulationView.getTotalTicks(), System.nanoTime());
+
+        GameEvents.endFrame(frameEvent, simTicks, levelManager.getBullets().size(),
+            levelManager.getObstacles().size(), levelManager.getEnemies().size());
+        if (telemetry != null) {
+            long drawEnd = System.nanoTime();
+            telemetry.record(frameStart, Gdx.graphics.getDeltaTime(), simTicks, levelManager.getBullets().size(),
+                levelManager.getObstacles().size(), batch.renderCalls, updateEnd - frameStart, drawEnd - updateEnd,
+                drawEnd - frameStart);
+        }
+
+        StartupTiming.markFrameRendered();
+        renderedFrames++;
+        if (exitAfterFrames > 0 && renderedFrames == exitAfterFrames) {
+            Gdx.app.exit();
+        }
+    }
+
+    // 로드된 칸의 배경 타일 (월드 끝 칸은 남은 크기만큼)
+    private void renderBackgroundTiles(WorldChunks chunks) {
+        for (int row = chunks.getFirstRow(); row <= chunks.getLastRow(); row++) {
+            for (int column = chunks.getFirstColumn(); column <= chunks.getLastColumn(); column++) {
+                int chunk = row * chunks.getColumns() + column;
+                com.badlogic.gdx.graphics.Texture tile = levelManager.getTileTexture(chunk);
+                if (tile == null) continue;
+                float x = chunks.getChunkX(chunk);
+                float y = chunks.getChunkY(chunk);
+                batch.draw(tile, x, y, Math.min(WorldChunks.CHUNK_SIZE, world.getWidth() - x),
+                    Math.min(WorldChunks.CHUNK_SIZE, world.getHeight() - y));
+            }
+        }
+    }
+
+    // 화질 단계 중 오디오 쪽 설정 반영 (나머지는 render 에서 단계를 직접 읽음)
+    private void applyQuality() {
+        audio.setVoiceCap(quality.getTier().voiceCap);
+        particles.setEnabled(quality.getTier().effects);
+        staticLayer.setResolutionScale(quality.getTier().layerScale);
     }
 
     private void renderUI() {
@@ -325,6 +454,10 @@ public class Main extends ApplicationAdapter {
             font.setColor(1f, 1f, 1f, 1f); // Reset color
         }
 
+        // 최고 기록
+        updateBestText();
+        font.draw(batch, bestText, leftX + margin, topY - margin - 120);
+
         float centerX = camX;
         float centerY = camY;
 
@@ -343,6 +476,9 @@ public class Main extends ApplicationAdapter {
             font.draw(batch, completeText, centerX - 200, centerY);
             String restartText = "(Press SPACE to restart)";
             font.draw(batch, restartText, centerX - 200, centerY - 50);
+        } else if (state == GameState.LOADING) {
+            String loadingText = "LOADING " + (int)(TextureAssets.getProgress() * 100f) + "%";
+            font.draw(batch, loadingText, centerX - 100, centerY);
         }
     }
 
@@ -356,67 +492,222 @@ public class Main extends ApplicationAdapter {
             }
         }
 
-        // 드래그 입력 처리
-        if (Gdx.input.justTouched()) {
-            dragging = true;
-            dragStartX = Gdx.input.getX();
-            dragStartY = Gdx.input.getY();
-        } else if (dragging && !Gdx.input.isTouched()) {
-            dragging = false;
-            if (state == GameState.RUNNING) {
-                float endX = Gdx.input.getX();
-                float endY = Gdx.input.getY();
+        // 체크포인트 저장(F5) / 불러오기(F9)
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F5) &&
+            (state == GameState.RUNNING || state == GameState.PAUSED)) {
+            checkpointSaved = true;
+            simulationView.run(new SimulationThread.Command() {
+                @Override
+                public void run(GameSimulation simulation) {
+                    Object phase = GameEvents.beginPhase();
+                    checkpointSnapshot.save(simulation);
+                    GameEvents.endPhase(phase, "CheckpointSave");
+                    Gdx.app.log("Snapshot", "Checkpoint saved: " + checkpointSnapshot.getSizeBytes() +
+                        " bytes in " + checkpointSnapshot.getLastSaveNanos() / 1000 + " us");
+                }
+            });
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F9) && checkpointSaved &&
+            state != GameState.LEVEL_COMPLETE && state != GameState.GAME_COMPLETE && state != GameState.LOADING) {
+            simulationView.runAndAwait(new SimulationThread.Command() {
+                @Override
+                public void run(GameSimulation simulation) {
+                    restoreSnapshot(checkpointSnapshot, "Checkpoint", simulation);
+                }
+            });
+            state = GameState.RUNNING;
+        }
+    }
 
-                float zoomFactor = cameraManager.getCurrentZoom();
-                float ix = (dragStartX - endX) * 8f / zoomFactor;
-                float iy = (endY - dragStartY) * 8f / zoomFactor;
+    // 봇 모드에서는 게임 오버/클리어 화면을 잠깐 보여준 뒤 자동으로 진행
+    private boolean updateAutoContinue(float dt) {
+        if (bot == null || state == GameState.RUNNING || state == GameState.PAUSED) {
+            autoContinueTimer = 0f;
+            return false;
+        }
+        autoContinueTimer += dt;
+        return autoContinueTimer >= 2f;
+    }
 
-                Player player = levelManager.getPlayer();
-                if (player != null) {
-                    player.addImpulse(ix, iy);
-                }
-            }
+    // 레벨 전환 시작: 텍스처 디코딩을 요청하고 다 올라가면 command 실행 (LOADING 상태에서)
+    private void beginLevelLoad(int levelIndex, SimulationThread.Command command) {
+        TextureAssets.load(levelManager.getTexturePaths(levelIndex));
+        pendingLevelCommand = command;
+        state = GameState.LOADING;
+    }
+
+    private void recordFrameTime(long now) {
+        long interval = lastFrameNanos != 0 ? now - lastFrameNanos : 0;
+        lastFrameNanos = now;
+        if (interval == 0) return;
+        recordFirstSecond(interval);
+
+        if (!logFrameStats) return;
+        frameTime.record(interval);
+        if (frameTime.getCount() == 600) {
+            Gdx.app.log("Frame", frameTime.summary() + " stddev " +
+                LatencyHistogram.format((long)frameTime.getStdDev()) + " bullets " + levelManager.getBullets().size() +
+                (simulationView.isThreaded() ? " (sim thread)" : " (inline)"));
+            frameTime.reset();
+        }
+    }
+
+    // 새 레벨이 보이기 시작한 뒤 60 프레임의 프레임 간격 (예열 효과 확인용)
+    private void recordFirstSecond(long interval) {
+        if (!measuringFirstSecond || state != GameState.RUNNING || !simulationView.isCurrent()) return;
+        firstSecondFrames.record(interval);
+        if (firstSecondFrames.getCount() == GameSimulation.TICKS_PER_SECOND) {
+            Gdx.app.log("Frame", "Level " + levelManager.getCurrentLevelNumber() + " first second: " +
+                firstSecondFrames.summary() + (warmup.isEnabled() ? " (warmed up)" : " (no warm-up)"));
+            firstSecondFrames.reset();
+            measuringFirstSecond = false;
         }
     }
 
+    // 다음에 시작할 레벨을 버리는 상태로 미리 돌려봄 (시뮬레이션을 진행하는 스레드에서 호출)
+    private void warmUpLevel(int levelIndex) {
+        Object phase = GameEvents.beginPhase();
+        if (!warmup.warmUp(levelIndex)) return;
+        GameEvents.endPhase(phase, "JitWarmup");
+        Gdx.app.log("Warmup", "Level " + (levelIndex + 1) + ": " + warmup.getLastTicks() + " ticks in " +
+            warmup.getLastNanos() / 1000000 + " ms");
+    }
+
+    private void openHistory() {
+        if (autoPlay) return;
+        String path = System.getProperty("game.historyFile");
+        File file = path != null ? new File(path) :
+            Gdx.files.external(".2dgame/run_history.bin").file();
+        try {
+            history = new RunHistory(file);
+            Gdx.app.log("History", history.size() + " attempts in " + file);
+        } catch (IOException e) {
+            Gdx.app.error("History", "Could not open " + file, e);
+        }
+    }
+
+    // 끝난 시도 하나를 기록 (레코드 하나를 매핑된 버퍼에 쓰는 정도라 렌더 스레드에서 바로)
+    private void recordAttempt(GameSimulation.Outcome outcome) {
+        if (history == null) return;
+        Player player = levelManager.getPlayer();
+        boolean cleared = outcome != GameSimulation.Outcome.GAME_OVER;
+        GameSimulation viewSimulation = simulationView.getView();
+        history.append(levelManager.getCurrentLevelNumber() - 1, viewSimulation.getLevelSeed(),
+            viewSimulation.getTick(), cleared ? 0f : player.getX(), cleared ? 0f : player.getY(),
+            player.getFlickCount(), cleared ? RunHistory.Cause.CLEARED : RunHistory.Cause.BULLET);
+        bestTextLevel = -1;
+    }
+
+    private void updateBestText() {
+        int level = levelManager.getCurrentLevelNumber() - 1;
+        if (history == null || level == bestTextLevel) return;
+        bestTextLevel = level;
+        if (history.best(level, bestRecord)) {
+            bestText = String.format("Best: %.1fs (%d tries, %d clears)", bestRecord.getSurvivalSeconds(),
+                history.getAttempts(level), history.getClears(level));
+        } else {
+            bestText = "Best: -";
+        }
+    }
+
+    // 레벨 시작 상태 저장 (이전 레벨의 체크포인트는 버림)
+    private void saveLevelStart(GameSimulation simulation) {
+        Object phase = GameEvents.beginPhase();
+        levelStartSnapshot.save(simulation);
+        checkpointSnapshot.clear();
+        GameEvents.endPhase(phase, "LevelStartSave");
+        Gdx.app.log("Snapshot", "Level start saved: " + levelStartSnapshot.getSizeBytes() + " bytes in " +
+            levelStartSnapshot.getLastSaveNanos() / 1000 + " us");
+    }
+
+    private void restoreSnapshot(StateSnapshot snapshot, String label, GameSimulation simulation) {
+        Object phase = GameEvents.beginPhase();
+        snapshot.restore(simulation);
+        GameEvents.endPhase(phase, label + "Restore");
+        // 같은 id 가 다른 탄환/장애물을 가리킬 수 있으므로 관전자는 키 프레임부터 다시
+        if (spectatorServer != null) {
+            spectatorServer.requestKeyframe();
+        }
+        Gdx.app.log("Snapshot", label + " restored: " + snapshot.getSizeBytes() + " bytes in " +
+            snapshot.getLastRestoreNanos() / 1000 + " us");
+    }
+
     @Override
     public void resize(int width, int height) {
         viewport.update(width, height, true);
+        updateTextureResolution();
+    }
+
+    // 월드 1 단위가 백버퍼 몇 픽셀인지 (FitViewport 배율 / 기본 줌). 텍스처 축소본 선택은 다음 레벨 로드부터
+    private void updateTextureResolution() {
+        int width = Gdx.graphics.getBackBufferWidth();
+        int height = Gdx.graphics.getBackBufferHeight();
+        if (width <= 0 || height <= 0) return;
+        float fit = Math.min(width / WORLD_WIDTH, height / WORLD_HEIGHT);
+        TextureAssets.setPixelsPerUnit(fit / cameraManager.getBaseZoom());
+        staticLayer.setPixelsPerUnit(fit / cameraManager.getBaseZoom());
     }
 
     @Override
     public void dispose() {
+        if (simulationView != null) {
+            simulationView.stop();
+        }
+        InputLatency latency = flickInput.getLatency();
+        if (latency.getToSwap().getCount() > 0) {
+            Gdx.app.log("InputLatency", "input to apply " + latency.getToApply().summary());
+            Gdx.app.log("InputLatency", "input to draw " + latency.getToDraw().summary());
+            Gdx.app.log("InputLatency", "input to swap " + latency.getToSwap().summary());
+        }
         batch.dispose();
         font.dispose();
+        staticLayer.dispose();
+        if (particles != null) {
+            particles.dispose();
+            Gdx.app.log("Particles", particles.getEmitted() + " emissions, " + particles.getDroppedEmissions() +
+                " dropped, " + particles.getDroppedParticles() + " particles over the cap");
+        }
 
-        // 모든 게임 오브젝트 정리
+        // 모든 게임 오브젝트 정리 (시뮬레이션 스레드 쪽과 봇 미리보기 포함)
         if (levelManager != null) {
             levelManager.dispose();
         }
-
-        // 효과음 정리
-        if (wallBounceSound != null) {
-            wallBounceSound.dispose();
+        if (simulationView != null) {
+            simulationView.dispose();
         }
-        if (gameOverSound != null) {
-            gameOverSound.dispose();
+        if (bot != null) {
+            bot.dispose();
         }
-        if (bounceObstacleSound != null) {
-            bounceObstacleSound.dispose();
-        }
-        if (slowZoneSound != null) {
-            slowZoneSound.dispose();
-        }
-        if (levelClearSound != null) {
-            levelClearSound.dispose();
-        }
-        if (gameClearSound != null) {
-            gameClearSound.dispose();
+        TextureAssets.dispose();
+
+        // 효과음 정리
+        if (audio != null) {
+            audio.dispose();
         }
 
         // 배경음악 정리
         if (backgroundMusic != null) {
+            ResourceTracker.release(backgroundMusic);
             backgroundMusic.dispose();
         }
+
+        if (spectatorServer != null) {
+            Gdx.app.log("Spectator", String.format("%.1f KB sent, %.1f KB/s last second, last frame %d bytes in %d us",
+                spectatorServer.getTotalBytes() / 1024f, spectatorServer.getBytesPerSecond() / 1024f,
+                spectatorServer.getLastFrameBytes(), spectatorServer.getLastEncodeNanos() / 1000));
+            spectatorServer.dispose();
+        }
+
+        if (history != null) {
+            history.dispose();
+        }
+
+        if (telemetry != null) {
+            telemetry.stop();
+            Gdx.app.log("Telemetry", telemetry.getRecorded() + " frames written, " + telemetry.getDropped() + " dropped");
+        }
+
+        ResourceTracker.checkExit();
+        StartupTiming.markExit();
     }
 }
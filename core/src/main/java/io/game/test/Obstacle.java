@@ -4,22 +4,49 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.Color;
+import java.nio.ByteBuffer;
 
 public class Obstacle {
+    // 종류마다 충돌/탄환 처리를 맡는 커널이 있음 (GameSimulation 이 같은 종류끼리 모아서 커널로 처리)
+    // 새 종류는 상수 하나 + ObstacleKernel 을 상속한 커널 하나
     public enum ObstacleType {
-        PILLAR,         // 기둥
-        BOUNCY,         // 튕기는 블록
-        SLOW_ZONE       // 속도 감소 구역
+        PILLAR(0f) {        // 기둥
+            @Override
+            ObstacleKernel newKernel() { return new PillarKernel(); }
+        },
+        BOUNCY(0f) {        // 튕기는 블록
+            @Override
+            ObstacleKernel newKernel() { return new BouncyKernel(); }
+        },
+        SLOW_ZONE(-15f) {   // 속도 감소 구역
+            @Override
+            ObstacleKernel newKernel() { return new SlowZoneKernel(); }
+        };
+
+        final float spin;   // 장식 회전 속도 (도/초)
+
+        ObstacleType(float spin) {
+            this.spin = spin;
+        }
+
+        // 시뮬레이션마다 하나씩 만듦 (커널이 모아 둔 배열을 들고 있음)
+        abstract ObstacleKernel newKernel();
     }
 
     private ObstacleType type;
+    private int id;             // LevelManager 가 부여하는 고유 번호
+    private int bakedStamp;     // StaticLayer 가 이 장애물을 구운 회차 (0 = 없음). 다른 장애물 번호로 재사용되면 지움
+    private int homeChunk = -1; // 큰 월드에서 레벨 데이터로 만든 장애물이 속한 칸 (-1 = 스폰된 것, 위치로 판단)
     private float x, y;         // 위치
     private float width, height; // 크기
     private float radius;        // 반지름
+    private float halfWidth, halfHeight; // 충돌/이동 범위 (사각형은 가로세로 절반, 원은 반지름)
 
     // 스프라이트 렌더링
     private Sprite sprite;
     private Texture texture;
+    private String texturePath;
+    private float rotation;     // 얼음 발판 회전 (스냅샷/관전용으로 헤드리스에서도 유지)
 
     // 이동 속성
     private boolean canMove;            // 이동 가능 여부
@@ -28,29 +55,39 @@ public class Obstacle {
     private float directionChangeTime;  // 방향 전환 타이머
     private float directionChangeInterval = 2.0f; // 방향 전환 주기
     private float worldWidth, worldHeight; // 월드 크기
+    private GameRandom random;          // 방향 전환용 난수
 
     // 특수 속성
-    private float bounceStrength = 1.5f; // 튕김 강도
-    private float slowMultiplier = 0.4f; // 속도 감소 배율
-    private boolean isPlayerInside = false; // 플레이어가 내부에 있는지
+    private boolean isPlayerInside = false; // 플레이어가 내부에 있는지 (얼음 발판)
 
     // 생명주기
     private float lifetime;     // 생존 시간
-    private float age;          // 현재 나이
+    private float age;          // 현재 나이 (페이드 표시용)
     private boolean isDying;    // 사라지는 중인지
+    // 사라지기 시작 / 만료 틱 (GameSimulation 의 타이밍 휠이 처리, -1 = 없음)
+    private int dyingTick = -1;
+    private int expireTick = -1;
 
     // 효과음
     private com.badlogic.gdx.audio.Sound bounceSound;    // 튕기는 블록 효과음
     private com.badlogic.gdx.audio.Sound slowZoneSound;  // 얼음 발판 효과음
 
+    // 생성/해제 짝 확인 (ResourceTracker)
+    private static final ResourceTracker.Counter TRACKED = ResourceTracker.counter("Obstacle");
+    private boolean disposed;
+
     // 사각형 장애물
     public Obstacle(ObstacleType type, float x, float y, float width, float height, String texturePath,
-                    boolean canMove, float moveSpeed, float worldWidth, float worldHeight, float lifetime) {
+                    boolean canMove, float moveSpeed, float worldWidth, float worldHeight, float lifetime,
+                    GameRandom random) {
+        TRACKED.acquire();
         this.type = type;
         this.x = x;
         this.y = y;
         this.width = width;
         this.height = height;
+        this.halfWidth = width/2;
+        this.halfHeight = height/2;
         this.canMove = canMove;
         this.moveSpeed = moveSpeed;
         this.worldWidth = worldWidth;
@@ -59,6 +96,8 @@ public class Obstacle {
         this.lifetime = lifetime;
         this.age = 0f;
         this.isDying = false;
+        this.random = random;
+        this.texturePath = texturePath;
 
         // 랜덤 초기 방향 설정
         if (canMove) {
@@ -70,7 +109,7 @@ public class Obstacle {
 
         // 텍스처 로드
         if (texturePath != null && !texturePath.isEmpty()) {
-            texture = new Texture(texturePath);
+            texture = TextureAssets.get(texturePath, width, height);
             sprite = new Sprite(texture);
             sprite.setSize(width, height);
             sprite.setPosition(x - width/2, y - height/2);
@@ -81,11 +120,15 @@ public class Obstacle {
 
     // 원형 장애물
     public Obstacle(ObstacleType type, float x, float y, float radius, String texturePath,
-                    boolean canMove, float moveSpeed, float worldWidth, float worldHeight, float lifetime) {
+                    boolean canMove, float moveSpeed, float worldWidth, float worldHeight, float lifetime,
+                    GameRandom random) {
+        TRACKED.acquire();
         this.type = type;
         this.x = x;
         this.y = y;
         this.radius = radius;
+        this.halfWidth = radius;
+        this.halfHeight = radius;
         this.canMove = canMove;
         this.moveSpeed = moveSpeed;
         this.worldWidth = worldWidth;
@@ -94,6 +137,8 @@ public class Obstacle {
         this.lifetime = lifetime;
         this.age = 0f;
         this.isDying = false;
+        this.random = random;
+        this.texturePath = texturePath;
 
         // 랜덤 초기 방향 설정
         if (canMove) {
@@ -105,7 +150,7 @@ public class Obstacle {
 
         // 텍스처 로드
         if (texturePath != null && !texturePath.isEmpty()) {
-            texture = new Texture(texturePath);
+            texture = TextureAssets.get(texturePath, radius * 2f, radius * 2f);
             sprite = new Sprite(texture);
             float size = radius * 2f;
             sprite.setSize(size, size);
@@ -116,7 +161,7 @@ public class Obstacle {
     }
 
     private void setRandomDirection() {
-        float angle = (float)(Math.random() * 360);
+        float angle = random.nextFloat() * 360f;
         float rad = (float)Math.toRadians(angle);
         this.vx = (float)Math.cos(rad) * moveSpeed;
         this.vy = (float)Math.sin(rad) * moveSpeed;
@@ -124,14 +169,9 @@ public class Obstacle {
 
 
     public void update(float dt) {
-        // 생명주기 체크
+        // 나이 (사라지는 시점은 타이밍 휠이 startDying / 제거로 처리)
         if (lifetime > 0) {
             age += dt;
-
-            // 생명주기의 80%가 지나면 사라지는 효과 시작
-            if (age > lifetime * 0.8f) {
-                isDying = true;
-            }
         }
 
         // 이동 처리
@@ -140,32 +180,17 @@ public class Obstacle {
             x += vx * dt;
             y += vy * dt;
 
-            // 경계 충돌 처리
+            // 경계 충돌 처리 (원은 반지름, 사각형은 가로세로 절반까지)
             boolean bounced = false;
-            if (type == ObstacleType.BOUNCY || type == ObstacleType.SLOW_ZONE) {
-                // 사각형 장애물
-                if (x - width/2 < 0 || x + width/2 > worldWidth) {
-                    vx = -vx;
-                    x = Math.max(width/2, Math.min(x, worldWidth - width/2));
-                    bounced = true;
-                }
-                if (y - height/2 < 0 || y + height/2 > worldHeight) {
-                    vy = -vy;
-                    y = Math.max(height/2, Math.min(y, worldHeight - height/2));
-                    bounced = true;
-                }
-            } else {
-                // 원형 장애물
-                if (x - radius < 0 || x + radius > worldWidth) {
-                    vx = -vx;
-                    x = Math.max(radius, Math.min(x, worldWidth - radius));
-                    bounced = true;
-                }
-                if (y - radius < 0 || y + radius > worldHeight) {
-                    vy = -vy;
-                    y = Math.max(radius, Math.min(y, worldHeight - radius));
-                    bounced = true;
-                }
+            if (x - halfWidth < 0 || x + halfWidth > worldWidth) {
+                vx = -vx;
+                x = Math.max(halfWidth, Math.min(x, worldWidth - halfWidth));
+                bounced = true;
+            }
+            if (y - halfHeight < 0 || y + halfHeight > worldHeight) {
+                vy = -vy;
+                y = Math.max(halfHeight, Math.min(y, worldHeight - halfHeight));
+                bounced = true;
             }
 
             // 방향 전환 타이머 (경계에 튕긴게 아닐 때만)
@@ -179,29 +204,16 @@ public class Obstacle {
 
             // 스프라이트 위치 업데이트
             if (sprite != null) {
-                if (type == ObstacleType.BOUNCY || type == ObstacleType.SLOW_ZONE) {
-                    sprite.setPosition(x - width/2, y - height/2);
-                } else {
-                    sprite.setPosition(x - radius, y - radius);
-                }
+                sprite.setPosition(x - halfWidth, y - halfHeight);
             }
         }
 
-        // 애니메이션 효과
-        if (type == ObstacleType.BOUNCY) {
-            float pulseTime = System.currentTimeMillis() / 200f;
-            float scale = 1f + (float)Math.sin(pulseTime) * 0.05f;
-            if (sprite != null) {
-                sprite.setScale(scale);
-            }
-        } else if (type == ObstacleType.SLOW_ZONE) {
-            if (sprite != null) {
-                sprite.rotate(-15f * dt);
-            }
-        }
+        // 애니메이션 효과 (스프라이트 반영은 render 에서, 회전하지 않는 종류는 0)
+        rotation += type.spin * dt;
+    }
 
-        // 사라지는 효과 (페이드 아웃)
-        if (isDying && sprite != null && lifetime > 0) {
+    private void updateFade() {
+        if (isDying && lifetime > 0) {
             float remainingTime = lifetime - age;
             float fadeTime = lifetime * 0.2f;
             if (remainingTime < fadeTime) {
@@ -212,184 +224,78 @@ public class Obstacle {
         }
     }
 
-    public void render(SpriteBatch batch) {
-        if (sprite != null) {
-            sprite.draw(batch);
-        }
-    }
-
-    public boolean checkCollisionWithPlayer(Player player) {
-        float px = player.getX();
-        float py = player.getY();
-        float pr = player.getRadius();
-
-        if (type == ObstacleType.BOUNCY) {
-            float closestX = Math.max(x - width/2, Math.min(px, x + width/2));
-            float closestY = Math.max(y - height/2, Math.min(py, y + height/2));
-
-            float dx = px - closestX;
-            float dy = py - closestY;
-            float distanceSquared = dx * dx + dy * dy;
-
-            return distanceSquared < (pr * pr);
-        } else if (type == ObstacleType.PILLAR) {
-            float dx = px - x;
-            float dy = py - y;
-            float distance = (float)Math.sqrt(dx * dx + dy * dy);
-            return distance < (radius + pr);
-        } else if (type == ObstacleType.SLOW_ZONE) {
-            return (px > x - width/2 && px < x + width/2 &&
-                py > y - height/2 && py < y + height/2);
-        }
-
-        return false;
-    }
-
-    public boolean checkCollisionWithBullet(Bullet bullet) {
-        if (type == ObstacleType.SLOW_ZONE) {
-            return false;
-        }
-
-        float bx = bullet.getX();
-        float by = bullet.getY();
-        float br = bullet.getRadius();
-
-        if (type == ObstacleType.BOUNCY) {
-            float closestX = Math.max(x - width/2, Math.min(bx, x + width/2));
-            float closestY = Math.max(y - height/2, Math.min(by, y + height/2));
-
-            float dx = bx - closestX;
-            float dy = by - closestY;
-            float distanceSquared = dx * dx + dy * dy;
-
-            return distanceSquared < (br * br);
-        } else if (type == ObstacleType.PILLAR) {
-            float dx = bx - x;
-            float dy = by - y;
-            float distance = (float)Math.sqrt(dx * dx + dy * dy);
-            return distance < (radius + br);
-        }
-
-        return false;
-    }
+    // animate: 이번 프레임에 장식 애니메이션 갱신, effects: 펄스/회전 효과 (QualityGovernor 단계)
+    // 페이드 아웃은 곧 사라진다는 표시라서 효과를 꺼도 유지
+    public void render(SpriteBatch batch, boolean animate, boolean effects) {
+        if (sprite == null) return;
 
-    public void handlePlayerCollision(Player player) {
-        if (!checkCollisionWithPlayer(player)) {
-            isPlayerInside = false;
-            return;
-        }
-
-        switch (type) {
-            case PILLAR:
-                pushPlayerOut(player);
-                break;
-
-            case BOUNCY:
-                bouncePlayer(player);
-                break;
-
-            case SLOW_ZONE:
-                if (!isPlayerInside) {
-                    applySlow(player);
-                    isPlayerInside = true;
-                }
-                break;
-        }
-    }
-
-    private void pushPlayerOut(Player player) {
-        float px = player.getX();
-        float py = player.getY();
-        float pr = player.getRadius();
-
-        if (type == ObstacleType.BOUNCY) {
-            float closestX = Math.max(x - width/2, Math.min(px, x + width/2));
-            float closestY = Math.max(y - height/2, Math.min(py, y + height/2));
-
-            float dx = px - closestX;
-            float dy = py - closestY;
-            float distance = (float)Math.sqrt(dx * dx + dy * dy);
-
-            if (distance < pr && distance > 0) {
-                float pushX = (dx / distance) * (pr - distance);
-                float pushY = (dy / distance) * (pr - distance);
-
-                player.setX(px + pushX);
-                player.setY(py + pushY);
-
-                player.setVx(player.getVx() * 0.3f);
-                player.setVy(player.getVy() * 0.3f);
+        if (animate) {
+            if (type == ObstacleType.BOUNCY) {
+                float pulseTime = System.currentTimeMillis() / 200f;
+                float scale = effects ? 1f + (float)Math.sin(pulseTime) * 0.05f : 1f;
+                sprite.setScale(scale);
+            } else if (type == ObstacleType.SLOW_ZONE && effects) {
+                sprite.setRotation(rotation);
             }
-        } else if (type == ObstacleType.PILLAR) {
-            float dx = px - x;
-            float dy = py - y;
-            float distance = (float)Math.sqrt(dx * dx + dy * dy);
-
-            if (distance < (radius + pr) && distance > 0) {
-                float pushDistance = (radius + pr) - distance;
-                float pushX = (dx / distance) * pushDistance;
-                float pushY = (dy / distance) * pushDistance;
-
-                player.setX(px + pushX);
-                player.setY(py + pushY);
 
-                player.setVx(player.getVx() * 0.3f);
-                player.setVy(player.getVy() * 0.3f);
-            }
+            // 사라지는 효과 (페이드 아웃)
+            updateFade();
         }
+        sprite.draw(batch);
     }
 
-    private void bouncePlayer(Player player) {
-        float px = player.getX();
-        float py = player.getY();
-        float pr = player.getRadius();
-        float pvx = player.getVx();
-        float pvy = player.getVy();
-
-        float closestX = Math.max(x - width/2, Math.min(px, x + width/2));
-        float closestY = Math.max(y - height/2, Math.min(py, y + height/2));
-
-        float dx = px - closestX;
-        float dy = py - closestY;
-        float distance = (float)Math.sqrt(dx * dx + dy * dy);
-
-        if (distance < pr && distance > 0) {
-            float nx = dx / distance;
-            float ny = dy / distance;
-
-            float pushDistance = pr - distance;
-            player.setX(px + nx * pushDistance);
-            player.setY(py + ny * pushDistance);
-
-            float dotProduct = pvx * nx + pvy * ny;
-
-            float newVx = pvx - 2 * dotProduct * nx;
-            float newVy = pvy - 2 * dotProduct * ny;
-
-            player.setVx(newVx * bounceStrength);
-            player.setVy(newVy * bounceStrength);
+    // 모습이 프레임마다 바뀌지 않음 (움직이지 않고, 사라지지 않고, 효과가 켜졌으면 펄스/회전도 없음)
+    // -> StaticLayer 에 한 번만 그림
+    public boolean isStaticLook(boolean effects) {
+        if (sprite == null || canMove || lifetime > 0) return false;
+        return type == ObstacleType.PILLAR || !effects;
+    }
 
-            // 튕기는 효과음 재생
-            if (bounceSound != null) {
-                bounceSound.play(0.6f); // 볼륨 60%
-            }
-        }
+    // 스냅샷 저장 / 복원 (생성 파라미터는 LevelManager 가 따로 기록)
+    public void writeState(ByteBuffer buffer) {
+        buffer.putInt(id);
+        buffer.putInt(homeChunk);
+        buffer.putFloat(x).putFloat(y);
+        buffer.putFloat(vx).putFloat(vy);
+        buffer.putFloat(directionChangeTime);
+        buffer.put((byte)(isPlayerInside ? 1 : 0));
+        buffer.putFloat(age);
+        buffer.put((byte)(isDying ? 1 : 0));
+        buffer.putInt(dyingTick).putInt(expireTick);
+        buffer.putFloat(rotation);
     }
 
-    private void applySlow(Player player) {
-        player.setVx(player.getVx() * slowMultiplier);
-        player.setVy(player.getVy() * slowMultiplier);
+    public void readState(ByteBuffer buffer) {
+        setId(buffer.getInt());
+        homeChunk = buffer.getInt();
+        x = buffer.getFloat();
+        y = buffer.getFloat();
+        vx = buffer.getFloat();
+        vy = buffer.getFloat();
+        directionChangeTime = buffer.getFloat();
+        isPlayerInside = buffer.get() != 0;
+        age = buffer.getFloat();
+        isDying = buffer.get() != 0;
+        dyingTick = buffer.getInt();
+        expireTick = buffer.getInt();
+        rotation = buffer.getFloat();
 
-        // 얼음 발판 효과음 재생
-        if (slowZoneSound != null) {
-            slowZoneSound.play(0.8f); // 볼륨 50%
+        if (sprite != null) {
+            sprite.setPosition(x - halfWidth, y - halfHeight);
+            sprite.setRotation(rotation);
+            Color c = sprite.getColor();
+            sprite.setColor(c.r, c.g, c.b, 1f);
+            updateFade();
         }
     }
 
+    // 텍스처는 TextureAssets 가 공유/해제하므로 참조만 놓음
     public void dispose() {
-        if (texture != null) {
-            texture.dispose();
+        if (!disposed) {
+            disposed = true;
+            TRACKED.release();
         }
+        texture = null;
     }
 
     // 효과음 설정
@@ -403,12 +309,47 @@ public class Obstacle {
 
     // Getters
     public ObstacleType getType() { return type; }
+    public int getId() { return id; }
+    public void setId(int id) {
+        if (id != this.id) bakedStamp = 0;
+        this.id = id;
+    }
+    int getBakedStamp() { return bakedStamp; }
+    void setBakedStamp(int bakedStamp) { this.bakedStamp = bakedStamp; }
+    public int getHomeChunk() { return homeChunk; }
+    public void setHomeChunk(int homeChunk) { this.homeChunk = homeChunk; }
     public float getX() { return x; }
     public float getY() { return y; }
     public float getWidth() { return width; }
     public float getHeight() { return height; }
     public float getRadius() { return radius; }
+    public float getHalfWidth() { return halfWidth; }
+    public float getHalfHeight() { return halfHeight; }
     public boolean canMove() { return canMove; }
-    public boolean isExpired() { return lifetime > 0 && age >= lifetime; }
+    public float getMoveSpeed() { return moveSpeed; }
+    public float getLifetime() { return lifetime; }
+    public String getTexturePath() { return texturePath; }
+    // 헤드리스: 텍스처는 로드하지 않고 경로만 기록 (스냅샷/관전을 받는 쪽에서 로드)
+    public void setTexturePath(String texturePath) { this.texturePath = texturePath; }
     public boolean isDying() { return isDying; }
+    public void startDying() { isDying = true; }
+    public int getDyingTick() { return dyingTick; }
+    public int getExpireTick() { return expireTick; }
+
+    // 생성된 틱 기준으로 사라지기 시작 / 만료 틱 계산 (수명이 없으면 -1)
+    // 매 틱 age 를 더하던 때와 같은 틱: 80% 를 "넘는" 첫 틱, 수명에 "도달한" 첫 틱
+    public void scheduleLifetime(int spawnTick) {
+        if (lifetime <= 0) {
+            dyingTick = -1;
+            expireTick = -1;
+            return;
+        }
+        dyingTick = spawnTick + (int)Math.floor(lifetime * 0.8f * GameSimulation.TICKS_PER_SECOND) + 1;
+        expireTick = spawnTick + (int)Math.ceil(lifetime * GameSimulation.TICKS_PER_SECOND);
+    }
+    public float getRotation() { return rotation; }
+    public boolean isPlayerInside() { return isPlayerInside; }
+    public void setPlayerInside(boolean inside) { this.isPlayerInside = inside; }
+    public com.badlogic.gdx.audio.Sound getBounceSound() { return bounceSound; }
+    public com.badlogic.gdx.audio.Sound getSlowZoneSound() { return slowZoneSound; }
 }
@@ -0,0 +1,60 @@
+package io.game.test;
+
+import java.util.Arrays;
+
+// 장애물 한 종류의 처리 (종류마다 하나: PillarKernel, BouncyKernel, SlowZoneKernel)
+// GameSimulation 이 틱마다 같은 종류끼리 모아(add) 두고, 플레이어 충돌과 탄환 막기를 종류별로 한 번씩 부른다.
+// 위치/크기는 여기 배열로 따로 모아 두므로 반복문 안에서 종류를 묻거나 객체 필드를 따라가지 않는다.
+// 새 종류는 Obstacle.ObstacleType 에 상수를 추가하고 newKernel() 에서 이 클래스를 상속한 커널을 돌려주면 된다.
+public abstract class ObstacleKernel {
+    protected Obstacle[] obstacles = new Obstacle[8];
+    protected float[] x = new float[8];
+    protected float[] y = new float[8];
+    protected float[] halfWidth = new float[8];     // 원은 반지름
+    protected float[] halfHeight = new float[8];
+    protected int count;
+
+    // 플레이어 접촉 정보 (재사용)
+    protected final Collision.Contact contact = new Collision.Contact();
+
+    // 충돌 파티클 (없으면 null, 헤드리스/봇 미리보기)
+    protected ParticleSystem particles;
+
+    public void setParticles(ParticleSystem particles) {
+        this.particles = particles;
+    }
+
+    public void clear() {
+        Arrays.fill(obstacles, 0, count, null);
+        count = 0;
+    }
+
+    public void add(Obstacle obstacle) {
+        if (count == obstacles.length) {
+            int capacity = count * 2;
+            obstacles = Arrays.copyOf(obstacles, capacity);
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            halfWidth = Arrays.copyOf(halfWidth, capacity);
+            halfHeight = Arrays.copyOf(halfHeight, capacity);
+        }
+        obstacles[count] = obstacle;
+        x[count] = obstacle.getX();
+        y[count] = obstacle.getY();
+        halfWidth[count] = obstacle.getHalfWidth();
+        halfHeight[count] = obstacle.getHalfHeight();
+        count++;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    // 모아 둔 장애물과 플레이어 충돌 (밀어내기/튕기기/감속)
+    public abstract void collidePlayer(Player player);
+
+    // 탄환 좌표 배열과 검사해서 막힌 탄환을 hits 에 표시, 표시한 수 반환 (탄환을 막지 않는 종류는 0)
+    public int markBulletHits(float[] xs, float[] ys, float[] rs, int bulletCount, boolean[] hits) {
+        return 0;
+    }
+}
@@ -0,0 +1,221 @@
+package io.game.test;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// CPU 파티클 (탄환이 장애물에 막힘, 구름에 튕김, 게임 오버)
+// - 파티클 하나 = 배열마다 한 칸 (위치, 속도, 나이, 수명, 크기, 방출 종류). 파티클마다 객체를 만들지 않는다.
+// - 최대 capacity 개 (고정). 가득 차면 들어가는 만큼만 만들고 나머지는 버린 수로 셈 (getDroppedParticles)
+// - emit() 은 시뮬레이션 스레드에서도 부를 수 있다: 고정 크기 링에 값만 넣고 (생산자 하나) 렌더 스레드가 update() 에서
+//   꺼내 파티클로 만든다. 링이 가득 차면 그 방출을 버리고 셈 (getDroppedEmissions)
+// - update 는 배열을 한 번 도는 루프. 수명이 끝난 칸은 마지막 칸으로 채우므로 살아 있는 것은 항상 앞쪽 count 개
+// - 그리기는 흰 원 텍스처 하나를 색만 바꿔서 (배치가 끊기지 않음)
+// 퍼짐 난수는 자체 난수를 쓰므로 시뮬레이션 난수(같은 시드 = 같은 탄막)에 영향이 없다.
+// 비용 확인은 tools 의 ParticleBench (가득 찬 풀 갱신 비용과 할당량을 같은 수의 탄환 갱신과 비교)
+public class ParticleSystem {
+    public static final int DEFAULT_CAPACITY = 2048;
+    private static final int RING_SIZE = 256;           // 프레임 사이에 쌓일 수 있는 방출 요청 수 (2의 거듭제곱)
+    private static final int TEXTURE_SIZE = 16;
+    private static final float DRAG = 3f;               // 초당 속도 감쇠
+
+    // 방출 종류별 설정
+    public enum Emitter {
+        //      개수, 속도, 퍼짐(도), 수명(초), 크기, 색
+        IMPACT(6, 140f, 70f, 0.25f, 5f, 1f, 0.85f, 0.4f),
+        BOUNCE(10, 180f, 50f, 0.35f, 6f, 0.85f, 0.95f, 1f),
+        DEATH(48, 320f, 360f, 0.9f, 8f, 1f, 0.35f, 0.25f);
+
+        final int count;
+        final float speed;
+        final float spread;
+        final float life;
+        final float size;
+        final float r, g, b;
+
+        Emitter(int count, float speed, float spread, float life, float size, float r, float g, float b) {
+            this.count = count;
+            this.speed = speed;
+            this.spread = spread;
+            this.life = life;
+            this.size = size;
+            this.r = r;
+            this.g = g;
+            this.b = b;
+        }
+    }
+
+    private static final Emitter[] EMITTERS = Emitter.values();
+
+    // 파티클 (앞쪽 count 개만 살아 있음)
+    private final int capacity;
+    private final float[] x, y, vx, vy;
+    private final float[] age, life, size;
+    private final byte[] kind;
+    private int count;
+
+    // 방출 요청 링 (생산자 하나, 소비자는 렌더 스레드)
+    private final byte[] requestKind = new byte[RING_SIZE];
+    private final float[] requestX = new float[RING_SIZE];
+    private final float[] requestY = new float[RING_SIZE];
+    private final float[] requestDirX = new float[RING_SIZE];
+    private final float[] requestDirY = new float[RING_SIZE];
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+
+    private volatile boolean enabled = true;
+    private volatile long droppedEmissions;  // 생산자 전용 (읽기는 어디서나)
+    private long droppedParticles;          // 렌더 스레드 전용
+    private long emitted;
+
+    private final GameRandom random = new GameRandom(System.nanoTime());
+
+    // 렌더 스레드에서 처음 그릴 때 생성
+    private Texture texture;
+    private TextureRegion region;
+
+    public ParticleSystem(int capacity) {
+        this.capacity = capacity;
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        age = new float[capacity];
+        life = new float[capacity];
+        size = new float[capacity];
+        kind = new byte[capacity];
+    }
+
+    // 어느 스레드에서나 (단, 한 스레드만). 방향은 길이와 상관없음 (0 이면 사방으로)
+    public void emit(Emitter emitter, float px, float py, float dirX, float dirY) {
+        if (!enabled) return;
+        long slot = published.get();
+        if (slot - consumed.get() >= RING_SIZE) {
+            droppedEmissions++;
+            return;
+        }
+        int i = (int)(slot & (RING_SIZE - 1));
+        requestKind[i] = (byte)emitter.ordinal();
+        requestX[i] = px;
+        requestY[i] = py;
+        requestDirX[i] = dirX;
+        requestDirY[i] = dirY;
+        // 값을 다 쓴 뒤에 공개
+        published.lazySet(slot + 1);
+    }
+
+    // 렌더 스레드: 쌓인 방출을 파티클로 만들고 모두 dt 만큼 진행
+    public void update(float dt) {
+        long from = consumed.get();
+        long to = published.get();
+        for (long slot = from; slot < to; slot++) {
+            int i = (int)(slot & (RING_SIZE - 1));
+            spawn(EMITTERS[requestKind[i]], requestX[i], requestY[i], requestDirX[i], requestDirY[i]);
+        }
+        consumed.lazySet(to);
+
+        float damping = Math.max(0f, 1f - DRAG * dt);
+        int i = 0;
+        while (i < count) {
+            float a = age[i] + dt;
+            if (a >= life[i]) {
+                // 마지막 칸을 이 자리로 옮기고 같은 칸을 다시 검사
+                count--;
+                x[i] = x[count];
+                y[i] = y[count];
+                vx[i] = vx[count];
+                vy[i] = vy[count];
+                age[i] = age[count];
+                life[i] = life[count];
+                size[i] = size[count];
+                kind[i] = kind[count];
+                continue;
+            }
+            age[i] = a;
+            x[i] += vx[i] * dt;
+            y[i] += vy[i] * dt;
+            vx[i] *= damping;
+            vy[i] *= damping;
+            i++;
+        }
+    }
+
+    private void spawn(Emitter emitter, float px, float py, float dirX, float dirY) {
+        int room = capacity - count;
+        int spawned = Math.min(room, emitter.count);
+        droppedParticles += emitter.count - spawned;
+        emitted++;
+
+        float base = dirX == 0f && dirY == 0f ? 0f : (float)Math.toDegrees(Math.atan2(dirY, dirX));
+        for (int n = 0; n < spawned; n++) {
+            float angle = (float)Math.toRadians(base + (random.nextFloat() - 0.5f) * emitter.spread);
+            float speed = emitter.speed * (0.5f + random.nextFloat() * 0.5f);
+            int i = count++;
+            x[i] = px;
+            y[i] = py;
+            vx[i] = (float)Math.cos(angle) * speed;
+            vy[i] = (float)Math.sin(angle) * speed;
+            age[i] = 0f;
+            life[i] = emitter.life * (0.7f + random.nextFloat() * 0.3f);
+            size[i] = emitter.size;
+            kind[i] = (byte)emitter.ordinal();
+        }
+    }
+
+    // batch.begin() 안에서. 나이에 따라 작아지고 투명해짐
+    public void draw(SpriteBatch batch) {
+        if (count == 0) return;
+        if (region == null) {
+            createTexture();
+        }
+        for (int i = 0; i < count; i++) {
+            Emitter emitter = EMITTERS[kind[i]];
+            float t = 1f - age[i] / life[i];
+            float s = size[i] * (0.5f + 0.5f * t);
+            batch.setColor(emitter.r, emitter.g, emitter.b, t);
+            batch.draw(region, x[i] - s / 2f, y[i] - s / 2f, s, s);
+        }
+        batch.setColor(1f, 1f, 1f, 1f);
+    }
+
+    private void createTexture() {
+        Pixmap pixmap = new Pixmap(TEXTURE_SIZE, TEXTURE_SIZE, Pixmap.Format.RGBA8888);
+        pixmap.setColor(1f, 1f, 1f, 1f);
+        pixmap.fillCircle(TEXTURE_SIZE / 2, TEXTURE_SIZE / 2, TEXTURE_SIZE / 2 - 1);
+        texture = new Texture(pixmap);
+        texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        pixmap.dispose();
+        region = new TextureRegion(texture);
+        ResourceTracker.track(texture, "ParticleSystem", "particle", true);
+    }
+
+    // 화질 단계에서 효과를 끄면 새 방출을 받지 않음 (이미 있는 것은 끝까지)
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    // 렌더 스레드: 살아 있는 파티클을 모두 지움 (쌓인 방출도 버림)
+    public void clear() {
+        consumed.lazySet(published.get());
+        count = 0;
+    }
+
+    public int getCount() { return count; }
+    public int getCapacity() { return capacity; }
+    public long getEmitted() { return emitted; }
+    public long getDroppedEmissions() { return droppedEmissions; }
+    public long getDroppedParticles() { return droppedParticles; }
+
+    public void dispose() {
+        if (texture != null) {
+            ResourceTracker.release(texture);
+            texture.dispose();
+            texture = null;
+            region = null;
+        }
+        count = 0;
+    }
+}
@@ -0,0 +1,32 @@
+package io.game.test;
+
+// 기둥: 원형, 플레이어를 밀어내며 속도를 줄이고 탄환을 막음
+public class PillarKernel extends ObstacleKernel {
+    private static final float PUSH_DAMPING = 0.3f;
+
+    @Override
+    public void collidePlayer(Player player) {
+        float pr = player.getRadius();
+        for (int i = 0; i < count; i++) {
+            if (!Collision.circleVsCircle(player.getX(), player.getY(), pr, x[i], y[i], halfWidth[i], contact)) {
+                continue;
+            }
+            // 중심이 겹치면 방향을 알 수 없어서 그대로 둠
+            if (contact.distance <= 0) continue;
+
+            player.setX(player.getX() + contact.nx * contact.depth);
+            player.setY(player.getY() + contact.ny * contact.depth);
+            player.setVx(player.getVx() * PUSH_DAMPING);
+            player.setVy(player.getVy() * PUSH_DAMPING);
+        }
+    }
+
+    @Override
+    public int markBulletHits(float[] xs, float[] ys, float[] rs, int bulletCount, boolean[] hits) {
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            found += Collision.circlesVsCircle(xs, ys, rs, bulletCount, x[i], y[i], halfWidth[i], hits);
+        }
+        return found;
+    }
+}
@@ -3,6 +3,7 @@ package io.game.test;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import java.nio.ByteBuffer;
 
 public class Player {
     private Sprite sprite;
@@ -20,15 +21,32 @@ public class Player {
     // 플릭 쿨타임
     private float flickCooldown = 0.8f;      // 쿨타임 시간 (초)
     private float flickCooldownTimer = 0f;   // 현재 쿨타임 타이머
+    private int flickCount = 0;              // 이번 시도에서 실제로 적용된 플릭 수
+
+    // 생성/해제 짝 확인 (ResourceTracker)
+    private static final ResourceTracker.Counter TRACKED = ResourceTracker.counter("Player");
+    private boolean disposed;
 
     public Player(String texturePath, float scale, float startX, float startY) {
-        texture = new Texture(texturePath);
+        // 크기는 원본 기준, 텍스처는 그 크기를 덮는 축소본
+        radius = (TextureAssets.getSourceWidth(texturePath) * scale) / 2f;
+        texture = TextureAssets.get(texturePath, radius * 2f, radius * 2f);
         sprite = new Sprite(texture);
 
-        radius = (texture.getWidth() * scale) / 2f;
         sprite.setSize(radius * 2f, radius * 2f);
         sprite.setOriginCenter();
 
+        init(startX, startY);
+    }
+
+    // 헤드리스 (텍스처 없이 반지름만)
+    public Player(float radius, float startX, float startY) {
+        this.radius = radius;
+        init(startX, startY);
+    }
+
+    private void init(float startX, float startY) {
+        TRACKED.acquire();
         // 초기 위치 / 속도
         px = startX;
         py = startY;
@@ -41,6 +59,8 @@ public class Player {
     }
 
     public void render(SpriteBatch batch) {
+        if (sprite == null) return;
+
         sprite.setPosition(px - radius, py - radius);
 
         // 구르는 효과
@@ -96,6 +116,7 @@ public class Player {
 
         vx += ix;
         vy += iy;
+        flickCount++;
 
         // 쿨타임 시작
         flickCooldownTimer = flickCooldown;
@@ -107,12 +128,14 @@ public class Player {
     public float getVx() { return vx; }
     public float getVy() { return vy; }
     public float getRadius() { return radius; }
+    public float getRotation() { return rotation; }
     public float getFlickCooldown() { return flickCooldown; }
     public float getFlickCooldownTimer() { return flickCooldownTimer; }
     public float getFlickCooldownPercent() {
         return (flickCooldownTimer / flickCooldown) * 100f;
     }
     public boolean isFlickReady() { return flickCooldownTimer <= 0; }
+    public int getFlickCount() { return flickCount; }
 
     // Setters
     public void setX(float x) { this.px = x; }
@@ -121,7 +144,35 @@ public class Player {
     public void setVy(float vy) { this.vy = vy; }
     public void setFlickCooldown(float cooldown) { this.flickCooldown = cooldown; }
 
+    // 스냅샷 저장 / 복원
+    public void writeState(ByteBuffer buffer) {
+        buffer.putFloat(px).putFloat(py);
+        buffer.putFloat(vx).putFloat(vy);
+        buffer.putFloat(rotation);
+        buffer.putFloat(prevX).putFloat(prevY);
+        buffer.putFloat(flickCooldown).putFloat(flickCooldownTimer);
+        buffer.putInt(flickCount);
+    }
+
+    public void readState(ByteBuffer buffer) {
+        px = buffer.getFloat();
+        py = buffer.getFloat();
+        vx = buffer.getFloat();
+        vy = buffer.getFloat();
+        rotation = buffer.getFloat();
+        prevX = buffer.getFloat();
+        prevY = buffer.getFloat();
+        flickCooldown = buffer.getFloat();
+        flickCooldownTimer = buffer.getFloat();
+        flickCount = buffer.getInt();
+    }
+
+    // 텍스처는 TextureAssets 가 공유/해제하므로 참조만 놓음
     public void dispose() {
-        texture.dispose();
+        if (!disposed) {
+            disposed = true;
+            TRACKED.release();
+        }
+        texture = null;
     }
 }
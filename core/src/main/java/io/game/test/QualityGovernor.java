@@ -0,0 +1,141 @@
+package io.game.test;
+
+import com.badlogic.gdx.Gdx;
+
+import java.util.Arrays;
+
+// 프레임 예산 기반 화질 조절
+// 최근 프레임 시간(프레임 사이 간격)의 p90 을 보고 단계를 올리거나 내린다. 표시만 바꾸고 시뮬레이션은 건드리지 않는다.
+// 흔들리지 않게 (히스테리시스):
+// - 예산의 110% 를 넘는 구간이 DOWNGRADE_SECONDS 동안 이어져야 한 단계 낮춤
+// - 예산의 75% 아래로 UPGRADE_SECONDS 동안 여유가 있어야 한 단계 올림
+// - 단계를 바꾼 뒤 CHANGE_COOLDOWN_SECONDS 동안은 다시 바꾸지 않음
+// -Dgame.frameBudgetMs=16.7 로 예산, -Dgame.quality=0~3 으로 단계를 고정할 수 있다.
+public class QualityGovernor {
+
+    // 단계별 설정
+    public enum Tier {
+        //        애니메이션 주기(프레임), 효과, 동시 효과음(0 = 제한 없음), 정적 레이어 해상도 배율
+        HIGH(1, true, 0, 1f),
+        MEDIUM(2, true, 4, 1f),
+        LOW(4, false, 2, 1f),
+        MINIMUM(8, false, 1, 0.5f);
+
+        public final int animationInterval;  // 스프라이트 애니메이션을 몇 프레임마다 갱신할지
+        public final boolean effects;        // 펄스/회전 같은 장식 효과
+        public final int voiceCap;           // 동시에 울리는 효과음 수
+        public final float layerScale;       // 정적 레이어 FrameBuffer 해상도 (매 프레임 합성하는 픽셀 수가 제곱으로 줄어듦)
+
+        Tier(int animationInterval, boolean effects, int voiceCap, float layerScale) {
+            this.animationInterval = animationInterval;
+            this.effects = effects;
+            this.voiceCap = voiceCap;
+            this.layerScale = layerScale;
+        }
+    }
+
+    private static final int WINDOW = 60;                   // p90 을 계산할 최근 프레임 수
+    private static final float OVER_BUDGET = 1.10f;
+    private static final float UNDER_BUDGET = 0.75f;
+    private static final float DOWNGRADE_SECONDS = 1.0f;
+    private static final float UPGRADE_SECONDS = 3.0f;
+    private static final float CHANGE_COOLDOWN_SECONDS = 2.0f;
+
+    private final float budgetMs;
+    private final boolean locked;
+
+    private final float[] frameMs = new float[WINDOW];
+    private final float[] sorted = new float[WINDOW];
+    private int frameCount;
+    private long lastFrameNanos;
+
+    private Tier tier;
+    private float overBudgetTime;
+    private float underBudgetTime;
+    private float cooldown;
+    private long frameIndex;
+    private float lastP90Ms;
+
+    public QualityGovernor() {
+        this(Float.parseFloat(System.getProperty("game.frameBudgetMs", "16.7")),
+            Integer.getInteger("game.quality", -1));
+    }
+
+    // fixedTier 가 0~3 이면 그 단계로 고정
+    public QualityGovernor(float budgetMs, int fixedTier) {
+        this.budgetMs = budgetMs;
+        Tier[] tiers = Tier.values();
+        this.locked = fixedTier >= 0 && fixedTier < tiers.length;
+        this.tier = locked ? tiers[fixedTier] : Tier.HIGH;
+    }
+
+    // render() 시작마다 호출. 단계가 바뀌었으면 true
+    public boolean frame(long nowNanos) {
+        frameIndex++;
+        if (lastFrameNanos == 0) {
+            lastFrameNanos = nowNanos;
+            return false;
+        }
+        float ms = (nowNanos - lastFrameNanos) / 1e6f;
+        lastFrameNanos = nowNanos;
+        return frame(ms);
+    }
+
+    // 프레임 시간(ms) 하나 반영
+    public boolean frame(float ms) {
+        frameMs[frameCount % WINDOW] = ms;
+        frameCount++;
+        if (locked || frameCount < WINDOW) return false;
+
+        float seconds = ms / 1000f;
+        if (cooldown > 0) {
+            cooldown -= seconds;
+            return false;
+        }
+
+        System.arraycopy(frameMs, 0, sorted, 0, WINDOW);
+        Arrays.sort(sorted);
+        lastP90Ms = sorted[(int)(WINDOW * 0.9f)];
+
+        if (lastP90Ms > budgetMs * OVER_BUDGET) {
+            overBudgetTime += seconds;
+            underBudgetTime = 0;
+        } else if (lastP90Ms < budgetMs * UNDER_BUDGET) {
+            underBudgetTime += seconds;
+            overBudgetTime = 0;
+        } else {
+            overBudgetTime = 0;
+            underBudgetTime = 0;
+        }
+
+        Tier[] tiers = Tier.values();
+        if (overBudgetTime >= DOWNGRADE_SECONDS && tier.ordinal() < tiers.length - 1) {
+            return changeTier(tiers[tier.ordinal() + 1]);
+        }
+        if (underBudgetTime >= UPGRADE_SECONDS && tier.ordinal() > 0) {
+            return changeTier(tiers[tier.ordinal() - 1]);
+        }
+        return false;
+    }
+
+    private boolean changeTier(Tier next) {
+        if (Gdx.app != null) {
+            Gdx.app.log("Quality", String.format("%s -> %s (frame p90 %.1f ms, budget %.1f ms)",
+                tier, next, lastP90Ms, budgetMs));
+        }
+        tier = next;
+        overBudgetTime = 0;
+        underBudgetTime = 0;
+        cooldown = CHANGE_COOLDOWN_SECONDS;
+        return true;
+    }
+
+    // 이번 프레임에 스프라이트 애니메이션을 갱신할지
+    public boolean isAnimationFrame() {
+        return frameIndex % tier.animationInterval == 0;
+    }
+
+    public Tier getTier() { return tier; }
+    public float getBudgetMs() { return budgetMs; }
+    public float getLastP90Ms() { return lastP90Ms; }
+}
@@ -0,0 +1,234 @@
+package io.game.test;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Texture;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// GPU/오디오 리소스와 게임 오브젝트의 생성/해제 추적 (해제를 빼먹은 경로 찾기)
+// - Texture/Sound/Music 은 만든 곳에서 track(), 해제하는 곳에서 release(). 주인, 만든 곳 태그, 바이트를 기록한다.
+//   shared = 캐시(TextureAssets, AudioAssets 등)가 종료 때까지 들고 있는 것. 아니면 레벨에 딸린 것으로 본다.
+// - 탄환/장애물 같은 오브젝트는 수가 많아서 클래스별 Counter 로 살아 있는 수만 센다 (생성자에서 acquire, dispose 에서 release).
+// 레벨 전환(checkLevel) 때는 정리 직후라 레벨에 딸린 리소스가 남아 있으면 누수로 로그,
+// 종료(checkExit) 때는 남은 것 전부를 누수로 로그. snapshot()/leaksSince() 로 기준선과 비교할 수 있다.
+// 로그는 Gdx.app 이 있을 때만 (헤드리스에서는 반환값으로 확인)
+public final class ResourceTracker {
+    // 추적 중인 리소스 하나
+    private static final class Entry {
+        final String kind;
+        final String owner;
+        final String site;
+        final long bytes;
+        final boolean shared;
+        boolean reported;
+
+        Entry(String kind, String owner, String site, long bytes, boolean shared) {
+            this.kind = kind;
+            this.owner = owner;
+            this.site = site;
+            this.bytes = bytes;
+            this.shared = shared;
+        }
+    }
+
+    // 오브젝트 종류 하나의 살아 있는 수
+    public static final class Counter {
+        private final String owner;
+        private final AtomicInteger live = new AtomicInteger();
+        private final AtomicLong created = new AtomicLong();
+
+        private Counter(String owner) {
+            this.owner = owner;
+        }
+
+        public void acquire() {
+            live.incrementAndGet();
+            created.incrementAndGet();
+        }
+
+        public void release() {
+            live.decrementAndGet();
+        }
+
+        public String getOwner() { return owner; }
+        public int getLive() { return live.get(); }
+        public long getCreated() { return created.get(); }
+    }
+
+    // 어느 시점의 살아 있는 수 (Counter 는 등록 순서대로)
+    public static final class Snapshot {
+        final int resources;
+        final long bytes;
+        final int[] counts;
+
+        Snapshot(int resources, long bytes, int[] counts) {
+            this.resources = resources;
+            this.bytes = bytes;
+            this.counts = counts;
+        }
+
+        public int getResources() { return resources; }
+        public long getBytes() { return bytes; }
+    }
+
+    private static final IdentityHashMap<Object, Entry> entries = new IdentityHashMap<Object, Entry>();
+    private static final ArrayList<Counter> counters = new ArrayList<Counter>();
+    private static long liveBytes;
+
+    private ResourceTracker() {
+    }
+
+    // 클래스 초기화 때 한 번 (static final 필드로 들고 있을 것)
+    public static synchronized Counter counter(String owner) {
+        Counter counter = new Counter(owner);
+        counters.add(counter);
+        return counter;
+    }
+
+    public static synchronized void track(Object resource, String owner, String site, long bytes, boolean shared) {
+        if (resource == null) return;
+        Entry previous = entries.put(resource, new Entry(kindOf(resource), owner, site, bytes, shared));
+        if (previous != null) {
+            liveBytes -= previous.bytes;
+        }
+        liveBytes += bytes;
+    }
+
+    // 텍스처는 RGBA8888 기준 바이트
+    public static void track(Texture texture, String owner, String site, boolean shared) {
+        if (texture == null) return;
+        track(texture, owner, site, (long)texture.getWidth() * texture.getHeight() * 4, shared);
+    }
+
+    // dispose 직전에 호출 (추적하지 않던 것이면 무시)
+    public static synchronized void release(Object resource) {
+        if (resource == null) return;
+        Entry entry = entries.remove(resource);
+        if (entry != null) {
+            liveBytes -= entry.bytes;
+        }
+    }
+
+    private static String kindOf(Object resource) {
+        if (resource instanceof Texture) return "Texture";
+        if (resource instanceof Sound) return "Sound";
+        if (resource instanceof Music) return "Music";
+        return resource.getClass().getSimpleName();
+    }
+
+    public static synchronized int getLiveCount() {
+        return entries.size();
+    }
+
+    public static synchronized long getLiveBytes() {
+        return liveBytes;
+    }
+
+    public static synchronized int getLiveCount(String kind) {
+        int count = 0;
+        for (Entry entry : entries.values()) {
+            if (entry.kind.equals(kind)) count++;
+        }
+        return count;
+    }
+
+    public static synchronized Snapshot snapshot() {
+        int[] counts = new int[counters.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = counters.get(i).getLive();
+        }
+        return new Snapshot(entries.size(), liveBytes, counts);
+    }
+
+    // 기준선보다 늘어난 수 (리소스 + 오브젝트), 늘어난 것마다 로그
+    public static synchronized int leaksSince(Snapshot baseline, String label) {
+        int leaked = Math.max(0, entries.size() - baseline.resources);
+        if (leaked > 0) {
+            log(String.format("%s: %d resources (%+.1f KB) above baseline", label, leaked,
+                (liveBytes - baseline.bytes) / 1024f));
+        }
+        for (int i = 0; i < counters.size(); i++) {
+            int before = i < baseline.counts.length ? baseline.counts[i] : 0;
+            int growth = counters.get(i).getLive() - before;
+            if (growth > 0) {
+                log(String.format("%s: %d %s never disposed", label, growth, counters.get(i).getOwner()));
+                leaked += growth;
+            }
+        }
+        return leaked;
+    }
+
+    // 레벨 전환: 이전 레벨 정리 직후에 호출 (GL 스레드). 레벨에 딸린 리소스가 남아 있으면 누수
+    public static synchronized int checkLevel(String label) {
+        int leaked = 0;
+        for (Entry entry : entries.values()) {
+            if (entry.shared) continue;
+            leaked++;
+            if (!entry.reported) {
+                entry.reported = true;
+                log(String.format("%s: leaked %s %s from %s (%.1f KB)", label, entry.kind, entry.site,
+                    entry.owner, entry.bytes / 1024f));
+            }
+        }
+        log(label + ": " + summary());
+        return leaked;
+    }
+
+    // 종료: 모두 해제한 뒤에 호출. 남은 리소스와 오브젝트 수를 누수로 로그
+    public static synchronized int checkExit() {
+        int leaked = 0;
+        for (Entry entry : entries.values()) {
+            leaked++;
+            log(String.format("exit: leaked %s %s from %s (%.1f KB)", entry.kind, entry.site,
+                entry.owner, entry.bytes / 1024f));
+        }
+        for (Counter counter : counters) {
+            if (counter.getLive() != 0) {
+                leaked += Math.abs(counter.getLive());
+                log(String.format("exit: %d %s never disposed (%d created)", counter.getLive(),
+                    counter.getOwner(), counter.getCreated()));
+            }
+        }
+        if (leaked == 0) {
+            log("exit: all resources released");
+        }
+        return leaked;
+    }
+
+    // 종류별 살아 있는 수/바이트 + 오브젝트 수
+    public static synchronized String summary() {
+        ArrayList<String> kinds = new ArrayList<String>();
+        ArrayList<long[]> totals = new ArrayList<long[]>();
+        for (Entry entry : entries.values()) {
+            int index = kinds.indexOf(entry.kind);
+            if (index < 0) {
+                index = kinds.size();
+                kinds.add(entry.kind);
+                totals.add(new long[2]);
+            }
+            totals.get(index)[0]++;
+            totals.get(index)[1] += entry.bytes;
+        }
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < kinds.size(); i++) {
+            builder.append(String.format("%d %s %.1f KB, ", totals.get(i)[0], kinds.get(i), totals.get(i)[1] / 1024f));
+        }
+        builder.append("live");
+        for (Counter counter : counters) {
+            builder.append(' ').append(counter.getOwner()).append(' ').append(counter.getLive());
+        }
+        return builder.toString();
+    }
+
+    private static void log(String message) {
+        if (Gdx.app != null) {
+            Gdx.app.log("Resources", message);
+        }
+    }
+}
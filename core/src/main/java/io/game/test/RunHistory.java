@@ -0,0 +1,289 @@
+package io.game.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+// 플레이 기록 저장소 (레벨 시도 하나 = 고정 크기 레코드 하나, 파일 끝에 추가만 함)
+// 파일 전체를 메모리 매핑해서 쓰고 읽는다. 앞쪽 헤더에 레벨별 작은 색인이 있어서
+// "레벨 최고 기록"은 O(1), "최근 N개"는 O(N) (레벨별로는 같은 레벨 이전 기록을 가리키는 링크를 따라감).
+// 추가 순서: 레코드 -> 색인 -> 개수. 중간에 꺼지면 개수 밖의 레코드는 무시하고, 색인이 개수 밖을
+// 가리키면 열 때 레코드를 훑어 다시 만든다. 바이트 순서는 ByteBuffer 기본값(빅 엔디언)으로 고정.
+// 한 스레드에서만 쓸 것.
+public class RunHistory {
+    private static final int MAGIC = 0x32445248;   // "2DRH"
+    private static final int VERSION = 1;
+    public static final int RECORD_BYTES = 40;
+    public static final int MAX_LEVELS = 16;       // 색인하는 레벨 수 (그 이상은 기록만)
+    private static final int HEADER_BYTES = 512;
+    private static final int INDEX_OFFSET = 64;
+    private static final int LEVEL_INDEX_BYTES = 16;
+    private static final int INITIAL_RECORDS = 4096;
+
+    // 헤더 위치
+    private static final int COUNT_OFFSET = 16;
+
+    // 레벨 색인 안의 위치
+    private static final int BEST = 0;
+    private static final int LAST = 4;
+    private static final int ATTEMPTS = 8;
+    private static final int CLEARS = 12;
+
+    // 레코드 안의 위치
+    private static final int R_TIME = 0;
+    private static final int R_SEED = 8;
+    private static final int R_TICKS = 16;
+    private static final int R_DEATH_X = 20;
+    private static final int R_DEATH_Y = 24;
+    private static final int R_PREVIOUS = 28;      // 같은 레벨의 바로 앞 기록 (-1 = 없음)
+    private static final int R_FLICKS = 32;
+    private static final int R_LEVEL = 36;
+    private static final int R_CAUSE = 38;
+
+    public enum Cause { CLEARED, BULLET }
+
+    // 읽어 올 때 재사용하는 레코드
+    public static class Record {
+        public int index;
+        public long time;           // System.currentTimeMillis()
+        public long seed;
+        public int ticks;           // 생존 틱
+        public float deathX, deathY;
+        public int flicks;
+        public int level;           // 0부터
+        public Cause cause;
+
+        public float getSurvivalSeconds() {
+            return ticks / (float)GameSimulation.TICKS_PER_SECOND;
+        }
+    }
+
+    private final File file;
+    private final RandomAccessFile randomAccessFile;
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int count;
+    private final Cause[] causes = Cause.values();
+
+    public RunHistory(File file) throws IOException {
+        this.file = file;
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Could not create " + parent);
+        }
+        randomAccessFile = new RandomAccessFile(file, "rw");
+        channel = randomAccessFile.getChannel();
+
+        boolean created = channel.size() < HEADER_BYTES;
+        if (!created) {
+            map(channel.size());
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != RECORD_BYTES ||
+                buffer.getInt(12) != MAX_LEVELS) {
+                dispose();
+                throw new IOException("Unsupported run history format: " + file);
+            }
+            count = (int)buffer.getLong(COUNT_OFFSET);
+            if ((long)HEADER_BYTES + (long)count * RECORD_BYTES > channel.size()) {
+                count = (int)((channel.size() - HEADER_BYTES) / RECORD_BYTES);
+                buffer.putLong(COUNT_OFFSET, count);
+                rebuildIndex();
+            } else if (!isIndexValid()) {
+                rebuildIndex();
+            }
+        } else {
+            map(HEADER_BYTES + (long)INITIAL_RECORDS * RECORD_BYTES);
+            for (int i = 0; i < HEADER_BYTES; i += 4) {
+                buffer.putInt(i, 0);
+            }
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(8, RECORD_BYTES);
+            buffer.putInt(12, MAX_LEVELS);
+            for (int level = 0; level < MAX_LEVELS; level++) {
+                buffer.putInt(levelOffset(level) + BEST, -1);
+                buffer.putInt(levelOffset(level) + LAST, -1);
+            }
+            buffer.putLong(COUNT_OFFSET, 0);
+            count = 0;
+        }
+    }
+
+    // 시도 하나 추가, 레코드 번호 반환
+    public int append(int level, long seed, int ticks, float deathX, float deathY, int flicks, Cause cause) {
+        ensureCapacity(count + 1);
+        int index = count;
+        int offset = recordOffset(index);
+        boolean indexed = level >= 0 && level < MAX_LEVELS;
+        int levelOffset = indexed ? levelOffset(level) : 0;
+
+        buffer.putLong(offset + R_TIME, System.currentTimeMillis());
+        buffer.putLong(offset + R_SEED, seed);
+        buffer.putInt(offset + R_TICKS, ticks);
+        buffer.putFloat(offset + R_DEATH_X, deathX);
+        buffer.putFloat(offset + R_DEATH_Y, deathY);
+        buffer.putInt(offset + R_PREVIOUS, indexed ? buffer.getInt(levelOffset + LAST) : -1);
+        buffer.putInt(offset + R_FLICKS, flicks);
+        buffer.putShort(offset + R_LEVEL, (short)level);
+        buffer.put(offset + R_CAUSE, (byte)cause.ordinal());
+        buffer.put(offset + R_CAUSE + 1, (byte)0);
+
+        if (indexed) {
+            indexRecord(level, index, ticks, cause);
+        }
+        count = index + 1;
+        buffer.putLong(COUNT_OFFSET, count);
+        return index;
+    }
+
+    private void indexRecord(int level, int index, int ticks, Cause cause) {
+        int levelOffset = levelOffset(level);
+        buffer.putInt(levelOffset + LAST, index);
+        buffer.putInt(levelOffset + ATTEMPTS, buffer.getInt(levelOffset + ATTEMPTS) + 1);
+        if (cause == Cause.CLEARED) {
+            buffer.putInt(levelOffset + CLEARS, buffer.getInt(levelOffset + CLEARS) + 1);
+        }
+        // 최고 기록 = 가장 오래 버틴 것 (같으면 먼저 세운 기록)
+        int best = buffer.getInt(levelOffset + BEST);
+        if (best < 0 || ticks > buffer.getInt(recordOffset(best) + R_TICKS)) {
+            buffer.putInt(levelOffset + BEST, index);
+        }
+    }
+
+    // 레벨 최고 기록, 없으면 false
+    public boolean best(int level, Record out) {
+        if (level < 0 || level >= MAX_LEVELS) return false;
+        int best = buffer.getInt(levelOffset(level) + BEST);
+        if (best < 0) return false;
+        read(best, out);
+        return true;
+    }
+
+    // 최근 기록부터 최대 out.length 개, 읽은 수 반환
+    public int last(Record[] out) {
+        int n = 0;
+        for (int index = count - 1; index >= 0 && n < out.length; index--) {
+            read(index, out[n++]);
+        }
+        return n;
+    }
+
+    // 한 레벨의 최근 기록부터 최대 out.length 개
+    public int lastForLevel(int level, Record[] out) {
+        if (level < 0 || level >= MAX_LEVELS) return 0;
+        int n = 0;
+        int index = buffer.getInt(levelOffset(level) + LAST);
+        while (index >= 0 && n < out.length) {
+            read(index, out[n++]);
+            index = buffer.getInt(recordOffset(index) + R_PREVIOUS);
+        }
+        return n;
+    }
+
+    public void read(int index, Record out) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Record " + index + " of " + count);
+        }
+        int offset = recordOffset(index);
+        out.index = index;
+        out.time = buffer.getLong(offset + R_TIME);
+        out.seed = buffer.getLong(offset + R_SEED);
+        out.ticks = buffer.getInt(offset + R_TICKS);
+        out.deathX = buffer.getFloat(offset + R_DEATH_X);
+        out.deathY = buffer.getFloat(offset + R_DEATH_Y);
+        out.flicks = buffer.getInt(offset + R_FLICKS);
+        out.level = buffer.getShort(offset + R_LEVEL);
+        int cause = buffer.get(offset + R_CAUSE);
+        out.cause = cause >= 0 && cause < causes.length ? causes[cause] : Cause.BULLET;
+    }
+
+    public int getAttempts(int level) {
+        return level >= 0 && level < MAX_LEVELS ? buffer.getInt(levelOffset(level) + ATTEMPTS) : 0;
+    }
+
+    public int getClears(int level) {
+        return level >= 0 && level < MAX_LEVELS ? buffer.getInt(levelOffset(level) + CLEARS) : 0;
+    }
+
+    public int size() { return count; }
+    public File getFile() { return file; }
+
+    // 색인이 기록된 개수 밖을 가리키면 (추가 도중 종료) 다시 만들어야 함
+    private boolean isIndexValid() {
+        for (int level = 0; level < MAX_LEVELS; level++) {
+            int offset = levelOffset(level);
+            if (buffer.getInt(offset + BEST) >= count || buffer.getInt(offset + LAST) >= count) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rebuildIndex() {
+        for (int level = 0; level < MAX_LEVELS; level++) {
+            int offset = levelOffset(level);
+            buffer.putInt(offset + BEST, -1);
+            buffer.putInt(offset + LAST, -1);
+            buffer.putInt(offset + ATTEMPTS, 0);
+            buffer.putInt(offset + CLEARS, 0);
+        }
+        for (int index = 0; index < count; index++) {
+            int offset = recordOffset(index);
+            int level = buffer.getShort(offset + R_LEVEL);
+            if (level < 0 || level >= MAX_LEVELS) continue;
+            int cause = buffer.get(offset + R_CAUSE);
+            buffer.putInt(offset + R_PREVIOUS, buffer.getInt(levelOffset(level) + LAST));
+            indexRecord(level, index, buffer.getInt(offset + R_TICKS),
+                cause == Cause.CLEARED.ordinal() ? Cause.CLEARED : Cause.BULLET);
+        }
+    }
+
+    // 매핑이 모자라면 두 배로 늘려 다시 매핑 (예전 매핑은 GC 가 정리)
+    private void ensureCapacity(int records) {
+        long needed = HEADER_BYTES + (long)records * RECORD_BYTES;
+        if (needed <= buffer.capacity()) return;
+        long size = buffer.capacity();
+        while (size < needed) {
+            size *= 2;
+        }
+        try {
+            map(size);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not grow run history " + file, e);
+        }
+    }
+
+    private void map(long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Run history too large: " + file);
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    private static int levelOffset(int level) {
+        return INDEX_OFFSET + level * LEVEL_INDEX_BYTES;
+    }
+
+    private static int recordOffset(int index) {
+        return HEADER_BYTES + index * RECORD_BYTES;
+    }
+
+    // 디스크에 내려씀 (종료할 때)
+    public void force() {
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+
+    public void dispose() {
+        force();
+        buffer = null;
+        try {
+            channel.close();
+            randomAccessFile.close();
+        } catch (IOException e) {
+            // 닫기 실패는 무시
+        }
+    }
+}
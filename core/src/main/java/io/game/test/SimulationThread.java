@@ -0,0 +1,158 @@
+package io.game.test;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+// 시뮬레이션 전용 스레드
+// - 60Hz 고정 틱으로 GameSimulation 을 진행하고, 틱이 진행됐거나 명령이 실행된 틱마다 전체 상태를 StateSnapshot 으로 발행한다.
+//   처음 한 번은 그대로라도 발행한다.
+// - 발행 버퍼는 3개를 돌려 쓴다 (시뮬레이션이 쓰는 중 / 최신 / 렌더 스레드가 읽는 중).
+//   AtomicReference 교환만 쓰므로 양쪽 모두 락 없이 진행하고, 읽는 중인 버퍼는 덮어쓰지 않는다.
+// - 렌더 스레드의 입력/명령은 ConcurrentLinkedQueue(락 없는 큐)로 넘어와 다음 틱 직전에 실행된다.
+//   플릭은 FlickInput 이 이벤트 시각을 달아 따로 넘기고, 틱의 예정 시각이 그 시각을 지난 틱에서 적용된다.
+// 렌더 스레드는 latest() 로 받은 상태를 텍스처가 있는 자기 쪽 GameSimulation 에 복원해서 그린다.
+public class SimulationThread implements Runnable {
+    public static final long TICK_NANOS = 1000000000L / 60;
+    private static final int MAX_CATCH_UP_TICKS = 5;   // 이보다 밀리면 따라잡지 않고 기준 시각을 당김
+
+    // 시뮬레이션 스레드에서 실행할 명령
+    public interface Command {
+        void run(GameSimulation simulation);
+    }
+
+    // 발행되는 상태 하나
+    public static class Frame {
+        public final StateSnapshot state = new StateSnapshot();
+        public long sequence;       // 발행 순서 (0 = 아직 없음)
+        public int generation;      // 여기까지 실행된 명령 수 (재시작 명령이 반영된 상태인지 판단)
+        public long totalTicks;     // 지금까지 진행한 틱 수
+    }
+
+    private final GameSimulation simulation;
+    private final GameSession.Controller controller;
+    private FlickInput input;
+
+    private final ConcurrentLinkedQueue<Command> commands = new ConcurrentLinkedQueue<Command>();
+    private int postedCommands;     // 렌더 스레드 전용
+    private int executedCommands;   // 시뮬레이션 스레드 전용
+
+    private final AtomicReference<Frame> ready = new AtomicReference<Frame>(new Frame());
+    private Frame writing = new Frame();    // 시뮬레이션 스레드 전용
+    private Frame reading = new Frame();    // 렌더 스레드 전용
+    private long sequence;
+    private long totalTicks;
+
+    private volatile boolean paused;
+    private volatile boolean running;
+    private Thread thread;
+
+    // 틱 하나(명령 + 진행 + 발행)에 걸린 시간
+    private final LatencyHistogram tickTime = new LatencyHistogram();
+
+    public SimulationThread(GameSimulation simulation, GameSession.Controller controller) {
+        this.simulation = simulation;
+        this.controller = controller;
+    }
+
+    public void start() {
+        running = true;
+        thread = new Thread(this, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    // 렌더 스레드: 명령 전달. 반환값은 이 명령이 반영된 Frame.generation
+    public int post(Command command) {
+        commands.add(command);
+        return ++postedCommands;
+    }
+
+    // start() 전에: 플릭 입력 (봇이 있으면 그 뒤에 부름)
+    public void setInput(FlickInput input) {
+        input.setNext(controller);
+        this.input = input;
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    // 렌더 스레드: 가장 최근에 발행된 상태 (새로 발행된 게 없으면 지난번 것 그대로)
+    public Frame latest() {
+        Frame latest = ready.get();
+        if (latest.sequence > reading.sequence) {
+            // 시뮬레이션 스레드는 최신 것만 넣으므로 교환해서 받는 것은 확인한 것보다 같거나 새 상태
+            reading = ready.getAndSet(reading);
+        }
+        return reading;
+    }
+
+    @Override
+    public void run() {
+        long next = System.nanoTime();
+        while (running) {
+            long now = System.nanoTime();
+            if (now < next) {
+                LockSupport.parkNanos(next - now);
+                continue;
+            }
+            if (now - next > MAX_CATCH_UP_TICKS * TICK_NANOS) {
+                next = now;
+            }
+            tick(next);
+            next += TICK_NANOS;
+        }
+    }
+
+    // 명령 실행 -> (일시정지가 아니면) 한 틱 진행 -> 바뀐 게 있으면 발행. scheduledNanos = 이 틱의 예정 시각
+    // 일시정지 중이나 게임 오버/클리어 뒤에는 상태가 그대로이므로 발행하지 않는다 (렌더 쪽도 복원을 건너뜀)
+    void tick(long scheduledNanos) {
+        long start = System.nanoTime();
+        int executed = executedCommands;
+        Command command;
+        while ((command = commands.poll()) != null) {
+            command.run(simulation);
+            executedCommands++;
+        }
+        int ticks = 0;
+        if (!paused) {
+            if (input != null) {
+                input.beginTicks(scheduledNanos);
+                ticks = simulation.advance(GameSimulation.TICK_DT, input);
+            } else {
+                ticks = simulation.advance(GameSimulation.TICK_DT, controller);
+            }
+            totalTicks += ticks;
+        }
+        if (ticks > 0 || executedCommands != executed || sequence == 0) {
+            publish();
+        }
+        tickTime.record(System.nanoTime() - start);
+    }
+
+    private void publish() {
+        writing.state.save(simulation);
+        writing.sequence = ++sequence;
+        writing.generation = executedCommands;
+        writing.totalTicks = totalTicks;
+        writing = ready.getAndSet(writing);
+    }
+
+    // 시뮬레이션 스레드에서만 읽을 것 (종료 후에는 어디서든)
+    public LatencyHistogram getTickTime() { return tickTime; }
+    public GameSimulation getSimulation() { return simulation; }
+}
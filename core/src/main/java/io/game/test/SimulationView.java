@@ -0,0 +1,108 @@
+package io.game.test;
+
+// 렌더 스레드가 그리는 시뮬레이션(view)과 실제로 진행하는 시뮬레이션 사이의 동기화
+// 스레드 모드에서 진행 쪽은 시뮬레이션 스레드만 만지고, 렌더 스레드는 발행된 최신 상태를
+// 텍스처가 있는 view 에 복원해서 그린다 (복원은 LevelManager 가 오브젝트를 재사용하므로 할당 없음).
+// 스레드가 없으면 둘은 같은 객체이고 update() 안에서 고정 틱으로 진행한다.
+public class SimulationView {
+    private final GameSimulation view;
+    private final GameSimulation simulation;
+    private final FlickInput input;
+    private SimulationThread thread;
+
+    private long sequence;           // 마지막으로 복원한 발행 순서
+    private int generation;          // 그 상태에 반영된 명령 수
+    private long totalTicks;         // 그 상태까지 진행한 틱 수
+    private int awaitedGeneration;   // 재시작/다음 레벨 명령이 반영된 상태부터 결과를 판정
+
+    public SimulationView(GameSimulation view, GameSimulation simulation, FlickInput input) {
+        this.view = view;
+        this.simulation = simulation;
+        this.input = input;
+    }
+
+    // 진행 시작 (스레드 모드면 시뮬레이션 스레드를 띄움). controller 는 봇 (없으면 null)
+    public void start(GameSession.Controller controller) {
+        if (simulation == view) {
+            input.setNext(controller);
+            return;
+        }
+        thread = new SimulationThread(simulation, controller);
+        thread.setInput(input);
+        thread.start();
+    }
+
+    public void stop() {
+        if (thread != null) {
+            thread.stop();
+        }
+    }
+
+    // 그릴 상태 갱신, 이번 프레임에 진행된 틱 수 반환. running 이 아니면 진행하지 않음
+    public int update(float dt, boolean running) {
+        if (thread == null) {
+            if (!running) return 0;
+            // 이번 프레임 틱들의 예정 시각: 누적 시간이 한 틱을 넘은 시점부터 한 틱씩
+            input.beginTicks(System.nanoTime() - (long)((simulation.getAccumulator() + dt) * 1e9) +
+                SimulationThread.TICK_NANOS);
+            int ticks = simulation.advance(dt, input);
+            totalTicks += ticks;
+            return ticks;
+        }
+
+        thread.setPaused(!running);
+        SimulationThread.Frame frame = thread.latest();
+        if (frame.sequence == sequence) {
+            return 0;
+        }
+        sequence = frame.sequence;
+        generation = frame.generation;
+        frame.state.restore(view);
+
+        int ticks = (int)(frame.totalTicks - totalTicks);
+        totalTicks = frame.totalTicks;
+        return ticks;
+    }
+
+    // 시뮬레이션에 명령 실행 (스레드 모드면 다음 틱 전에 시뮬레이션 스레드에서)
+    public void run(SimulationThread.Command command) {
+        post(command);
+    }
+
+    // 명령을 실행하고, 그 명령이 반영된 상태가 보일 때까지 결과 판정을 미룸 (재시작/레벨 전환)
+    public void runAndAwait(SimulationThread.Command command) {
+        awaitedGeneration = post(command);
+    }
+
+    // 반환값: 이 명령이 반영된 상태의 generation
+    private int post(SimulationThread.Command command) {
+        if (thread != null) {
+            return thread.post(command);
+        }
+        command.run(simulation);
+        return 0;
+    }
+
+    // 마지막 명령이 반영된 상태를 보고 있는지
+    public boolean isCurrent() {
+        return generation >= awaitedGeneration;
+    }
+
+    // 지금 보이는 상태의 결과 (명령이 아직 반영되지 않았으면 NONE)
+    public GameSimulation.Outcome getOutcome() {
+        return isCurrent() ? view.getOutcome() : GameSimulation.Outcome.NONE;
+    }
+
+    // 진행 쪽 시뮬레이션 정리 (view 는 그리는 쪽이 정리)
+    public void dispose() {
+        stop();
+        if (simulation != view) {
+            simulation.getLevelManager().dispose();
+        }
+    }
+
+    public boolean isThreaded() { return simulation != view; }
+    public GameSimulation getView() { return view; }
+    public GameSimulation getSimulation() { return simulation; }
+    public long getTotalTicks() { return totalTicks; }
+}
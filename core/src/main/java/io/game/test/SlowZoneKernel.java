@@ -0,0 +1,35 @@
+package io.game.test;
+
+import com.badlogic.gdx.audio.Sound;
+
+// 얼음 발판: 사각형, 플레이어 중심이 들어오는 순간 한 번만 감속. 탄환은 통과
+public class SlowZoneKernel extends ObstacleKernel {
+    private static final float SLOW_MULTIPLIER = 0.4f;
+    private static final float SOUND_VOLUME = 0.8f;
+
+    @Override
+    public void collidePlayer(Player player) {
+        for (int i = 0; i < count; i++) {
+            float px = player.getX();
+            float py = player.getY();
+            boolean inside = px > x[i] - halfWidth[i] && px < x[i] + halfWidth[i] &&
+                py > y[i] - halfHeight[i] && py < y[i] + halfHeight[i];
+
+            Obstacle obstacle = obstacles[i];
+            if (!inside) {
+                obstacle.setPlayerInside(false);
+                continue;
+            }
+            if (obstacle.isPlayerInside()) continue;
+            obstacle.setPlayerInside(true);
+
+            player.setVx(player.getVx() * SLOW_MULTIPLIER);
+            player.setVy(player.getVy() * SLOW_MULTIPLIER);
+
+            Sound sound = obstacle.getSlowZoneSound();
+            if (sound != null) {
+                sound.play(SOUND_VOLUME);
+            }
+        }
+    }
+}
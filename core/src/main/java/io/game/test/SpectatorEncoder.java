@@ -0,0 +1,315 @@
+package io.game.test;
+
+import com.badlogic.gdx.graphics.Color;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+// 관전용 틱 단위 델타 인코더
+// 이전 틱에 보낸 상태를 기억해 두고 바뀐 것만 기록한다.
+// 비교 기준은 프레임을 끝까지 기록한 뒤에만 바꾼다 (버퍼가 모자라 다시 인코딩해도 같은 프레임이 나옴).
+//
+// 프레임 구성 (빅 엔디언)
+//   int   길이 (이 4바이트 제외)
+//   byte  종류 (FRAME_DELTA / FRAME_KEY)
+//   int   틱, float dt, byte 레벨 번호
+//   플레이어: byte 변경 마스크 + 바뀐 float 들
+//   적:       short 개수, 변경 비트마스크 (개수 / 8 올림 바이트) + 바뀐 적의 x, y
+//   탄환:     short 제거 수 + id[], short 생성 수 + (id, x, y, vx, vy, r, rgba)[],
+//             short 보정 수 + (id, x, y)[]  (예측 x += vx * dt 와 다른 것만)
+//   장애물:   short 제거 수 + id[], short 생성 수 + (id, type, 텍스처, x, y, w, h, r)[],
+//             short 이동 수 + (id, x, y)[]
+public class SpectatorEncoder {
+    public static final byte FRAME_DELTA = 1;
+    public static final byte FRAME_KEY = 2;
+
+    public static final int PLAYER_FIELDS = 6; // x, y, vx, vy, rotation, cooldown
+
+    // 이전 틱 상태
+    private final float[] lastPlayer = new float[PLAYER_FIELDS];
+    private final float[] currentPlayer = new float[PLAYER_FIELDS];
+    private int lastLevelIndex = -1;
+    private int lastEnemyCount = 0;
+    private float[] lastEnemyX = new float[32];
+    private float[] lastEnemyY = new float[32];
+
+    private int[] lastBulletIds = new int[256];
+    private float[] lastBulletX = new float[256];
+    private float[] lastBulletY = new float[256];
+    private float[] lastBulletVx = new float[256];
+    private float[] lastBulletVy = new float[256];
+    private int lastBulletCount = 0;
+
+    private int[] lastObstacleIds = new int[32];
+    private float[] lastObstacleX = new float[32];
+    private float[] lastObstacleY = new float[32];
+    private int lastObstacleCount = 0;
+
+    // 측정값
+    private long lastEncodeNanos;
+    private int lastFrameBytes;
+
+    // 델타 프레임: 이전 틱과 비교하고, 현재 상태를 다음 비교 기준으로 저장
+    public void encodeDelta(ByteBuffer out, int tick, float dt, LevelManager levelManager) {
+        encode(out, FRAME_DELTA, tick, dt, levelManager);
+    }
+
+    // 키 프레임: 빈 상태와 비교 (새로 접속한 관전자용). 비교 기준은 바꾸지 않는다.
+    public void encodeKeyframe(ByteBuffer out, int tick, float dt, LevelManager levelManager) {
+        encode(out, FRAME_KEY, tick, dt, levelManager);
+    }
+
+    private void encode(ByteBuffer out, byte frameType, int tick, float dt, LevelManager levelManager) {
+        long start = System.nanoTime();
+        boolean full = frameType == FRAME_KEY;
+        int levelIndex = levelManager.getCurrentLevelNumber() - 1;
+        boolean levelChanged = full || levelIndex != lastLevelIndex;
+
+        int frameStart = out.position();
+        out.putInt(0); // 길이는 마지막에 채움
+        out.put(frameType);
+        out.putInt(tick);
+        out.putFloat(dt);
+        out.put((byte)levelIndex);
+
+        encodePlayer(out, levelManager.getPlayer(), full);
+        encodeEnemies(out, levelManager.getEnemies(), levelChanged);
+        encodeBullets(out, levelManager.getBullets(), dt, full);
+        encodeObstacles(out, levelManager.getObstacles(), full);
+
+        out.putInt(frameStart, out.position() - frameStart - 4);
+
+        if (!full) {
+            lastLevelIndex = levelIndex;
+            remember(levelManager);
+        }
+        lastFrameBytes = out.position() - frameStart;
+        lastEncodeNanos = System.nanoTime() - start;
+    }
+
+    private void encodePlayer(ByteBuffer out, Player player, boolean full) {
+        currentPlayer[0] = player.getX();
+        currentPlayer[1] = player.getY();
+        currentPlayer[2] = player.getVx();
+        currentPlayer[3] = player.getVy();
+        currentPlayer[4] = player.getRotation();
+        currentPlayer[5] = player.getFlickCooldownTimer();
+
+        int mask = 0;
+        for (int i = 0; i < PLAYER_FIELDS; i++) {
+            if (full || Float.floatToRawIntBits(currentPlayer[i]) != Float.floatToRawIntBits(lastPlayer[i])) {
+                mask |= 1 << i;
+            }
+        }
+        out.put((byte)mask);
+        for (int i = 0; i < PLAYER_FIELDS; i++) {
+            if ((mask & (1 << i)) != 0) {
+                out.putFloat(currentPlayer[i]);
+            }
+        }
+    }
+
+    private void encodeEnemies(ByteBuffer out, ArrayList<Enemy> enemies, boolean levelChanged) {
+        int count = enemies.size();
+        boolean all = levelChanged || count != lastEnemyCount;
+
+        out.putShort((short)count);
+        int maskPosition = out.position();
+        int maskBytes = (count + 7) / 8;
+        for (int i = 0; i < maskBytes; i++) {
+            out.put((byte)0);
+        }
+        for (int i = 0; i < count; i++) {
+            Enemy enemy = enemies.get(i);
+            if (all || enemy.getX() != lastEnemyX[i] || enemy.getY() != lastEnemyY[i]) {
+                int index = maskPosition + i / 8;
+                out.put(index, (byte)(out.get(index) | (1 << (i % 8))));
+                out.putFloat(enemy.getX()).putFloat(enemy.getY());
+            }
+        }
+    }
+
+    // 탄환 리스트는 id 오름차순으로 유지되므로 이전 목록과 병합하듯 비교한다.
+    private void encodeBullets(ByteBuffer out, ArrayList<Bullet> bullets, float dt, boolean full) {
+        int count = bullets.size();
+        int previousCount = full ? 0 : lastBulletCount;
+
+        // 제거된 탄환
+        int countPosition = out.position();
+        out.putShort((short)0);
+        int killed = 0;
+        int j = 0;
+        for (int i = 0; i < previousCount; i++) {
+            int id = lastBulletIds[i];
+            while (j < count && bullets.get(j).getId() < id) j++;
+            if (j >= count || bullets.get(j).getId() != id) {
+                out.putInt(id);
+                killed++;
+            }
+        }
+        out.putShort(countPosition, (short)killed);
+
+        // 새로 생긴 탄환
+        countPosition = out.position();
+        out.putShort((short)0);
+        int spawned = 0;
+        j = 0;
+        for (int i = 0; i < count; i++) {
+            Bullet bullet = bullets.get(i);
+            while (j < previousCount && lastBulletIds[j] < bullet.getId()) j++;
+            if (j >= previousCount || lastBulletIds[j] != bullet.getId()) {
+                out.putInt(bullet.getId());
+                out.putFloat(bullet.getX()).putFloat(bullet.getY());
+                out.putFloat(bullet.getVx()).putFloat(bullet.getVy());
+                out.putFloat(bullet.getRadius());
+                out.putInt(toRgba8888(bullet.getColor()));
+                spawned++;
+            }
+        }
+        out.putShort(countPosition, (short)spawned);
+
+        // 위치 보정 (관전자는 x += vx * dt 로 예측)
+        countPosition = out.position();
+        out.putShort((short)0);
+        int corrected = 0;
+        j = 0;
+        for (int i = 0; i < count; i++) {
+            Bullet bullet = bullets.get(i);
+            while (j < previousCount && lastBulletIds[j] < bullet.getId()) j++;
+            if (j < previousCount && lastBulletIds[j] == bullet.getId()) {
+                float predictedX = lastBulletX[j] + lastBulletVx[j] * dt;
+                float predictedY = lastBulletY[j] + lastBulletVy[j] * dt;
+                if (predictedX != bullet.getX() || predictedY != bullet.getY()) {
+                    out.putInt(bullet.getId());
+                    out.putFloat(bullet.getX()).putFloat(bullet.getY());
+                    corrected++;
+                }
+            }
+        }
+        out.putShort(countPosition, (short)corrected);
+    }
+
+    // 장애물 리스트도 id 오름차순
+    private void encodeObstacles(ByteBuffer out, ArrayList<Obstacle> obstacles, boolean full) {
+        int count = obstacles.size();
+        int previousCount = full ? 0 : lastObstacleCount;
+
+        // 제거
+        int countPosition = out.position();
+        out.putShort((short)0);
+        int removed = 0;
+        int j = 0;
+        for (int i = 0; i < previousCount; i++) {
+            int id = lastObstacleIds[i];
+            while (j < count && obstacles.get(j).getId() < id) j++;
+            if (j >= count || obstacles.get(j).getId() != id) {
+                out.putInt(id);
+                removed++;
+            }
+        }
+        out.putShort(countPosition, (short)removed);
+
+        // 생성
+        countPosition = out.position();
+        out.putShort((short)0);
+        int spawned = 0;
+        j = 0;
+        for (int i = 0; i < count; i++) {
+            Obstacle obstacle = obstacles.get(i);
+            while (j < previousCount && lastObstacleIds[j] < obstacle.getId()) j++;
+            if (j >= previousCount || lastObstacleIds[j] != obstacle.getId()) {
+                out.putInt(obstacle.getId());
+                out.put((byte)obstacle.getType().ordinal());
+                String texturePath = obstacle.getTexturePath();
+                byte[] texture = texturePath != null ? texturePath.getBytes(StandardCharsets.UTF_8) : new byte[0];
+                out.put((byte)texture.length);
+                out.put(texture);
+                out.putFloat(obstacle.getX()).putFloat(obstacle.getY());
+                out.putFloat(obstacle.getWidth()).putFloat(obstacle.getHeight());
+                out.putFloat(obstacle.getRadius());
+                spawned++;
+            }
+        }
+        out.putShort(countPosition, (short)spawned);
+
+        // 이동
+        countPosition = out.position();
+        out.putShort((short)0);
+        int moved = 0;
+        j = 0;
+        for (int i = 0; i < count; i++) {
+            Obstacle obstacle = obstacles.get(i);
+            while (j < previousCount && lastObstacleIds[j] < obstacle.getId()) j++;
+            if (j < previousCount && lastObstacleIds[j] == obstacle.getId() &&
+                (lastObstacleX[j] != obstacle.getX() || lastObstacleY[j] != obstacle.getY())) {
+                out.putInt(obstacle.getId());
+                out.putFloat(obstacle.getX()).putFloat(obstacle.getY());
+                moved++;
+            }
+        }
+        out.putShort(countPosition, (short)moved);
+    }
+
+    // 프레임을 다 기록한 뒤 현재 상태를 다음 델타의 비교 기준으로
+    private void remember(LevelManager levelManager) {
+        System.arraycopy(currentPlayer, 0, lastPlayer, 0, PLAYER_FIELDS);
+
+        ArrayList<Enemy> enemies = levelManager.getEnemies();
+        int enemyCount = enemies.size();
+        if (lastEnemyX.length < enemyCount) {
+            int capacity = Math.max(enemyCount, lastEnemyX.length * 2);
+            lastEnemyX = new float[capacity];
+            lastEnemyY = new float[capacity];
+        }
+        for (int i = 0; i < enemyCount; i++) {
+            lastEnemyX[i] = enemies.get(i).getX();
+            lastEnemyY[i] = enemies.get(i).getY();
+        }
+        lastEnemyCount = enemyCount;
+
+        ArrayList<Bullet> bullets = levelManager.getBullets();
+        int count = bullets.size();
+        if (lastBulletIds.length < count) {
+            int capacity = Math.max(count, lastBulletIds.length * 2);
+            lastBulletIds = new int[capacity];
+            lastBulletX = new float[capacity];
+            lastBulletY = new float[capacity];
+            lastBulletVx = new float[capacity];
+            lastBulletVy = new float[capacity];
+        }
+        for (int i = 0; i < count; i++) {
+            Bullet bullet = bullets.get(i);
+            lastBulletIds[i] = bullet.getId();
+            lastBulletX[i] = bullet.getX();
+            lastBulletY[i] = bullet.getY();
+            lastBulletVx[i] = bullet.getVx();
+            lastBulletVy[i] = bullet.getVy();
+        }
+        lastBulletCount = count;
+
+        ArrayList<Obstacle> obstacles = levelManager.getObstacles();
+        count = obstacles.size();
+        if (lastObstacleIds.length < count) {
+            int capacity = Math.max(count, lastObstacleIds.length * 2);
+            lastObstacleIds = new int[capacity];
+            lastObstacleX = new float[capacity];
+            lastObstacleY = new float[capacity];
+        }
+        for (int i = 0; i < count; i++) {
+            Obstacle obstacle = obstacles.get(i);
+            lastObstacleIds[i] = obstacle.getId();
+            lastObstacleX[i] = obstacle.getX();
+            lastObstacleY[i] = obstacle.getY();
+        }
+        lastObstacleCount = count;
+    }
+
+    private static int toRgba8888(Color color) {
+        return ((int)(color.r * 255) << 24) | ((int)(color.g * 255) << 16) |
+            ((int)(color.b * 255) << 8) | (int)(color.a * 255);
+    }
+
+    // Getters
+    public long getLastEncodeNanos() { return lastEncodeNanos; }
+    public int getLastFrameBytes() { return lastFrameBytes; }
+}
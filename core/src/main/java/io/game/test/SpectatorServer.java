@@ -0,0 +1,193 @@
+package io.game.test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+
+// 관전 스트림 서버 (논블로킹 NIO, 루프백 TCP)
+// 렌더 스레드에서 틱마다 publish() 를 호출한다. 어떤 호출도 블로킹하지 않는다.
+public class SpectatorServer {
+    private static final int FRAME_BUFFER_SIZE = 256 * 1024;
+    private static final int CLIENT_BUFFER_SIZE = 512 * 1024;
+
+    private final ServerSocketChannel serverChannel;
+    private final ArrayList<Client> clients = new ArrayList<Client>();
+    private final SpectatorEncoder encoder = new SpectatorEncoder();
+
+    // 모자라면 두 배로 늘려서 다시 인코딩 (인코더는 다 기록한 뒤에만 비교 기준을 바꿈)
+    private ByteBuffer deltaFrame = ByteBuffer.allocateDirect(FRAME_BUFFER_SIZE);
+    private ByteBuffer keyFrame = ByteBuffer.allocateDirect(FRAME_BUFFER_SIZE);
+
+    // 대역폭 측정 (1초 단위)
+    private long windowStartNanos = System.nanoTime();
+    private long windowBytes;
+    private long bytesPerSecond;
+    private long totalBytes;
+
+    private static class Client {
+        final SocketChannel channel;
+        ByteBuffer outbox = ByteBuffer.allocateDirect(CLIENT_BUFFER_SIZE);
+        boolean needsKeyframe = true;
+
+        Client(SocketChannel channel) {
+            this.channel = channel;
+        }
+    }
+
+    public SpectatorServer(int port) throws IOException {
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.configureBlocking(false);
+        serverChannel.bind(new InetSocketAddress("127.0.0.1", port));
+    }
+
+    public void publish(int tick, float dt, LevelManager levelManager) {
+        Object phase = GameEvents.beginPhase();
+        acceptClients();
+
+        // 델타는 관전자가 없어도 매 틱 인코딩해야 비교 기준이 유지된다
+        while (true) {
+            deltaFrame.clear();
+            try {
+                encoder.encodeDelta(deltaFrame, tick, dt, levelManager);
+                break;
+            } catch (BufferOverflowException e) {
+                deltaFrame = ByteBuffer.allocateDirect(deltaFrame.capacity() * 2);
+            }
+        }
+        deltaFrame.flip();
+
+        boolean keyframeEncoded = false;
+        Iterator<Client> iterator = clients.iterator();
+        while (iterator.hasNext()) {
+            Client client = iterator.next();
+
+            if (client.needsKeyframe) {
+                if (!keyframeEncoded) {
+                    while (true) {
+                        keyFrame.clear();
+                        try {
+                            encoder.encodeKeyframe(keyFrame, tick, dt, levelManager);
+                            break;
+                        } catch (BufferOverflowException e) {
+                            keyFrame = ByteBuffer.allocateDirect(keyFrame.capacity() * 2);
+                        }
+                    }
+                    keyFrame.flip();
+                    keyframeEncoded = true;
+                }
+                // 관전자는 키 프레임을 받으면 상태를 초기화하므로 밀린 델타 뒤에 붙여도 된다
+                client.needsKeyframe = false;
+                if (!enqueue(client, keyFrame)) {
+                    close(client);
+                    iterator.remove();
+                    continue;
+                }
+            } else if (!enqueue(client, deltaFrame)) {
+                close(client);
+                iterator.remove();
+                continue;
+            }
+
+            if (!flush(client)) {
+                close(client);
+                iterator.remove();
+            }
+        }
+
+        updateBandwidth();
+        GameEvents.endPhase(phase, "SpectatorPublish");
+    }
+
+    // 스냅샷 복원처럼 상태가 크게 바뀐 경우 모든 관전자에게 키 프레임을 다시 보냄
+    public void requestKeyframe() {
+        for (Client client : clients) {
+            client.needsKeyframe = true;
+        }
+    }
+
+    private void acceptClients() {
+        try {
+            SocketChannel channel;
+            while ((channel = serverChannel.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                clients.add(new Client(channel));
+            }
+        } catch (IOException e) {
+            // 접속 실패는 무시하고 다음 틱에 다시 시도
+        }
+    }
+
+    // 너무 느린 관전자는 버퍼가 넘치면 연결을 끊는다 (다시 접속하면 키 프레임부터 받음)
+    // 프레임 하나가 보낼 버퍼의 절반을 넘으면 버퍼를 늘림 (큰 월드의 키 프레임)
+    private boolean enqueue(Client client, ByteBuffer frame) {
+        if (client.outbox.capacity() < frame.remaining() * 2) {
+            ByteBuffer larger = ByteBuffer.allocateDirect(frame.remaining() * 2);
+            client.outbox.flip();
+            larger.put(client.outbox);
+            client.outbox = larger;
+        }
+        if (client.outbox.remaining() < frame.remaining()) {
+            return false;
+        }
+        client.outbox.put(frame.duplicate());
+        return true;
+    }
+
+    private boolean flush(Client client) {
+        try {
+            client.outbox.flip();
+            int written = client.channel.write(client.outbox);
+            client.outbox.compact();
+            windowBytes += written;
+            totalBytes += written;
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void updateBandwidth() {
+        long now = System.nanoTime();
+        long elapsed = now - windowStartNanos;
+        if (elapsed >= 1000000000L) {
+            bytesPerSecond = windowBytes * 1000000000L / elapsed;
+            windowBytes = 0;
+            windowStartNanos = now;
+        }
+    }
+
+    private void close(Client client) {
+        try {
+            client.channel.close();
+        } catch (IOException e) {
+            // 이미 끊어진 연결
+        }
+    }
+
+    public void dispose() {
+        for (Client client : clients) {
+            close(client);
+        }
+        clients.clear();
+        try {
+            serverChannel.close();
+        } catch (IOException e) {
+            // 종료 중
+        }
+    }
+
+    // Getters
+    public int getPort() { return serverChannel.socket().getLocalPort(); }
+    public int getClientCount() { return clients.size(); }
+    public long getBytesPerSecond() { return bytesPerSecond; }
+    public long getTotalBytes() { return totalBytes; }
+    public long getLastEncodeNanos() { return encoder.getLastEncodeNanos(); }
+    public int getLastFrameBytes() { return encoder.getLastFrameBytes(); }
+}
@@ -0,0 +1,190 @@
+package io.game.test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// 헤드리스 관전 클라이언트
+// SpectatorServer 의 프레임을 받아 상태를 재구성한다 (그래픽 없음). 통계 출력은 SpectatorWatch 도구.
+public class SpectatorViewer {
+
+    // 재구성된 상태
+    public static class RemoteBullet {
+        public float x, y, vx, vy, radius;
+        public int rgba;
+    }
+
+    public static class RemoteObstacle {
+        public Obstacle.ObstacleType type;
+        public String texturePath;
+        public float x, y, width, height, radius;
+    }
+
+    private final float[] player = new float[SpectatorEncoder.PLAYER_FIELDS];
+    private int levelIndex;
+    private int tick;
+    private int enemyCount;
+    private float[] enemyX = new float[32];
+    private float[] enemyY = new float[32];
+    private byte[] enemyMask = new byte[4];
+    private final HashMap<Integer, RemoteBullet> bullets = new HashMap<Integer, RemoteBullet>();
+    private final HashMap<Integer, RemoteObstacle> obstacles = new HashMap<Integer, RemoteObstacle>();
+
+    // 받은 바이트 (프레임이 잘려서 오면 다음 read 까지 남겨 둠)
+    private ByteBuffer input = ByteBuffer.allocateDirect(1024 * 1024);
+    private long receivedBytes;
+    private int receivedFrames;
+
+    // 채널에서 읽을 수 있는 만큼 읽고 완성된 프레임을 모두 적용. 적용한 프레임 수, 연결이 끊겼으면 -1
+    // 논블로킹 채널이면 기다리지 않는다.
+    public int read(ReadableByteChannel channel) throws IOException {
+        if (channel.read(input) < 0) {
+            return -1;
+        }
+        input.flip();
+        int frames = 0;
+        while (input.remaining() >= 4) {
+            int length = input.getInt(input.position());
+            if (input.remaining() < 4 + length) {
+                // 버퍼보다 큰 프레임이면 늘려서 나머지를 받음
+                if (4 + length > input.capacity()) {
+                    ByteBuffer larger = ByteBuffer.allocateDirect(Math.max(input.capacity() * 2, 4 + length));
+                    larger.put(input);
+                    input = larger;
+                    return frames;
+                }
+                break;
+            }
+            input.position(input.position() + 4);
+            ByteBuffer frame = input.slice();
+            frame.limit(length);
+            apply(frame);
+            input.position(input.position() + length);
+            receivedBytes += 4 + length;
+            frames++;
+        }
+        input.compact();
+        receivedFrames += frames;
+        return frames;
+    }
+
+    // 프레임 하나 적용 (길이 필드 다음부터)
+    public void apply(ByteBuffer frame) {
+        byte frameType = frame.get();
+        if (frameType == SpectatorEncoder.FRAME_KEY) {
+            bullets.clear();
+            obstacles.clear();
+        }
+        tick = frame.getInt();
+        float dt = frame.getFloat();
+        levelIndex = frame.get();
+
+        // 플레이어
+        int mask = frame.get();
+        for (int i = 0; i < SpectatorEncoder.PLAYER_FIELDS; i++) {
+            if ((mask & (1 << i)) != 0) {
+                player[i] = frame.getFloat();
+            }
+        }
+
+        // 적
+        enemyCount = frame.getShort();
+        int maskBytes = (enemyCount + 7) / 8;
+        if (enemyX.length < enemyCount) {
+            int capacity = Math.max(enemyCount, enemyX.length * 2);
+            enemyX = Arrays.copyOf(enemyX, capacity);
+            enemyY = Arrays.copyOf(enemyY, capacity);
+        }
+        if (enemyMask.length < maskBytes) {
+            enemyMask = new byte[maskBytes];
+        }
+        frame.get(enemyMask, 0, maskBytes);
+        for (int i = 0; i < enemyCount; i++) {
+            if ((enemyMask[i / 8] & (1 << (i % 8))) != 0) {
+                enemyX[i] = frame.getFloat();
+                enemyY[i] = frame.getFloat();
+            }
+        }
+
+        // 탄환: 제거 -> 예측 이동 -> 생성 -> 보정
+        int killed = frame.getShort();
+        for (int i = 0; i < killed; i++) {
+            bullets.remove(frame.getInt());
+        }
+        for (RemoteBullet bullet : bullets.values()) {
+            bullet.x += bullet.vx * dt;
+            bullet.y += bullet.vy * dt;
+        }
+        int spawned = frame.getShort();
+        for (int i = 0; i < spawned; i++) {
+            RemoteBullet bullet = new RemoteBullet();
+            int id = frame.getInt();
+            bullet.x = frame.getFloat();
+            bullet.y = frame.getFloat();
+            bullet.vx = frame.getFloat();
+            bullet.vy = frame.getFloat();
+            bullet.radius = frame.getFloat();
+            bullet.rgba = frame.getInt();
+            bullets.put(id, bullet);
+        }
+        int corrected = frame.getShort();
+        for (int i = 0; i < corrected; i++) {
+            RemoteBullet bullet = bullets.get(frame.getInt());
+            float x = frame.getFloat();
+            float y = frame.getFloat();
+            if (bullet != null) {
+                bullet.x = x;
+                bullet.y = y;
+            }
+        }
+
+        // 장애물
+        Obstacle.ObstacleType[] types = Obstacle.ObstacleType.values();
+        int removed = frame.getShort();
+        for (int i = 0; i < removed; i++) {
+            obstacles.remove(frame.getInt());
+        }
+        int obstacleSpawned = frame.getShort();
+        for (int i = 0; i < obstacleSpawned; i++) {
+            RemoteObstacle obstacle = new RemoteObstacle();
+            int id = frame.getInt();
+            obstacle.type = types[frame.get()];
+            byte[] texture = new byte[frame.get()];
+            frame.get(texture);
+            obstacle.texturePath = new String(texture, StandardCharsets.UTF_8);
+            obstacle.x = frame.getFloat();
+            obstacle.y = frame.getFloat();
+            obstacle.width = frame.getFloat();
+            obstacle.height = frame.getFloat();
+            obstacle.radius = frame.getFloat();
+            obstacles.put(id, obstacle);
+        }
+        int moved = frame.getShort();
+        for (int i = 0; i < moved; i++) {
+            RemoteObstacle obstacle = obstacles.get(frame.getInt());
+            float x = frame.getFloat();
+            float y = frame.getFloat();
+            if (obstacle != null) {
+                obstacle.x = x;
+                obstacle.y = y;
+            }
+        }
+    }
+
+    // Getters
+    public int getTick() { return tick; }
+    public int getLevelIndex() { return levelIndex; }
+    public float getPlayerX() { return player[0]; }
+    public float getPlayerY() { return player[1]; }
+    public int getEnemyCount() { return enemyCount; }
+    public float getEnemyX(int index) { return enemyX[index]; }
+    public float getEnemyY(int index) { return enemyY[index]; }
+    public Map<Integer, RemoteBullet> getBullets() { return bullets; }
+    public Map<Integer, RemoteObstacle> getObstacles() { return obstacles; }
+    public long getReceivedBytes() { return receivedBytes; }
+    public int getReceivedFrames() { return receivedFrames; }
+}
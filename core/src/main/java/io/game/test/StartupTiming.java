@@ -0,0 +1,109 @@
+package io.game.test;
+
+import com.badlogic.gdx.Gdx;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+// 실행 시간 측정: JVM 시작 -> 런처 main -> Main.create -> 첫 프레임
+// 첫 프레임이 끝나면 한 번만 로그를 남긴다. -Dgame.startupLog=파일 이면 종료할 때 CSV 한 줄을 덧붙인다.
+// CSV: 시작 시각(ms), JVM->main, main->create, create, create->첫 프레임, 합계 (ms),
+//      첫 프레임 RSS, 종료 시 최대 RSS (KB, 리눅스만)
+public final class StartupTiming {
+    private static long mainMillis;
+    private static long mainNanos;
+    private static long createStartNanos;
+    private static long createEndNanos;
+    private static boolean reported;
+    private static String csvRow;
+
+    private StartupTiming() {
+    }
+
+    // 런처 main 진입 (런처가 없으면 create 시작을 기준으로 씀)
+    public static void markMain() {
+        mainMillis = System.currentTimeMillis();
+        mainNanos = System.nanoTime();
+    }
+
+    public static void markCreateStart() {
+        createStartNanos = System.nanoTime();
+        if (mainNanos == 0) {
+            mainMillis = System.currentTimeMillis();
+            mainNanos = createStartNanos;
+        }
+    }
+
+    public static void markCreateEnd() {
+        createEndNanos = System.nanoTime();
+    }
+
+    // 첫 render() 가 끝났을 때
+    public static void markFrameRendered() {
+        if (reported || createStartNanos == 0) return;
+        reported = true;
+        long firstFrameNanos = System.nanoTime();
+
+        // 관리 빈은 로드 비용이 있어서 첫 프레임 이후에만 조회
+        long jvmToMain = mainMillis - ManagementFactory.getRuntimeMXBean().getStartTime();
+        long mainToCreate = (createStartNanos - mainNanos) / 1000000L;
+        long create = (createEndNanos - createStartNanos) / 1000000L;
+        long createToFrame = (firstFrameNanos - createEndNanos) / 1000000L;
+        long total = jvmToMain + (firstFrameNanos - mainNanos) / 1000000L;
+
+        long rssKb = readProcStatusKb("VmRSS:");
+        long peakRssKb = readProcStatusKb("VmHWM:");
+
+        Gdx.app.log("Startup", "JVM->main " + jvmToMain + " ms, main->create " + mainToCreate +
+            " ms, create " + create + " ms, create->first frame " + createToFrame + " ms, total " + total + " ms" +
+            (rssKb > 0 ? ", RSS " + rssKb / 1024 + " MB (peak " + peakRssKb / 1024 + " MB)" : ""));
+
+        csvRow = mainMillis + "," + jvmToMain + "," + mainToCreate + "," + create + "," +
+            createToFrame + "," + total + "," + rssKb;
+    }
+
+    // Main.dispose: 실행 중 최대 RSS 까지 포함해서 CSV 기록
+    public static void markExit() {
+        String logPath = System.getProperty("game.startupLog");
+        if (logPath != null && csvRow != null) {
+            try {
+                FileWriter writer = new FileWriter(logPath, true);
+                try {
+                    writer.write(csvRow + "," + readProcStatusKb("VmHWM:") + "\n");
+                } finally {
+                    writer.close();
+                }
+            } catch (IOException e) {
+                Gdx.app.error("Startup", "Could not write " + logPath, e);
+            }
+        }
+    }
+
+    // /proc/self/status 의 메모리 항목 (KB). 리눅스가 아니면 0
+    private static long readProcStatusKb(String key) {
+        File status = new File("/proc/self/status");
+        if (!status.exists()) return 0;
+        try {
+            BufferedReader reader = new BufferedReader(new FileReader(status));
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith(key)) {
+                        return Long.parseLong(line.substring(key.length()).replace("kB", "").trim());
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (IOException e) {
+            // 측정값이 없을 뿐이라 무시
+        } catch (NumberFormatException e) {
+            // 형식이 다르면 무시
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,89 @@
+package io.game.test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+// 시뮬레이션 전체 상태 스냅샷
+// 재시작(R)과 체크포인트에 사용. 다이렉트 ByteBuffer 하나를 계속 재사용한다.
+public class StateSnapshot {
+    private static final int MAGIC = 0x32444753; // "2DGS"
+    private static final int VERSION = 6;
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+
+    private ByteBuffer buffer;
+    private boolean saved = false;
+
+    // 측정값
+    private int sizeBytes;
+    private long lastSaveNanos;
+    private long lastRestoreNanos;
+
+    public StateSnapshot() {
+        buffer = allocate(INITIAL_CAPACITY);
+    }
+
+    public void save(GameSimulation simulation) {
+        long start = System.nanoTime();
+
+        while (true) {
+            buffer.clear();
+            try {
+                buffer.putInt(MAGIC);
+                buffer.putInt(VERSION);
+                simulation.writeState(buffer);
+                break;
+            } catch (java.nio.BufferOverflowException e) {
+                // 탄환이 아주 많을 때만 발생, 두 배로 늘려서 다시 기록
+                buffer = allocate(buffer.capacity() * 2);
+            }
+        }
+        buffer.flip();
+
+        sizeBytes = buffer.limit();
+        saved = true;
+        lastSaveNanos = System.nanoTime() - start;
+    }
+
+    public void restore(GameSimulation simulation) {
+        if (!saved) {
+            throw new IllegalStateException("Snapshot has not been saved");
+        }
+        long start = System.nanoTime();
+
+        buffer.rewind();
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IllegalStateException("Snapshot format mismatch");
+        }
+        simulation.readState(buffer);
+
+        lastRestoreNanos = System.nanoTime() - start;
+    }
+
+    // 두 스냅샷의 내용이 바이트 단위로 같은지 비교 (저장 -> 복원 -> 저장 검증용)
+    public boolean contentEquals(StateSnapshot other) {
+        if (!saved || !other.saved || sizeBytes != other.sizeBytes) {
+            return false;
+        }
+        ByteBuffer a = buffer.duplicate();
+        ByteBuffer b = other.buffer.duplicate();
+        a.rewind();
+        b.rewind();
+        return a.equals(b);
+    }
+
+    public void clear() {
+        saved = false;
+        sizeBytes = 0;
+    }
+
+    private static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+    }
+
+    // Getters
+    public boolean isSaved() { return saved; }
+    public int getSizeBytes() { return sizeBytes; }
+    public int getCapacityBytes() { return buffer.capacity(); }
+    public long getLastSaveNanos() { return lastSaveNanos; }
+    public long getLastRestoreNanos() { return lastRestoreNanos; }
+}
@@ -0,0 +1,183 @@
+package io.game.test;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+
+import java.util.ArrayList;
+
+// 정적 레이어: 배경 + 움직이지 않는 장애물을 FrameBuffer 에 한 번 그려 두고 매 프레임 사각형 하나로 합성
+// - 월드 전체를 덮는 크기 (월드 1 단위 = setPixelsPerUnit 픽셀 x setResolutionScale). 카메라가 움직여도 월드 좌표로 그리므로
+//   다시 굽지 않음. 화질 단계가 배율을 낮추면 매 프레임 합성에서 읽는 픽셀과 다시 굽는 비용이 함께 줄어듦
+// - 배경색으로 채운 불투명 레이어라서 블렌딩 없이 덮어씀
+// - 다시 굽는 경우: 배경 텍스처/색이 바뀜 (레벨 전환, 화질 단계), 정적 장애물이 바뀜 (재시작, 스냅샷 복원),
+//   효과 on/off (펄스/회전하는 장애물은 효과가 켜져 있으면 매 프레임 그림), 해상도 변경 (resize)
+// - 구운 장애물에는 굽기 회차를 찍어 두므로 확인은 목록 한 번 훑기 (스냅샷 복원이 객체를 다른 번호로 재사용하면
+//   Obstacle 이 회차를 지워서 다시 구움)
+// GL 스레드 전용
+public class StaticLayer {
+    private static final int MAX_SIZE = 4096;
+
+    private final float worldWidth, worldHeight;
+    private final OrthographicCamera bakeCamera;
+    private float pixelsPerUnit = 1f;
+    private float resolutionScale = 1f;
+
+    private FrameBuffer frameBuffer;
+    private TextureRegion region;
+
+    // 지금 레이어에 들어 있는 것
+    private boolean valid;
+    private Texture bakedBackground;
+    private final Color bakedColor = new Color();
+    private boolean bakedEffects;
+    private int bakedCount;
+    private int stamp;      // 굽기 회차 (구운 장애물에 찍힌 값과 같으면 레이어에 들어 있음)
+    private int bakes;
+
+    public StaticLayer(float worldWidth, float worldHeight) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        bakeCamera = new OrthographicCamera();
+        bakeCamera.setToOrtho(false, worldWidth, worldHeight);
+        bakeCamera.update();
+    }
+
+    // 월드 1 단위가 화면에서 몇 픽셀인지 (가장 확대된 카메라 기준). 바뀌면 다음 update 에서 다시 만듦
+    public void setPixelsPerUnit(float pixels) {
+        if (pixels <= 0f || pixels == pixelsPerUnit) return;
+        pixelsPerUnit = pixels;
+        invalidate();
+    }
+
+    // 화질 단계의 해상도 배율 (1 = 화면 해상도). 바뀌면 다음 update 에서 다시 만듦
+    public void setResolutionScale(float scale) {
+        if (scale <= 0f || scale == resolutionScale) return;
+        resolutionScale = scale;
+        invalidate();
+    }
+
+    public void invalidate() {
+        valid = false;
+    }
+
+    // batch.begin() 전에 호출. 다시 구웠으면 true (FrameBuffer 가 glViewport 를 바꾸므로 viewport.apply() 필요)
+    public boolean update(SpriteBatch batch, Texture background, Color backgroundColor,
+                          ArrayList<Obstacle> obstacles, boolean effects) {
+        if (valid && background == bakedBackground && effects == bakedEffects &&
+            bakedColor.equals(backgroundColor) && sameObstacles(obstacles, effects)) {
+            return false;
+        }
+        bake(batch, background, backgroundColor, obstacles, effects);
+        return true;
+    }
+
+    // 정적 장애물 목록이 구울 때와 같은지 (순서 무관): 모두 이번 회차가 찍혀 있고 빠진 것도 없어야 함
+    private boolean sameObstacles(ArrayList<Obstacle> obstacles, boolean effects) {
+        int count = 0;
+        for (int i = 0; i < obstacles.size(); i++) {
+            Obstacle obstacle = obstacles.get(i);
+            if (!obstacle.isStaticLook(effects)) continue;
+            if (obstacle.getBakedStamp() != stamp) return false;
+            count++;
+        }
+        return count == bakedCount;
+    }
+
+    private void bake(SpriteBatch batch, Texture background, Color backgroundColor,
+                      ArrayList<Obstacle> obstacles, boolean effects) {
+        ensureFrameBuffer();
+
+        stamp++;
+        bakedCount = 0;
+        for (int i = 0; i < obstacles.size(); i++) {
+            Obstacle obstacle = obstacles.get(i);
+            if (obstacle.isStaticLook(effects)) {
+                obstacle.setBakedStamp(stamp);
+                bakedCount++;
+            }
+        }
+
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(backgroundColor.r, backgroundColor.g, backgroundColor.b, 1f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        batch.setProjectionMatrix(bakeCamera.combined);
+        batch.begin();
+        if (background != null) {
+            batch.draw(background, 0, 0, worldWidth, worldHeight);
+        }
+        for (int i = 0; i < obstacles.size(); i++) {
+            Obstacle obstacle = obstacles.get(i);
+            if (obstacle.getBakedStamp() == stamp) {
+                obstacle.render(batch, true, effects);
+            }
+        }
+        batch.end();
+        frameBuffer.end();
+
+        valid = true;
+        bakedBackground = background;
+        bakedColor.set(backgroundColor);
+        bakedEffects = effects;
+        bakes++;
+    }
+
+    // 크기가 바뀌었을 때만 새로 만듦 (레벨이 바뀌어도 같은 것을 다시 씀)
+    private void ensureFrameBuffer() {
+        float scale = pixelsPerUnit * resolutionScale;
+        int width = Math.min(MAX_SIZE, Math.max(1, Math.round(worldWidth * scale)));
+        int height = Math.min(MAX_SIZE, Math.max(1, Math.round(worldHeight * scale)));
+        if (frameBuffer != null && frameBuffer.getWidth() == width && frameBuffer.getHeight() == height) {
+            return;
+        }
+        disposeFrameBuffer();
+
+        frameBuffer = new FrameBuffer(Pixmap.Format.RGB888, width, height, false);
+        Texture texture = frameBuffer.getColorBufferTexture();
+        texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        // FrameBuffer 텍스처는 위아래가 뒤집혀 있음
+        region = new TextureRegion(texture);
+        region.flip(false, true);
+        ResourceTracker.track(frameBuffer, "StaticLayer", width + "x" + height, (long)width * height * 4, true);
+        Gdx.app.log("StaticLayer", "Static layer " + width + "x" + height);
+    }
+
+    // batch.begin() 안에서: 레이어를 월드 전체에 (불투명이라 블렌딩 없이)
+    public void draw(SpriteBatch batch) {
+        if (!valid) return;
+        batch.disableBlending();
+        batch.draw(region, 0, 0, worldWidth, worldHeight);
+        batch.enableBlending();
+    }
+
+    // 레이어에 이미 그려져 있어서 매 프레임 그리지 않아도 되는 장애물
+    public boolean contains(Obstacle obstacle) {
+        return valid && obstacle.getBakedStamp() == stamp;
+    }
+
+    public int getBakedCount() { return bakedCount; }
+    public int getBakes() { return bakes; }
+
+    private void disposeFrameBuffer() {
+        if (frameBuffer != null) {
+            ResourceTracker.release(frameBuffer);
+            frameBuffer.dispose();
+            frameBuffer = null;
+            region = null;
+        }
+        valid = false;
+    }
+
+    public void dispose() {
+        disposeFrameBuffer();
+        stamp++;
+        bakedCount = 0;
+        bakedBackground = null;
+    }
+}
@@ -0,0 +1,100 @@
+package io.game.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// FrameTelemetry 파일 읽기: 열마다 double 배열 하나로 모두 읽어 들인다.
+// 마지막 블록이 쓰다 만 상태(강제 종료)면 거기까지만 읽는다. 열별 요약은 TelemetrySummary <파일>
+public class TelemetryReader {
+    private final String[] names;
+    private final byte[] types;
+    private double[][] columns;
+    private int rows;
+    private int blocks;
+
+    public TelemetryReader(File file) throws IOException {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.getInt() != FrameTelemetry.MAGIC || buffer.getInt() != FrameTelemetry.VERSION) {
+                throw new IOException("Not a telemetry file: " + file);
+            }
+            int count = buffer.getInt();
+            names = new String[count];
+            types = new byte[count];
+            for (int i = 0; i < count; i++) {
+                types[i] = buffer.get();
+                byte[] name = new byte[buffer.getShort()];
+                buffer.get(name);
+                names[i] = new String(name, StandardCharsets.UTF_8);
+            }
+
+            columns = new double[count][1024];
+            while (buffer.remaining() >= 16) {
+                int start = buffer.position();
+                if (buffer.getInt() != FrameTelemetry.BLOCK_MAGIC) break;
+                int blockRows = buffer.getInt();
+                buffer.getLong();   // 첫 프레임 번호
+                if (blockRows < 0 || buffer.remaining() < (long)blockRows * rowBytes()) {
+                    buffer.position(start);
+                    break;
+                }
+                ensureCapacity(rows + blockRows);
+                for (int column = 0; column < count; column++) {
+                    double[] values = columns[column];
+                    for (int row = rows; row < rows + blockRows; row++) {
+                        values[row] = readValue(buffer, types[column]);
+                    }
+                }
+                rows += blockRows;
+                blocks++;
+            }
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    private int rowBytes() {
+        int bytes = 0;
+        for (byte type : types) {
+            bytes += type == FrameTelemetry.LONG ? 8 : 4;
+        }
+        return bytes;
+    }
+
+    private static double readValue(ByteBuffer buffer, byte type) {
+        if (type == FrameTelemetry.LONG) return buffer.getLong();
+        if (type == FrameTelemetry.FLOAT) return buffer.getFloat();
+        return buffer.getInt();
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= columns[0].length) return;
+        int size = columns[0].length;
+        while (size < needed) {
+            size *= 2;
+        }
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = Arrays.copyOf(columns[i], size);
+        }
+    }
+
+    // 이름으로 열 찾기 (없으면 null). 길이는 getRowCount() 보다 길 수 있음
+    public double[] getColumn(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) return columns[i];
+        }
+        return null;
+    }
+
+    public String[] getColumnNames() { return names; }
+    public int getRowCount() { return rows; }
+    public int getBlockCount() { return blocks; }
+}
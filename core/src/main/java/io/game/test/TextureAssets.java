@@ -0,0 +1,364 @@
+package io.game.test;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.FileTextureData;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+// 텍스처 로더 + 캐시
+// - 경로당 Texture 하나를 모두가 공유 (탄환마다 spike.png 를 다시 디코딩하지 않음). 해제는 여기서만 한다.
+// - load() 로 요청한 PNG 는 워커 풀에서 Pixmap 으로 디코딩 (libGDX TextureLoader 의 loadAsync 와 같은 방식)
+// - GPU 업로드는 GL 스레드에서만: update() 는 한 번에 최대 uploadsPerFrame 개, finishLoading() 은 전부
+// - get() 은 아직 준비되지 않은 경로면 그 자리에서 기다리거나 직접 디코딩해서 돌려준다.
+// - 크기별 축소본(TextureVariants 가 빌드 때 생성)이 있으면 resolve()/get(path, w, h) 가 화면에 그려질
+//   픽셀 수(월드 크기 x setPixelsPerUnit)를 덮는 가장 작은 것을 고른다. 목록이 없으면 항상 원본.
+// -Dgame.textureDecoders=N 으로 워커 수 (0 = 예전처럼 GL 스레드에서 차례로 디코딩),
+// -Dgame.textureUploadsPerFrame=N 으로 프레임당 업로드 수를 정한다.
+// load/update/get/unload 는 GL 스레드에서만 호출할 것.
+public final class TextureAssets {
+    private static final int DECODERS = Integer.getInteger("game.textureDecoders",
+        Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())));
+    private static final int UPLOADS_PER_FRAME = Math.max(1, Integer.getInteger("game.textureUploadsPerFrame", 2));
+
+    // 축소본 폴더와 목록 (빌드 때 TextureVariants 가 만들어 클래스패스에 넣음)
+    static final String VARIANT_DIRECTORY = "variants";
+    static final String VARIANT_MANIFEST = VARIANT_DIRECTORY + "/variants.txt";
+
+    // 텍스처 하나
+    private static final class Entry {
+        final String path;
+        Future<Pixmap> pending;
+        Texture texture;
+        long decodeNanos;       // 워커(또는 GL 스레드)에서 디코딩에 걸린 시간
+        long uploadNanos;
+
+        Entry(String path) {
+            this.path = path;
+        }
+    }
+
+    // 축소본 하나 (원본 자신도 포함)
+    private static final class Variant {
+        final String source;
+        final String path;
+        final int width, height;
+        final int sourceWidth, sourceHeight;
+
+        Variant(String source, String path, int width, int height, int sourceWidth, int sourceHeight) {
+            this.source = source;
+            this.path = path;
+            this.width = width;
+            this.height = height;
+            this.sourceWidth = sourceWidth;
+            this.sourceHeight = sourceHeight;
+        }
+    }
+
+    private static HashMap<String, ArrayList<Variant>> variantsBySource;   // 작은 것부터
+    private static final HashMap<String, Variant> variantsByPath = new HashMap<String, Variant>();
+    private static float pixelsPerUnit;     // 0 = 축소본을 쓰지 않음
+
+    private static final HashMap<String, Entry> entries = new HashMap<String, Entry>();
+    private static final ArrayList<Entry> queue = new ArrayList<Entry>();   // 요청했지만 아직 업로드 안 된 것 (요청 순서)
+    private static ExecutorService decoder;
+
+    // 진행률/측정값 (큐가 비었다가 다시 요청되면 새로 셈)
+    private static int batchRequested;
+    private static int batchUploaded;
+    private static long batchStartNanos;
+    private static long batchDecodeNanos;
+    private static long batchUploadNanos;
+
+    private TextureAssets() {
+    }
+
+    // 디코딩 요청 (이미 요청했거나 로드된 경로는 무시)
+    public static void load(String path) {
+        if (path == null || path.isEmpty() || entries.containsKey(path)) return;
+
+        if (queue.isEmpty()) {
+            batchRequested = 0;
+            batchUploaded = 0;
+            batchStartNanos = System.nanoTime();
+            batchDecodeNanos = 0;
+            batchUploadNanos = 0;
+        }
+        final Entry entry = new Entry(path);
+        entries.put(path, entry);
+        queue.add(entry);
+        batchRequested++;
+
+        if (DECODERS > 0) {
+            entry.pending = decoder().submit(new Callable<Pixmap>() {
+                @Override
+                public Pixmap call() {
+                    return decode(entry);
+                }
+            });
+        }
+    }
+
+    public static void load(ArrayList<String> paths) {
+        for (String path : paths) {
+            load(path);
+        }
+    }
+
+    private static Pixmap decode(Entry entry) {
+        long start = System.nanoTime();
+        Pixmap pixmap = new Pixmap(Gdx.files.internal(entry.path));
+        entry.decodeNanos = System.nanoTime() - start;
+        return pixmap;
+    }
+
+    private static synchronized ExecutorService decoder() {
+        if (decoder == null) {
+            decoder = Executors.newFixedThreadPool(DECODERS, new ThreadFactory() {
+                private int count;
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "texture-decoder-" + (++count));
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return decoder;
+    }
+
+    // 디코딩이 끝난 것을 최대 UPLOADS_PER_FRAME 개 업로드, 요청한 것이 모두 준비됐으면 true
+    // 워커가 없으면 한 프레임에 하나씩 여기서 디코딩 + 업로드
+    public static boolean update() {
+        int uploads = 0;
+        for (int i = 0; i < queue.size() && uploads < UPLOADS_PER_FRAME; ) {
+            Entry entry = queue.get(i);
+            if (entry.pending != null && !entry.pending.isDone()) {
+                i++;
+                continue;
+            }
+            queue.remove(i);
+            finish(entry, true);
+            uploads++;
+            if (DECODERS == 0) break;
+        }
+        if (queue.isEmpty() && uploads > 0) {
+            logBatch();
+        }
+        return queue.isEmpty();
+    }
+
+    // 요청한 것을 모두 기다려서 업로드
+    public static void finishLoading() {
+        boolean loaded = !queue.isEmpty();
+        while (!queue.isEmpty()) {
+            finish(queue.remove(0), true);
+        }
+        if (loaded) {
+            logBatch();
+        }
+    }
+
+    // 0..1, 디코딩 절반 + 업로드 절반
+    public static float getProgress() {
+        if (queue.isEmpty() || batchRequested == 0) return 1f;
+        int decoded = batchUploaded;
+        for (Entry entry : queue) {
+            if (entry.pending != null && entry.pending.isDone()) {
+                decoded++;
+            }
+        }
+        return (decoded + batchUploaded) / (2f * batchRequested);
+    }
+
+    public static boolean isLoaded(String path) {
+        Entry entry = entries.get(path);
+        return entry != null && entry.texture != null;
+    }
+
+    // 공유 텍스처 (요청하지 않았던 경로도 여기서 바로 로드). 받은 쪽은 dispose 하지 말 것
+    public static Texture get(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            entry = new Entry(path);
+            entries.put(path, entry);
+        }
+        if (entry.texture == null) {
+            finish(entry, queue.remove(entry));
+        }
+        return entry.texture;
+    }
+
+    // Pixmap 을 기다려서(없으면 디코딩해서) GPU 로 올림
+    private static void finish(Entry entry, boolean batched) {
+        if (entry.texture != null) return;
+
+        Pixmap pixmap;
+        if (entry.pending != null) {
+            try {
+                pixmap = entry.pending.get();
+            } catch (Exception e) {
+                throw new RuntimeException("Could not decode " + entry.path, e);
+            }
+            entry.pending = null;
+        } else {
+            pixmap = decode(entry);
+        }
+
+        // FileTextureData 는 업로드 후 Pixmap 을 해제하고, 컨텍스트를 잃으면 파일에서 다시 읽는다
+        long start = System.nanoTime();
+        FileHandle file = Gdx.files.internal(entry.path);
+        entry.texture = new Texture(new FileTextureData(file, pixmap, null, false));
+        entry.uploadNanos = System.nanoTime() - start;
+        GameEvents.textureLoaded(entry.texture);
+        ResourceTracker.track(entry.texture, "TextureAssets", entry.path, true);
+
+        if (!batched) return;
+        batchUploaded++;
+        batchDecodeNanos += entry.decodeNanos;
+        batchUploadNanos += entry.uploadNanos;
+    }
+
+    // 요청 묶음 결과: 실제 걸린 시간 vs 차례로 했을 때 (디코딩 합 + 업로드 합)
+    private static void logBatch() {
+        long wall = System.nanoTime() - batchStartNanos;
+        Gdx.app.log("Texture", String.format("%d textures in %.1f ms wall (serial decode + upload %.1f ms, upload %.1f ms, %d decoders)",
+            batchUploaded, wall / 1e6, (batchDecodeNanos + batchUploadNanos) / 1e6, batchUploadNanos / 1e6, DECODERS));
+    }
+
+    // 더 이상 쓰지 않는 텍스처 해제 (레벨 배경)
+    public static void unload(String path) {
+        Entry entry = entries.remove(path);
+        if (entry == null) return;
+        queue.remove(entry);
+        if (entry.texture != null) {
+            ResourceTracker.release(entry.texture);
+            entry.texture.dispose();
+        } else if (entry.pending != null) {
+            try {
+                entry.pending.get().dispose();
+            } catch (Exception e) {
+                // 디코딩 실패는 무시
+            }
+        }
+    }
+
+    public static void dispose() {
+        for (String path : new ArrayList<String>(entries.keySet())) {
+            unload(path);
+        }
+        if (decoder != null) {
+            decoder.shutdownNow();
+            decoder = null;
+        }
+    }
+
+    // 월드 1 단위가 백버퍼에서 몇 픽셀인지 (가장 확대된 카메라 기준). 다음 로드부터 적용
+    public static void setPixelsPerUnit(float pixels) {
+        pixelsPerUnit = pixels;
+    }
+
+    // worldWidth x worldHeight 로 그릴 때 쓸 경로 (원본 또는 그것을 덮는 가장 작은 축소본)
+    public static String resolve(String path, float worldWidth, float worldHeight) {
+        if (path == null || pixelsPerUnit <= 0f) return path;
+        ArrayList<Variant> variants = variants().get(path);
+        if (variants == null) return path;
+
+        float neededWidth = worldWidth * pixelsPerUnit;
+        float neededHeight = worldHeight * pixelsPerUnit;
+        for (Variant variant : variants) {
+            if (variant.width >= neededWidth && variant.height >= neededHeight) {
+                return variant.path;
+            }
+        }
+        return path;
+    }
+
+    public static Texture get(String path, float worldWidth, float worldHeight) {
+        return get(resolve(path, worldWidth, worldHeight));
+    }
+
+    // 원본 이미지 가로 픽셀 (축소본을 골라도 크기 계산은 원본 기준)
+    public static int getSourceWidth(String path) {
+        ArrayList<Variant> variants = variants().get(path);
+        if (variants != null) {
+            return variants.get(variants.size() - 1).width;
+        }
+        return get(path).getWidth();
+    }
+
+    // 목록 읽기 (처음 한 번). 원본도 가장 큰 후보로 넣는다
+    private static HashMap<String, ArrayList<Variant>> variants() {
+        if (variantsBySource != null) return variantsBySource;
+        variantsBySource = new HashMap<String, ArrayList<Variant>>();
+
+        FileHandle manifest = Gdx.files != null ? Gdx.files.internal(VARIANT_MANIFEST) : null;
+        if (manifest == null || !manifest.exists()) {
+            return variantsBySource;
+        }
+        for (String line : manifest.readString("UTF-8").split("\n")) {
+            String[] fields = line.trim().split(" ");
+            if (fields.length != 6) continue;
+            String source = fields[0];
+            int sourceWidth = Integer.parseInt(fields[1]);
+            int sourceHeight = Integer.parseInt(fields[2]);
+            ArrayList<Variant> variants = variantsBySource.get(source);
+            if (variants == null) {
+                variants = new ArrayList<Variant>();
+                variants.add(new Variant(source, source, sourceWidth, sourceHeight, sourceWidth, sourceHeight));
+                variantsBySource.put(source, variants);
+            }
+            // 큰 것부터 적혀 있으므로 원본 앞에 끼워 넣으면 작은 것부터 정렬됨
+            variants.add(0, new Variant(source, fields[3], Integer.parseInt(fields[4]), Integer.parseInt(fields[5]),
+                sourceWidth, sourceHeight));
+        }
+        for (ArrayList<Variant> variants : variantsBySource.values()) {
+            for (Variant variant : variants) {
+                variantsByPath.put(variant.path, variant);
+            }
+        }
+        return variantsBySource;
+    }
+
+    // 지금 올라가 있는 텍스처 바이트 (RGBA8888 기준)
+    public static long getResidentBytes() {
+        long bytes = 0;
+        for (Entry entry : entries.values()) {
+            if (entry.texture != null) {
+                bytes += (long)entry.texture.getWidth() * entry.texture.getHeight() * 4;
+            }
+        }
+        return bytes;
+    }
+
+    // 같은 텍스처들을 원본으로 올렸다면 차지했을 바이트
+    public static long getResidentSourceBytes() {
+        long bytes = 0;
+        java.util.HashSet<String> sources = new java.util.HashSet<String>();
+        for (Entry entry : entries.values()) {
+            if (entry.texture == null) continue;
+            Variant variant = variantsByPath.get(entry.path);
+            if (variant != null) {
+                // 같은 원본의 축소본 여러 개는 원본 하나로 셈
+                if (sources.add(variant.source)) {
+                    bytes += (long)variant.sourceWidth * variant.sourceHeight * 4;
+                }
+            } else {
+                bytes += (long)entry.texture.getWidth() * entry.texture.getHeight() * 4;
+            }
+        }
+        return bytes;
+    }
+
+    public static int getQueued() { return queue.size(); }
+    public static int getDecoders() { return DECODERS; }
+}
@@ -0,0 +1,157 @@
+package io.game.test;
+
+// 시뮬레이션 틱 기준 계층형 타이밍 휠
+// 64칸짜리 바퀴 3단 (1틱 / 64틱 / 4096틱 단위, 약 73분)과 그보다 먼 것을 담는 넘침 목록.
+// 예약은 O(1), 매 틱에는 이번 틱 칸과 (64틱마다) 윗단 칸 하나만 본다.
+// 윗단 칸은 그 구간이 시작될 때 아랫단으로 내려보낸다. 엔트리는 재사용해서 틱마다 할당이 없다.
+// 취소는 하지 않는다. 받는 쪽이 id 로 아직 유효한 대상인지 확인한다.
+public class TimingWheel {
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 3;
+
+    // 만료 처리
+    public interface Handler {
+        void onTimer(Object target, int kind, int id);
+    }
+
+    private static final class Entry {
+        long deadline;
+        Object target;
+        int kind;
+        int id;
+        Entry next;
+    }
+
+    private final Entry[][] wheels = new Entry[LEVELS][SLOTS];
+    private Entry overflow;
+    private Entry free;
+    private long now;       // 마지막으로 처리한 틱
+    private int size;
+
+    // 측정값: 지금까지 처리(발생)한 수
+    private long fired;
+
+    public TimingWheel() {
+        this(-1);
+    }
+
+    public TimingWheel(long now) {
+        this.now = now;
+    }
+
+    // 모두 비우고 현재 틱을 다시 정함 (레벨 로드 / 스냅샷 복원)
+    public void reset(long now) {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                release(wheels[level][slot]);
+                wheels[level][slot] = null;
+            }
+        }
+        release(overflow);
+        overflow = null;
+        size = 0;
+        this.now = now;
+    }
+
+    // deadline 틱에 handler 호출 (이미 지난 틱이면 다음 advance 에서)
+    public void schedule(long deadline, Object target, int kind, int id) {
+        Entry entry = free;
+        if (entry != null) {
+            free = entry.next;
+        } else {
+            entry = new Entry();
+        }
+        entry.deadline = Math.max(deadline, now + 1);
+        entry.target = target;
+        entry.kind = kind;
+        entry.id = id;
+        insert(entry);
+        size++;
+    }
+
+    // tick 까지 진행하며 만료된 것 처리
+    public void advance(long tick, Handler handler) {
+        while (now < tick) {
+            now++;
+            cascade();
+
+            int slot = (int)(now & MASK);
+            Entry entry = wheels[0][slot];
+            wheels[0][slot] = null;
+            while (entry != null) {
+                Entry next = entry.next;
+                size--;
+                fired++;
+                handler.onTimer(entry.target, entry.kind, entry.id);
+                entry.target = null;
+                entry.next = free;
+                free = entry;
+                entry = next;
+            }
+        }
+    }
+
+    // 구간이 바뀌는 틱이면 윗단 칸을 아랫단으로 내림 (위에서부터)
+    private void cascade() {
+        if ((now & MASK) != 0) return;
+
+        if ((now & ((1L << (BITS * 2)) - 1)) == 0) {
+            if ((now & ((1L << (BITS * 3)) - 1)) == 0) {
+                Entry entry = overflow;
+                overflow = null;
+                reinsert(entry);
+            }
+            int slot = (int)((now >> (BITS * 2)) & MASK);
+            Entry entry = wheels[2][slot];
+            wheels[2][slot] = null;
+            reinsert(entry);
+        }
+        int slot = (int)((now >> BITS) & MASK);
+        Entry entry = wheels[1][slot];
+        wheels[1][slot] = null;
+        reinsert(entry);
+    }
+
+    private void reinsert(Entry entry) {
+        while (entry != null) {
+            Entry next = entry.next;
+            insert(entry);
+            entry = next;
+        }
+    }
+
+    private void insert(Entry entry) {
+        long delta = entry.deadline - now;
+        int level;
+        if (delta < SLOTS) {
+            level = 0;
+        } else if (delta < (1L << (BITS * 2))) {
+            level = 1;
+        } else if (delta < (1L << (BITS * 3))) {
+            level = 2;
+        } else {
+            entry.next = overflow;
+            overflow = entry;
+            return;
+        }
+        int slot = (int)((entry.deadline >> (BITS * level)) & MASK);
+        entry.next = wheels[level][slot];
+        wheels[level][slot] = entry;
+    }
+
+    private void release(Entry entry) {
+        while (entry != null) {
+            Entry next = entry.next;
+            entry.target = null;
+            entry.next = free;
+            free = entry;
+            entry = next;
+        }
+    }
+
+    public int size() { return size; }
+    public long getNow() { return now; }
+    public long getFired() { return fired; }
+}
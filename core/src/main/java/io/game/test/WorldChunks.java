@@ -0,0 +1,146 @@
+package io.game.test;
+
+import java.nio.ByteBuffer;
+
+// 화면보다 큰 레벨을 CHUNK_SIZE 정사각형 칸으로 나눈 격자 (칸 번호 = 행 * 열 수 + 열)
+// - 플레이어 주변 (화면 크기 + LOAD_MARGIN) 에 걸친 칸만 로드한다. 로드 범위는 항상 직사각형 (열 c0..c1, 행 r0..r1)
+//   카메라가 아니라 플레이어 위치로 정하므로 시뮬레이션 스레드, 그리기 쪽, 봇 미리보기가 모두 같은 칸을 로드한다.
+// - update() 가 범위를 바꾸면 빠진 칸은 onUnload, 새로 들어온 칸은 onLoad 로 알려줌 (LevelManager 가 오브젝트와
+//   배경 타일을 만들고 치움). 순서는 행 우선이라 같은 입력이면 같은 순서.
+// - 로드된 칸 안에 있어도 ACTIVE 범위 (화면 + ACTIVE_MARGIN) 밖의 적은 멈춰 둔다 (isActive)
+public class WorldChunks {
+    public static final float CHUNK_SIZE = 640f;
+    public static final float LOAD_MARGIN = 320f;
+    public static final float ACTIVE_MARGIN = 160f;
+
+    public interface Listener {
+        void onLoad(int chunk);
+        void onUnload(int chunk);
+    }
+
+    private final float worldWidth, worldHeight;
+    private final float viewWidth, viewHeight;
+    private final int columns, rows;
+
+    // 로드된 범위 (c1 < c0 이면 비어 있음)
+    private int c0 = 0, c1 = -1, r0 = 0, r1 = -1;
+    private float activeLeft, activeBottom, activeRight, activeTop;
+
+    // 측정값
+    private long loads;
+    private long unloads;
+    private int peakLoaded;
+
+    public WorldChunks(float worldWidth, float worldHeight, float viewWidth, float viewHeight) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+        columns = Math.max(1, (int)Math.ceil(worldWidth / CHUNK_SIZE));
+        rows = Math.max(1, (int)Math.ceil(worldHeight / CHUNK_SIZE));
+    }
+
+    // 월드 좌표가 속한 칸 (월드 밖이면 가장 가까운 칸)
+    public int chunkAt(float x, float y) {
+        return row(y) * columns + column(x);
+    }
+
+    private int column(float x) {
+        return Math.max(0, Math.min(columns - 1, (int)Math.floor(x / CHUNK_SIZE)));
+    }
+
+    private int row(float y) {
+        return Math.max(0, Math.min(rows - 1, (int)Math.floor(y / CHUNK_SIZE)));
+    }
+
+    // 틱마다 플레이어 위치로 호출. 로드 범위가 바뀌었으면 true
+    public boolean update(float focusX, float focusY, Listener listener) {
+        float halfWidth = viewWidth / 2f;
+        float halfHeight = viewHeight / 2f;
+        activeLeft = Math.max(0f, focusX - halfWidth - ACTIVE_MARGIN);
+        activeRight = Math.min(worldWidth, focusX + halfWidth + ACTIVE_MARGIN);
+        activeBottom = Math.max(0f, focusY - halfHeight - ACTIVE_MARGIN);
+        activeTop = Math.min(worldHeight, focusY + halfHeight + ACTIVE_MARGIN);
+
+        int nc0 = column(focusX - halfWidth - LOAD_MARGIN);
+        int nc1 = column(focusX + halfWidth + LOAD_MARGIN);
+        int nr0 = row(focusY - halfHeight - LOAD_MARGIN);
+        int nr1 = row(focusY + halfHeight + LOAD_MARGIN);
+        if (nc0 == c0 && nc1 == c1 && nr0 == r0 && nr1 == r1) {
+            return false;
+        }
+
+        // 빠지는 칸 먼저 (새 칸을 만들기 전에 메모리 반환)
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                if (c < nc0 || c > nc1 || r < nr0 || r > nr1) {
+                    unloads++;
+                    listener.onUnload(r * columns + c);
+                }
+            }
+        }
+        for (int r = nr0; r <= nr1; r++) {
+            for (int c = nc0; c <= nc1; c++) {
+                if (c < c0 || c > c1 || r < r0 || r > r1) {
+                    loads++;
+                    listener.onLoad(r * columns + c);
+                }
+            }
+        }
+        c0 = nc0;
+        c1 = nc1;
+        r0 = nr0;
+        r1 = nr1;
+        peakLoaded = Math.max(peakLoaded, getLoadedCount());
+        return true;
+    }
+
+    public boolean isLoaded(int chunk) {
+        int c = chunk % columns;
+        int r = chunk / columns;
+        return c >= c0 && c <= c1 && r >= r0 && r <= r1;
+    }
+
+    // 적을 움직일 범위 안인지
+    public boolean isActive(float x, float y) {
+        return x >= activeLeft && x <= activeRight && y >= activeBottom && y <= activeTop;
+    }
+
+    // 스냅샷: 로드 범위만 (오브젝트는 LevelManager 가 따로 기록). 복원은 알림 없이 범위만 바꿈
+    public void writeState(ByteBuffer buffer) {
+        buffer.putInt(c0).putInt(c1).putInt(r0).putInt(r1);
+        buffer.putFloat(activeLeft).putFloat(activeBottom).putFloat(activeRight).putFloat(activeTop);
+    }
+
+    public void readState(ByteBuffer buffer) {
+        c0 = buffer.getInt();
+        c1 = buffer.getInt();
+        r0 = buffer.getInt();
+        r1 = buffer.getInt();
+        activeLeft = buffer.getFloat();
+        activeBottom = buffer.getFloat();
+        activeRight = buffer.getFloat();
+        activeTop = buffer.getFloat();
+    }
+
+    public int getLoadedCount() {
+        return c1 < c0 || r1 < r0 ? 0 : (c1 - c0 + 1) * (r1 - r0 + 1);
+    }
+
+    public int getColumns() { return columns; }
+    public int getRows() { return rows; }
+    public int getChunkCount() { return columns * rows; }
+    public float getChunkX(int chunk) { return (chunk % columns) * CHUNK_SIZE; }
+    public float getChunkY(int chunk) { return (chunk / columns) * CHUNK_SIZE; }
+    public int getFirstColumn() { return c0; }
+    public int getLastColumn() { return c1; }
+    public int getFirstRow() { return r0; }
+    public int getLastRow() { return r1; }
+    public float getActiveLeft() { return activeLeft; }
+    public float getActiveBottom() { return activeBottom; }
+    public float getActiveRight() { return activeRight; }
+    public float getActiveTop() { return activeTop; }
+    public long getLoads() { return loads; }
+    public long getUnloads() { return unloads; }
+    public int getPeakLoaded() { return peakLoaded; }
+}
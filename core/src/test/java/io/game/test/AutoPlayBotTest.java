@@ -0,0 +1,60 @@
+package io.game.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+// 봇이 레벨을 깨는지, 같은 시드면 같은 판을 두는지
+public class AutoPlayBotTest {
+    // 끝날 때까지 봇으로 진행
+    private static GameSimulation play(AutoPlayBot bot, int levelIndex, long seed) {
+        GameSimulation simulation = GameSimulation.createHeadless(levelIndex, seed);
+        simulation.setRecordEvents(false);
+        while (simulation.getOutcome() == GameSimulation.Outcome.NONE) {
+            bot.control(simulation);
+            simulation.step();
+        }
+        return simulation;
+    }
+
+    @Test
+    public void clearsLevelThree() {
+        AutoPlayBot bot = new AutoPlayBot();
+        GameRandom seeds = new GameRandom(1L);
+        for (int run = 0; run < 2; run++) {
+            GameSimulation simulation = play(bot, 2, seeds.nextLong());
+            assertNotEquals("run " + run, GameSimulation.Outcome.GAME_OVER, simulation.getOutcome());
+            simulation.getLevelManager().dispose();
+        }
+        // 쿨타임 중에는 플릭하지 않으므로 판단 수보다 적음
+        assertTrue(bot.getFlicks() > 0);
+        assertTrue(bot.getFlicks() < bot.getDecisions());
+        assertTrue(bot.getRolloutTicks() > 0);
+        assertEquals(bot.getDecisions(), bot.getDecisionTime().getCount());
+        bot.dispose();
+    }
+
+    @Test
+    public void sameSeedPlaysSameGame() {
+        AutoPlayBot first = new AutoPlayBot();
+        AutoPlayBot second = new AutoPlayBot();
+        GameSimulation a = play(first, 1, 42L);
+        GameSimulation b = play(second, 1, 42L);
+
+        assertEquals(a.getOutcome(), b.getOutcome());
+        assertEquals(a.getTick(), b.getTick());
+        assertEquals(first.getFlicks(), second.getFlicks());
+        StateSnapshot left = new StateSnapshot();
+        StateSnapshot right = new StateSnapshot();
+        left.save(a);
+        right.save(b);
+        assertTrue(left.contentEquals(right));
+
+        a.getLevelManager().dispose();
+        b.getLevelManager().dispose();
+        first.dispose();
+        second.dispose();
+    }
+}
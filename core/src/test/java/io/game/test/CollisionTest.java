@@ -0,0 +1,114 @@
+package io.game.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+// 경계(정확히 r1 + r2 는 안 겹침), 사각형 안의 중심, 접촉 법선/깊이, 배치 커널의 맞은 번호
+public class CollisionTest {
+    private static final float EPSILON = 1e-5f;
+
+    @Test
+    public void touchingCirclesDoNotOverlap() {
+        Collision.Contact contact = new Collision.Contact();
+        assertFalse(Collision.circleOverlap(0f, 0f, 3f, 5f, 0f, 2f));
+        assertFalse(Collision.circleVsCircle(0f, 0f, 3f, 5f, 0f, 2f, contact));
+        assertFalse(contact.hit);
+        assertTrue(Collision.circleOverlap(0f, 0f, 3f, 4.99f, 0f, 2f));
+
+        // 사각형 가장자리에서 정확히 반지름만큼 떨어짐
+        assertFalse(Collision.circleVsAabb(15f, 0f, 5f, 0f, 0f, 10f, 4f, contact));
+        assertTrue(Collision.circleVsAabb(14.99f, 0f, 5f, 0f, 0f, 10f, 4f, contact));
+    }
+
+    @Test
+    public void circleContactHasNormalAndDepth() {
+        Collision.Contact contact = new Collision.Contact();
+        // a(3, 4) 반지름 4, b(0, 0) 반지름 2: 거리 5, 깊이 1, 법선 b -> a
+        assertTrue(Collision.circleVsCircle(3f, 4f, 4f, 0f, 0f, 2f, contact));
+        assertTrue(contact.hit);
+        assertEquals(0.6f, contact.nx, EPSILON);
+        assertEquals(0.8f, contact.ny, EPSILON);
+        assertEquals(5f, contact.distance, EPSILON);
+        assertEquals(1f, contact.depth, EPSILON);
+
+        // 중심이 같으면 위쪽으로 가정, 깊이는 반지름 합
+        assertTrue(Collision.circleVsCircle(1f, 1f, 2f, 1f, 1f, 3f, contact));
+        assertEquals(0f, contact.nx, EPSILON);
+        assertEquals(1f, contact.ny, EPSILON);
+        assertEquals(0f, contact.distance, EPSILON);
+        assertEquals(5f, contact.depth, EPSILON);
+    }
+
+    @Test
+    public void aabbContactHasNormalAndDepth() {
+        Collision.Contact contact = new Collision.Contact();
+        // 사각형 (-10..10, -4..4), 원이 위쪽 가장자리에서 3 떨어짐
+        assertTrue(Collision.circleVsAabb(2f, 7f, 5f, 0f, 0f, 10f, 4f, contact));
+        assertEquals(0f, contact.nx, EPSILON);
+        assertEquals(1f, contact.ny, EPSILON);
+        assertEquals(3f, contact.distance, EPSILON);
+        assertEquals(2f, contact.depth, EPSILON);
+
+        // 모서리 (10, 4) 에서 (3, 4) 만큼 떨어짐
+        assertTrue(Collision.circleVsAabb(13f, 8f, 6f, 0f, 0f, 10f, 4f, contact));
+        assertEquals(0.6f, contact.nx, EPSILON);
+        assertEquals(0.8f, contact.ny, EPSILON);
+        assertEquals(1f, contact.depth, EPSILON);
+
+        // 중심이 사각형 안: 거리 0, 법선은 위쪽, 깊이는 반지름
+        assertTrue(Collision.circleVsAabb(1f, -2f, 5f, 0f, 0f, 10f, 4f, contact));
+        assertEquals(0f, contact.distance, EPSILON);
+        assertEquals(0f, contact.nx, EPSILON);
+        assertEquals(1f, contact.ny, EPSILON);
+        assertEquals(5f, contact.depth, EPSILON);
+    }
+
+    @Test
+    public void circleVsCirclesReportsFirstHit() {
+        float[] xs = { 100f, 10f, 8f };
+        float[] ys = { 0f, 0f, 0f };
+        float[] rs = { 1f, 2f, 2f };
+        Collision.Contact contact = new Collision.Contact();
+
+        // 1 번은 정확히 맞닿음(거리 10 = 8 + 2), 2 번이 처음 겹친 대상
+        assertEquals(2, Collision.circleVsCircles(0f, 0f, 8f, xs, ys, rs, 3, contact));
+        assertTrue(contact.hit);
+        assertEquals(2, contact.index);
+        assertEquals(-1f, contact.nx, EPSILON);
+        assertEquals(2f, contact.depth, EPSILON);
+
+        // count 밖은 보지 않음
+        assertEquals(-1, Collision.circleVsCircles(0f, 0f, 8f, xs, ys, rs, 2, contact));
+        assertFalse(contact.hit);
+        assertEquals(-1, contact.index);
+    }
+
+    @Test
+    public void batchKernelsMarkHits() {
+        float[] xs = { 0f, 5f, 7f, 20f, 0f };
+        float[] ys = { 0f, 0f, 0f, 0f, 5.5f };
+        float[] rs = { 1f, 2f, 2f, 1f, 1f };
+
+        // 원 (0, 0) 반지름 4: 0 번 안쪽, 1 번 겹침, 2 번 맞닿음(7 = 5 + 2), 3 번 멀리, 4 번 떨어짐(5.5 > 5)
+        boolean[] hits = new boolean[xs.length];
+        assertEquals(2, Collision.circlesVsCircle(xs, ys, rs, 5, 0f, 0f, 4f, hits));
+        assertTrue(hits[0]);
+        assertTrue(hits[1]);
+        assertFalse(hits[2]);
+        assertFalse(hits[3]);
+        assertFalse(hits[4]);
+
+        // 사각형 (-5..5, -5..5): 0, 1 번 안/겹침, 2 번 맞닿음(7 - 5 = 2), 4 번 겹침, 이미 표시된 것은 그대로
+        hits = new boolean[xs.length];
+        hits[3] = true;
+        assertEquals(3, Collision.circlesVsAabb(xs, ys, rs, 5, 0f, 0f, 5f, 5f, hits));
+        assertTrue(hits[0]);
+        assertTrue(hits[1]);
+        assertFalse(hits[2]);
+        assertTrue(hits[3]);
+        assertTrue(hits[4]);
+    }
+}
@@ -0,0 +1,76 @@
+package io.game.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+// 격자 전개와 칸 값 적용
+public class DifficultySweepTest {
+    private static final float EPSILON = 1e-6f;
+
+    private static float[] defaults() {
+        float[] values = new float[DifficultySweep.PARAMETERS.length];
+        Arrays.fill(values, Float.NaN);
+        return values;
+    }
+
+    @Test
+    public void expandBuildsEveryCombination() {
+        float[][] axes = new float[DifficultySweep.PARAMETERS.length][];
+        axes[0] = new float[] { 0.6f, 0.8f, 1.0f };
+        axes[4] = new float[] { 0.75f, 1.25f };
+        ArrayList<float[]> cells = DifficultySweep.expand(axes);
+
+        assertEquals(6, cells.size());
+        for (float[] cell : cells) {
+            assertTrue(Float.isNaN(cell[1]));
+            assertTrue(Float.isNaN(cell[6]));
+        }
+        assertEquals(0.6f, cells.get(0)[0], EPSILON);
+        assertEquals(0.75f, cells.get(0)[4], EPSILON);
+        assertEquals(1.0f, cells.get(5)[0], EPSILON);
+        assertEquals(1.25f, cells.get(5)[4], EPSILON);
+    }
+
+    @Test
+    public void defaultCellLeavesLevelUntouched() {
+        GameSimulation plain = GameSimulation.createHeadless(2, 11L);
+        GameSimulation swept = DifficultySweep.createSimulation(2, defaults(), 11L);
+        plain.setRecordEvents(false);
+        swept.setRecordEvents(false);
+        for (int tick = 0; tick < 300; tick++) {
+            plain.step();
+            swept.step();
+        }
+        StateSnapshot a = new StateSnapshot();
+        StateSnapshot b = new StateSnapshot();
+        a.save(plain);
+        b.save(swept);
+        assertTrue(a.contentEquals(b));
+        plain.getLevelManager().dispose();
+        swept.getLevelManager().dispose();
+    }
+
+    @Test
+    public void applyOverridesAndScales() {
+        GameSimulation simulation = GameSimulation.createHeadless(2, 1L);
+        Level level = simulation.getLevelManager().getLevel(2);
+        float cooldown = level.getEnemies().get(0).shootCooldown;
+
+        float[] values = defaults();
+        values[0] = 0.5f;   // dragK
+        values[4] = 2f;     // shootCooldown 배율
+        values[7] = 3f;     // maxObstacles (스폰 켬)
+        DifficultySweep.apply(level, values);
+
+        assertEquals(0.5f, level.getDragK(), EPSILON);
+        assertEquals(cooldown * 2f, level.getEnemies().get(0).shootCooldown, EPSILON);
+        assertTrue(level.isObstacleSpawnEnabled());
+        assertEquals(3, level.getMaxObstacles());
+        simulation.getLevelManager().dispose();
+    }
+}
@@ -0,0 +1,229 @@
+package io.game.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+
+import org.junit.Before;
+import org.junit.Test;
+
+// 합성 터치 이벤트로 입력 -> 힘 적용 지연 확인 (예전 폴링 방식과 비교)
+// 60Hz 화면 (흔들림 + 가끔 프레임 밀림) 과 60Hz 시뮬레이션 틱을 가상 시계로 돌린다. 이벤트는 다음 프레임 시작에 전달.
+// thread: 시뮬레이션 스레드 (가끔 한 틱이 50ms 걸려서 따라잡음), inline: 렌더 루프에서 프레임 시간만큼 advance
+// 지연 = 적용한 틱의 예정 시각 - 뗀 시각. early = 떼기 전 시각의 틱에 적용됨, lost = 힘이 0 이거나 적용 안 됨
+public class FlickInputTest {
+    private static final int FLICKS = 400;
+
+    // 한 번 돌린 결과
+    private static final class Result {
+        LatencyHistogram delay;
+        int early;              // 떼기 전 예정 시각의 틱에 적용된 수 (폴링만 셈, 지금 방식은 delay 최소값으로 확인)
+        int lost;
+        double positionError;   // 실제 플릭과 만든 힘의 평균 차이 (화면 픽셀)
+        long deliveryLag;       // 뗀 시각 -> 다음 프레임 시작에 전달된 시각 (가장 긴 것)
+    }
+
+    private long[] down;
+    private long[] up;
+    private float[][] points;
+    private long end;
+
+    // 플릭 (0.7~1.5초 간격이라 쿨타임보다 김). 넷 중 하나는 한 프레임보다 짧음
+    @Before
+    public void createFlicks() {
+        GameRandom random = new GameRandom(3L);
+        down = new long[FLICKS];
+        up = new long[FLICKS];
+        points = new float[FLICKS][4];
+        long time = 500000000L;
+        for (int i = 0; i < FLICKS; i++) {
+            time += 700000000L + (long)(random.nextFloat() * 800000000L);
+            down[i] = time;
+            long duration = random.nextInt(4) == 0 ? 4000000L + random.nextInt(11000000) :
+                40000000L + random.nextInt(210000000);
+            up[i] = time + duration;
+            time = up[i];
+            points[i][0] = 100f + random.nextFloat() * 440f;
+            points[i][1] = 100f + random.nextFloat() * 280f;
+            points[i][2] = points[i][0] + (random.nextFloat() - 0.5f) * 200f;
+            points[i][3] = points[i][1] + (random.nextFloat() - 0.5f) * 200f;
+        }
+        end = time + 1000000000L;
+    }
+
+    // 모든 플릭이 뗀 위치 그대로, 떼기 전 틱이 아니라 가능한 한 틱 안에 적용됨 (allowedLag: 그 전에는 볼 수 없는 시간)
+    private static void assertOnTime(Result result, long allowedLag) {
+        assertEquals(0, result.lost);
+        assertEquals(0, result.early);
+        assertTrue(result.delay.getMin() >= 0);
+        assertTrue(result.delay.summary(), result.delay.getMax() <= allowedLag + SimulationThread.TICK_NANOS);
+        assertEquals(0.0, result.positionError, 1e-3);
+    }
+
+    // 시뮬레이션 스레드는 렌더 스레드가 프레임 시작에 전달한 뒤에야 플릭을 보므로 전달까지의 시간은 빼고 한 틱
+    @Test
+    public void eventsOnSimulationThreadApplyWithinOneTickOfDelivery() {
+        Result result = run(true, true);
+        assertTrue(result.deliveryLag > 0);
+        assertOnTime(result, result.deliveryLag);
+    }
+
+    // 인라인은 전달한 뒤 지난 시간만큼 틱을 진행하므로 뗀 시각에서 한 틱 안
+    @Test
+    public void eventsInlineApplyWithinOneTick() {
+        assertOnTime(run(false, true), 0L);
+    }
+
+    // 예전 방식은 프레임 시점의 샘플이라 위치가 틀리고 한 프레임 이상 늦음
+    @Test
+    public void pollingIsLateAndInaccurate() {
+        Result events = run(true, true);
+        Result polling = run(true, false);
+        assertTrue(polling.delay.getMean() > events.delay.getMean());
+        assertTrue(polling.positionError > 1.0);
+    }
+
+    // 예전 방식: 프레임마다 한 번 읽은 값으로 만든 명령을 다음 틱 직전에 실행
+    private static final class PollingTicks implements GameSession.Controller {
+        final ArrayList<FlickInput.Flick> pending = new ArrayList<FlickInput.Flick>();
+        final LatencyHistogram delay = new LatencyHistogram();
+        long tickNanos;
+        int early;
+
+        @Override
+        public void control(GameSimulation simulation) {
+            for (int i = 0; i < pending.size(); i++) {
+                FlickInput.Flick flick = pending.get(i);
+                simulation.applyImpulse(flick.ix, flick.iy);
+                delay.record(tickNanos - flick.timeNanos);
+                if (tickNanos < flick.timeNanos) early++;
+            }
+            pending.clear();
+            tickNanos += SimulationThread.TICK_NANOS;
+        }
+    }
+
+    // 렌더 프레임과 시뮬레이션 틱을 가상 시계로 돌리며 이벤트 전달 (events = 지금 방식, 아니면 예전 폴링)
+    private Result run(boolean threaded, boolean events) {
+        GameRandom random = new GameRandom(11L);
+        GameSimulation simulation = GameSimulation.createHeadless(0, 1L);
+        simulation.setRecordEvents(false);
+        FlickInput input = new FlickInput(null);
+        PollingTicks polling = new PollingTicks();
+        double positionError = 0;
+        long deliveryLag = 0;
+
+        // 프레임 진행 상태
+        long frame = random.nextInt((int)SimulationThread.TICK_NANOS);
+        long previousFrame = frame - SimulationThread.TICK_NANOS;
+        int delivered = 0;          // 전달한 이벤트 수 (플릭마다 down, up)
+        boolean dragging = false;   // 예전 방식
+        float dragStartX = 0f, dragStartY = 0f;
+        float pointerX = 0f, pointerY = 0f;
+
+        // 틱 진행 상태 (스레드 모드)
+        long next = 0L;
+        long busyUntil = 0L;
+
+        while (frame < end) {
+            // 스레드 모드: 이번 프레임 전에 시작하는 틱 (SimulationThread.run 과 같은 따라잡기)
+            while (threaded && Math.max(next, busyUntil) < frame) {
+                long start = Math.max(next, busyUntil);
+                if (start - next > 5 * SimulationThread.TICK_NANOS) {
+                    next = start;
+                }
+                input.beginTicks(next);
+                polling.tickNanos = next;
+                simulation.advance(GameSimulation.TICK_DT, events ? input : polling);
+                busyUntil = start + (random.nextInt(100) == 0 ? 50000000L : 300000L);
+                next += SimulationThread.TICK_NANOS;
+            }
+
+            // 프레임 시작: 지난 프레임 이후 이벤트 전달
+            boolean justTouched = false;
+            while (delivered < down.length * 2) {
+                int flick = delivered / 2;
+                boolean isDown = delivered % 2 == 0;
+                long eventTime = isDown ? down[flick] : up[flick];
+                if (eventTime > frame) break;
+                float x = isDown ? points[flick][0] : points[flick][2];
+                float y = isDown ? points[flick][1] : points[flick][3];
+                if (isDown) {
+                    input.press(x, y, eventTime);
+                    justTouched = true;
+                } else {
+                    input.release(x, y, eventTime);
+                    deliveryLag = Math.max(deliveryLag, frame - eventTime);
+                    for (FlickInput.Flick queued : input.flicks) {
+                        if (events && queued.timeNanos == eventTime) {
+                            positionError += error(points[flick], queued.ix, queued.iy);
+                        }
+                    }
+                }
+                pointerX = x;
+                pointerY = y;
+                delivered++;
+            }
+
+            // 예전 방식: 이 시점의 누름 상태와 포인터 위치 (드래그 중이면 직선으로 움직이는 중)
+            int current = (delivered - 1) / 2;
+            boolean touched = delivered % 2 == 1;
+            if (touched) {
+                float t = (float)(frame - down[current]) / (up[current] - down[current]);
+                pointerX = points[current][0] + (points[current][2] - points[current][0]) * t;
+                pointerY = points[current][1] + (points[current][3] - points[current][1]) * t;
+            }
+            if (justTouched) {
+                dragging = true;
+                dragStartX = pointerX;
+                dragStartY = pointerY;
+            } else if (dragging && !touched) {
+                dragging = false;
+                float ix = (dragStartX - pointerX) * FlickInput.IMPULSE_SCALE;
+                float iy = (pointerY - dragStartY) * FlickInput.IMPULSE_SCALE;
+                if (!events && (ix != 0f || iy != 0f)) {
+                    polling.pending.add(new FlickInput.Flick(ix, iy, up[current]));
+                    positionError += error(points[current], ix, iy);
+                }
+            }
+
+            // 인라인 모드: 이번 프레임 시간만큼 진행 (Main 과 같은 계산으로 첫 틱 예정 시각)
+            if (!threaded) {
+                float dt = Math.min((frame - previousFrame) / 1e9f, 1 / 30f);
+                long firstTick = frame - (long)((simulation.getAccumulator() + dt) * 1e9) + SimulationThread.TICK_NANOS;
+                input.beginTicks(firstTick);
+                polling.tickNanos = firstTick;
+                simulation.advance(dt, events ? input : polling);
+            }
+
+            // 죽거나 깨면 그 자리에서 다시 (쿨타임이 다시 돌도록)
+            if (simulation.getOutcome() != GameSimulation.Outcome.NONE) {
+                simulation.loadCurrentLevel();
+            }
+
+            // 다음 프레임: 60Hz + 흔들림 1ms, 2% 는 한 프레임 밀림
+            previousFrame = frame;
+            frame += SimulationThread.TICK_NANOS + random.nextInt(2000000) - 1000000L;
+            if (random.nextInt(50) == 0) {
+                frame += SimulationThread.TICK_NANOS;
+            }
+        }
+
+        Result result = new Result();
+        result.delay = events ? input.getDelay() : polling.delay;
+        result.early = polling.early;
+        result.lost = down.length - (int)result.delay.getCount();
+        result.positionError = result.delay.getCount() > 0 ? positionError / result.delay.getCount() : 0.0;
+        result.deliveryLag = deliveryLag;
+        simulation.getLevelManager().dispose();
+        return result;
+    }
+
+    // 실제 플릭 (누른 위치 -> 뗀 위치) 과 만든 힘의 차이 (화면 픽셀)
+    private static double error(float[] points, float ix, float iy) {
+        double ex = (points[0] - points[2]) * FlickInput.IMPULSE_SCALE - ix;
+        double ey = (points[3] - points[1]) * FlickInput.IMPULSE_SCALE - iy;
+        return Math.sqrt(ex * ex + ey * ey) / FlickInput.IMPULSE_SCALE;
+    }
+}
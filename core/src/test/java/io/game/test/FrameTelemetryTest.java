@@ -0,0 +1,105 @@
+package io.game.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+// 기록 -> TelemetryReader 로 다시 읽기, 링이 가득 찼을 때 버리기, 쓰다 만 블록 무시
+public class FrameTelemetryTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static void recordFrame(FrameTelemetry telemetry, int frame) {
+        telemetry.record(frame * 16666667L, 0.016f, frame % 2, frame % 300, 4, 12,
+            120000L + frame, 900000L, 1100000L);
+    }
+
+    @Test
+    public void roundTripsEveryColumn() throws IOException {
+        File file = folder.newFile("telemetry.bin");
+        // 링이 넣을 프레임 수보다 크므로 버리는 것 없이 기록 스레드와 동시에 진행
+        FrameTelemetry telemetry = new FrameTelemetry(file, 8192);
+        telemetry.start();
+        int frames = 5000;
+        for (int frame = 0; frame < frames; frame++) {
+            recordFrame(telemetry, frame);
+        }
+        telemetry.stop();
+        assertEquals(0, telemetry.getDropped());
+
+        TelemetryReader reader = new TelemetryReader(file);
+        assertEquals(frames, reader.getRowCount());
+        assertEquals(FrameTelemetry.COLUMN_NAMES.length, reader.getColumnNames().length);
+        for (String name : FrameTelemetry.COLUMN_NAMES) {
+            assertNotNull(name, reader.getColumn(name));
+        }
+        double[] time = reader.getColumn("time_ns");
+        double[] ticks = reader.getColumn("sim_ticks");
+        double[] bullets = reader.getColumn("bullets");
+        double[] update = reader.getColumn("update_us");
+        double[] dt = reader.getColumn("dt_ms");
+        double[] collections = reader.getColumn("gc_count");
+        for (int row = 1; row < frames; row++) {
+            // 블록마다 한 번 읽으므로 줄어들지만 않으면 됨
+            assertTrue(collections[row] >= collections[row - 1]);
+            assertEquals(16666667.0, time[row] - time[row - 1], 0);
+            assertEquals(row % 2, ticks[row], 0);
+            assertEquals(row % 300, bullets[row], 0);
+            assertEquals((120000 + row) / 1000, update[row], 0);
+            assertEquals(16f, dt[row], 1e-3);
+        }
+    }
+
+    @Test
+    public void dropsWhenRingIsFull() throws IOException {
+        File file = folder.newFile("telemetry.bin");
+        // 기록 스레드 없이 링 크기보다 많이 넣음
+        FrameTelemetry telemetry = new FrameTelemetry(file, 64);
+        for (int frame = 0; frame < 100; frame++) {
+            recordFrame(telemetry, frame);
+        }
+        assertEquals(64, telemetry.getRecorded());
+        assertEquals(36, telemetry.getDropped());
+        telemetry.stop();
+
+        TelemetryReader reader = new TelemetryReader(file);
+        assertEquals(64, reader.getRowCount());
+        assertEquals(1, reader.getBlockCount());
+        assertEquals(63, reader.getColumn("bullets")[63], 0);
+    }
+
+    @Test
+    public void ignoresTruncatedBlock() throws IOException {
+        File file = folder.newFile("telemetry.bin");
+        FrameTelemetry telemetry = new FrameTelemetry(file, 64);
+        for (int frame = 0; frame < 40; frame++) {
+            recordFrame(telemetry, frame);
+        }
+        telemetry.stop();
+        long complete = file.length();
+
+        // 두 번째 블록을 붙인 뒤 중간에서 자름 (기록 도중 강제 종료)
+        RandomAccessFile raw = new RandomAccessFile(file, "rw");
+        try {
+            raw.seek(complete);
+            raw.writeInt(FrameTelemetry.BLOCK_MAGIC);
+            raw.writeInt(40);
+            raw.writeLong(40);
+            raw.write(new byte[100]);
+        } finally {
+            raw.close();
+        }
+
+        TelemetryReader reader = new TelemetryReader(file);
+        assertEquals(40, reader.getRowCount());
+        assertEquals(1, reader.getBlockCount());
+    }
+}
@@ -0,0 +1,149 @@
+package io.game.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.Test;
+
+// 입력 -> 적용/그리기/교환 지연: 시각을 직접 넣은 경우, 그리고 시뮬레이션 스레드 + 렌더 루프 흉내 (실제 시계)
+public class InputLatencyTest {
+    private static final long MS = 1000000L;
+
+    @Test
+    public void samplesMoveThroughDrawAndSwap() {
+        InputLatency latency = new InputLatency();
+        long event = System.nanoTime() - 3 * MS;
+        latency.applied(event, 5);
+        assertEquals(1, latency.getToApply().getCount());
+        assertTrue(latency.getToApply().getMin() >= 3 * MS);
+        assertEquals(1, latency.getWaiting());
+
+        // 5 번째 틱 이전 상태를 그렸으면 아직 반영되지 않음
+        latency.drawn(5, event + 10 * MS);
+        assertEquals(0, latency.getToDraw().getCount());
+        assertEquals(1, latency.getWaiting());
+
+        latency.drawn(6, event + 20 * MS);
+        assertEquals(1, latency.getToDraw().getCount());
+        assertEquals(20 * MS, latency.getToDraw().getMax());
+        assertEquals(0, latency.getWaiting());
+
+        // 다음 render() 시작이 교환 시점, 한 번만 셈
+        latency.frameStarted(event + 25 * MS);
+        latency.frameStarted(event + 42 * MS);
+        assertEquals(1, latency.getToSwap().getCount());
+        assertEquals(25 * MS, latency.getToSwap().getMax());
+    }
+
+    // 61 = Lwjgl3Launcher 기본값 (주사율 + 1)
+    @Test
+    public void everyFlickIsDisplayedAtDisplayRate() {
+        FlickInput input = new FlickInput(null);
+        assertAllDisplayed(input, run(input, 61, 1));
+    }
+
+    @Test
+    public void everyFlickIsDisplayedUncapped() {
+        FlickInput input = new FlickInput(null);
+        assertAllDisplayed(input, run(input, 0, 1));
+    }
+
+    // 뗀 플릭이 모두 적용되고 그려지고 교환됨, 구간은 적용 <= 그리기 <= 교환 순
+    private static void assertAllDisplayed(FlickInput input, int flicks) {
+        InputLatency latency = input.getLatency();
+        assertTrue(flicks > 10);
+        assertEquals(flicks, input.getDelay().getCount());
+        assertEquals(flicks, latency.getToApply().getCount());
+        assertEquals(flicks, latency.getToDraw().getCount());
+        assertEquals(flicks, latency.getToSwap().getCount());
+        assertEquals(0, latency.getWaiting());
+        assertTrue(latency.getToDraw().getMin() >= latency.getToApply().getMin());
+        assertTrue(latency.getToSwap().getMin() >= latency.getToDraw().getMin());
+        assertTrue(latency.getToSwap().getMean() >= latency.getToDraw().getMean());
+    }
+
+    // 합성 터치 이벤트는 프레임 사이 임의 시각에 일어나고 다음 프레임 시작에 전달된다 (GLFW 처럼).
+    // 그리기는 GPU 가 없으므로 바쁜 대기 2ms, 교환은 프레임 제한까지 대기로 흉내낸다. 0 = 제한 없음
+    // 반환값: 뗀 플릭 수
+    private static int run(FlickInput input, int fpsCap, int seconds) {
+        SimulationView view = new SimulationView(createQuiet(), createQuiet(), input);
+        InputLatency latency = input.getLatency();
+        view.start(null);
+
+        GameRandom random = new GameRandom(5L);
+        long frameNanos = fpsCap > 0 ? 1000000000L / fpsCap : 0L;
+        long start = System.nanoTime();
+        long end = start + seconds * 1000000000L;
+        long nextEvent = start + 50 * MS;
+        boolean pressed = false;
+        int flicks = 0;
+        long nextFrame = start;
+        try {
+            while (true) {
+                long frameStart = System.nanoTime();
+                latency.frameStarted(frameStart);
+                if (frameStart >= end && latency.getWaiting() == 0 && input.getPending() == 0) break;
+                if (frameStart >= end + 1000000000L) break;
+
+                // 지난 프레임 이후 일어난 이벤트 전달 (누르고 10~30ms 뒤 떼기, 떼고 20~60ms 뒤 다시 누르기)
+                while (nextEvent <= frameStart && nextEvent < end) {
+                    if (!pressed) {
+                        input.press(100f, 100f, nextEvent);
+                        nextEvent += 10 * MS + random.nextInt(20000000);
+                    } else {
+                        input.release(120f, 90f, nextEvent);
+                        flicks++;
+                        nextEvent += 20 * MS + random.nextInt(40000000);
+                    }
+                    pressed = !pressed;
+                }
+
+                view.update(GameSimulation.TICK_DT, true);
+                // 게임 오버 중에는 틱이 멈춰서 플릭이 밀리므로 탄환 없는 레벨로 돌리고, 그래도 끝나면 다시 로드
+                if (view.getOutcome() != GameSimulation.Outcome.NONE) {
+                    view.run(new SimulationThread.Command() {
+                        @Override
+                        public void run(GameSimulation simulation) {
+                            if (simulation.getOutcome() != GameSimulation.Outcome.NONE) {
+                                simulation.loadCurrentLevel();
+                            }
+                        }
+                    });
+                }
+
+                // 그리기 흉내
+                long drawEnd = System.nanoTime() + 2 * MS;
+                while (System.nanoTime() < drawEnd) {
+                    // 바쁜 대기
+                }
+                latency.drawn(view.getTotalTicks(), System.nanoTime());
+
+                // 교환 흉내 (프레임 제한까지 대기)
+                nextFrame += frameNanos;
+                long wait = nextFrame - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                } else {
+                    nextFrame = System.nanoTime();
+                }
+            }
+        } finally {
+            view.dispose();
+            view.getView().getLevelManager().dispose();
+        }
+        return flicks;
+    }
+
+    // 탄환이 없고 끝나지 않는 첫 레벨
+    private static GameSimulation createQuiet() {
+        GameSimulation simulation = GameSimulation.createHeadless(0, 1L);
+        simulation.setRecordEvents(false);
+        Level level = simulation.getLevelManager().getLevel(0);
+        level.setBulletDensity(0f);
+        level.setSurvivalTime(Float.MAX_VALUE);
+        simulation.loadCurrentLevel();
+        return simulation;
+    }
+}
@@ -0,0 +1,52 @@
+package io.game.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+// 레벨마다 한 번만 돌고, 실제 게임 상태에는 영향이 없는지
+public class JitWarmupTest {
+    @Test
+    public void disabledByDefault() {
+        JitWarmup warmup = new JitWarmup(0);
+        assertFalse(warmup.isEnabled());
+        assertFalse(warmup.warmUp(0));
+        assertEquals(0, warmup.getLastTicks());
+    }
+
+    @Test
+    public void runsOncePerLevel() {
+        JitWarmup warmup = new JitWarmup(120);
+        assertTrue(warmup.warmUp(1));
+        assertEquals(120, warmup.getLastTicks());
+        assertTrue(warmup.getLastNanos() > 0);
+        assertFalse(warmup.warmUp(1));
+        assertTrue(warmup.warmUp(2));
+    }
+
+    @Test
+    public void doesNotDisturbRunningGame() {
+        GameSimulation simulation = GameSimulation.createHeadless(2, 8L);
+        GameSimulation reference = GameSimulation.createHeadless(2, 8L);
+        simulation.setRecordEvents(false);
+        reference.setRecordEvents(false);
+        JitWarmup warmup = new JitWarmup(300);
+        for (int tick = 0; tick < 240; tick++) {
+            // 레벨 전환 도중처럼 진행 사이사이에 예열
+            if (tick % 60 == 0) {
+                warmup.warmUp(tick / 60 % 3);
+            }
+            simulation.step();
+            reference.step();
+        }
+        StateSnapshot a = new StateSnapshot();
+        StateSnapshot b = new StateSnapshot();
+        a.save(simulation);
+        b.save(reference);
+        assertTrue(a.contentEquals(b));
+        simulation.getLevelManager().dispose();
+        reference.getLevelManager().dispose();
+    }
+}
@@ -0,0 +1,64 @@
+package io.game.test;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+// 방출 -> 파티클 생성, 수명이 끝나면 제거, 풀/링이 가득 찼을 때 버린 수
+public class ParticleSystemTest {
+    private static final float DT = GameSimulation.TICK_DT;
+
+    @Test
+    public void emissionsBecomeParticlesOnUpdate() {
+        ParticleSystem particles = new ParticleSystem(ParticleSystem.DEFAULT_CAPACITY);
+        particles.emit(ParticleSystem.Emitter.IMPACT, 100f, 100f, 1f, 0f);
+        particles.emit(ParticleSystem.Emitter.DEATH, 200f, 200f, 0f, 0f);
+        assertEquals(0, particles.getCount());
+
+        particles.update(DT);
+        assertEquals(6 + 48, particles.getCount());
+        assertEquals(2, particles.getEmitted());
+
+        // 가장 긴 수명(DEATH 0.9 초)이 지나면 모두 사라짐
+        for (int tick = 0; tick < 60; tick++) {
+            particles.update(DT);
+        }
+        assertEquals(0, particles.getCount());
+        assertEquals(0, particles.getDroppedParticles());
+    }
+
+    @Test
+    public void fullPoolDropsParticles() {
+        ParticleSystem particles = new ParticleSystem(100);
+        for (int i = 0; i < 3; i++) {
+            particles.emit(ParticleSystem.Emitter.DEATH, 0f, 0f, 0f, 0f);
+        }
+        particles.update(DT);
+        assertEquals(100, particles.getCount());
+        assertEquals(3 * 48 - 100, particles.getDroppedParticles());
+    }
+
+    @Test
+    public void fullRingDropsEmissions() {
+        ParticleSystem particles = new ParticleSystem(ParticleSystem.DEFAULT_CAPACITY);
+        for (int i = 0; i < 300; i++) {
+            particles.emit(ParticleSystem.Emitter.IMPACT, 0f, 0f, 1f, 0f);
+        }
+        assertEquals(300 - 256, particles.getDroppedEmissions());
+        particles.update(DT);
+        assertEquals(256, particles.getEmitted());
+    }
+
+    @Test
+    public void disabledAndClearedEmitNothing() {
+        ParticleSystem particles = new ParticleSystem(ParticleSystem.DEFAULT_CAPACITY);
+        particles.setEnabled(false);
+        particles.emit(ParticleSystem.Emitter.BOUNCE, 0f, 0f, 0f, 1f);
+        particles.setEnabled(true);
+        particles.emit(ParticleSystem.Emitter.BOUNCE, 0f, 0f, 0f, 1f);
+        particles.clear();
+        particles.update(DT);
+        assertEquals(0, particles.getCount());
+        assertEquals(0, particles.getEmitted());
+    }
+}
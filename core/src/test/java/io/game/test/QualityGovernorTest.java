@@ -0,0 +1,65 @@
+package io.game.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.junit.Test;
+
+// 과부하면 내리고, 예산 근처에서 흔들려도 그대로, 여유가 이어지면 다시 올림
+public class QualityGovernorTest {
+    private static final float BUDGET = 16.7f;
+
+    // frames 개의 프레임 시간을 넣고 단계가 바뀐 횟수 반환 (jitter 만큼 번갈아 흔듦)
+    private static int feed(QualityGovernor governor, int frames, float ms, float jitter) {
+        int changes = 0;
+        for (int i = 0; i < frames; i++) {
+            float value = ms + ((i & 1) == 0 ? jitter : -jitter);
+            if (governor.frame(value)) changes++;
+        }
+        return changes;
+    }
+
+    @Test
+    public void followsLoadWithHysteresis() {
+        QualityGovernor governor = new QualityGovernor(BUDGET, -1);
+
+        assertEquals(0, feed(governor, 180, BUDGET * 0.9f, 0f));
+        assertEquals(QualityGovernor.Tier.HIGH, governor.getTier());
+
+        // 6초 과부하: 1초 넘게 이어질 때마다, 바꾼 뒤 2초 쉬고 한 단계씩
+        int downgrades = feed(governor, 240, 25f, 0f);
+        assertEquals(2, downgrades);
+        assertEquals(QualityGovernor.Tier.LOW, governor.getTier());
+
+        // 예산 ±8% 흔들림은 어느 쪽 문턱도 넘지 않음
+        assertEquals(0, feed(governor, 300, BUDGET, BUDGET * 0.08f));
+        assertEquals(QualityGovernor.Tier.LOW, governor.getTier());
+
+        // 긴 여유: 한 단계씩 HIGH 까지
+        assertEquals(2, feed(governor, 2400, BUDGET * 0.5f, 0f));
+        assertEquals(QualityGovernor.Tier.HIGH, governor.getTier());
+    }
+
+    @Test
+    public void lockedTierNeverChanges() {
+        QualityGovernor governor = new QualityGovernor(BUDGET, 3);
+        assertEquals(QualityGovernor.Tier.MINIMUM, governor.getTier());
+        assertEquals(0, feed(governor, 600, 40f, 0f));
+        assertEquals(0, feed(governor, 600, 2f, 0f));
+        assertEquals(QualityGovernor.Tier.MINIMUM, governor.getTier());
+    }
+
+    @Test
+    public void animationFollowsTierInterval() {
+        QualityGovernor governor = new QualityGovernor(BUDGET, 2);
+        int animated = 0;
+        long now = 1000000L;
+        for (int i = 0; i < 40; i++) {
+            governor.frame(now);
+            now += 16666667L;
+            if (governor.isAnimationFrame()) animated++;
+        }
+        assertEquals(40 / QualityGovernor.Tier.LOW.animationInterval, animated);
+        assertFalse(governor.frame(now));
+    }
+}
@@ -0,0 +1,49 @@
+package io.game.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+// 헤드리스로 레벨을 반복 재시작 (봇 플레이, 스냅샷 복원, 다음 레벨 포함) 한 뒤 기준선으로 돌아오는지
+public class ResourceTrackerTest {
+    @Test
+    public void restartsReturnToBaseline() {
+        ResourceTracker.Snapshot baseline = ResourceTracker.snapshot();
+        GameSimulation simulation = GameSimulation.createHeadless(0, 1L);
+        simulation.setRecordEvents(false);
+        AutoPlayBot bot = new AutoPlayBot(GameSimulation.createHeadless(0, 0L), 30, 8);
+        StateSnapshot checkpoint = new StateSnapshot();
+        int ticks = 300;
+        for (int restart = 0; restart < 8; restart++) {
+            checkpoint.save(simulation);
+            for (int tick = 0; tick < ticks && simulation.getOutcome() == GameSimulation.Outcome.NONE; tick++) {
+                bot.control(simulation);
+                simulation.step();
+                if (tick == ticks / 2) {
+                    checkpoint.restore(simulation);
+                }
+            }
+            if (simulation.getOutcome() == GameSimulation.Outcome.LEVEL_COMPLETE &&
+                simulation.getLevelManager().hasNextLevel()) {
+                simulation.nextLevel();
+            } else {
+                simulation.loadCurrentLevel();
+            }
+        }
+        assertTrue(ResourceTracker.leaksSince(baseline, "running") > 0);
+        simulation.getLevelManager().dispose();
+        bot.dispose();
+
+        assertEquals(ResourceTracker.summary(), 0, ResourceTracker.leaksSince(baseline, "after restarts"));
+    }
+
+    @Test
+    public void countsUndisposedObjects() {
+        ResourceTracker.Snapshot baseline = ResourceTracker.snapshot();
+        Bullet bullet = new Bullet(null, 0f, 0f, 0f, 0f, Bullet.RADIUS);
+        assertEquals(1, ResourceTracker.leaksSince(baseline, "one bullet"));
+        bullet.dispose();
+        assertEquals(0, ResourceTracker.leaksSince(baseline, "disposed"));
+    }
+}
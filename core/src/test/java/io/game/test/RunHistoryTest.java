@@ -0,0 +1,147 @@
+package io.game.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+// 색인 조회가 전체를 훑은 결과와 같은지, 다시 열기/매핑 늘리기/추가 도중 종료 복구
+public class RunHistoryTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file;
+    private RunHistory history;
+
+    // 추가한 내용 (비교용)
+    private final ArrayList<int[]> appended = new ArrayList<int[]>();   // level, ticks, cleared
+
+    @Before
+    public void open() throws IOException {
+        file = new File(folder.getRoot(), "history/runs.bin");
+        history = new RunHistory(file);
+    }
+
+    @After
+    public void close() {
+        history.dispose();
+    }
+
+    private void appendRandom(int records, long seed) {
+        GameRandom random = new GameRandom(seed);
+        for (int i = 0; i < records; i++) {
+            int level = random.nextInt(3);
+            boolean cleared = random.nextInt(10) == 0;
+            int ticks = cleared ? 1800 : random.nextInt(1800);
+            history.append(level, random.nextLong(), ticks, 10f, 20f, random.nextInt(40),
+                cleared ? RunHistory.Cause.CLEARED : RunHistory.Cause.BULLET);
+            appended.add(new int[] { level, ticks, cleared ? 1 : 0 });
+        }
+    }
+
+    // 처음 count 개만 있다고 보고 색인 값을 전부 확인
+    private void assertIndexMatches(int count) {
+        assertEquals(count, history.size());
+        RunHistory.Record record = new RunHistory.Record();
+        RunHistory.Record[] recent = new RunHistory.Record[10];
+        for (int i = 0; i < recent.length; i++) {
+            recent[i] = new RunHistory.Record();
+        }
+
+        for (int level = 0; level < 3; level++) {
+            int attempts = 0;
+            int clears = 0;
+            int best = -1;
+            ArrayList<Integer> levelRecords = new ArrayList<Integer>();
+            for (int i = 0; i < count; i++) {
+                int[] entry = appended.get(i);
+                if (entry[0] != level) continue;
+                attempts++;
+                clears += entry[2];
+                if (best < 0 || entry[1] > appended.get(best)[1]) best = i;
+                levelRecords.add(i);
+            }
+            assertEquals(attempts, history.getAttempts(level));
+            assertEquals(clears, history.getClears(level));
+            assertTrue(history.best(level, record));
+            assertEquals(best, record.index);
+            assertEquals(level, record.level);
+
+            int n = history.lastForLevel(level, recent);
+            assertEquals(Math.min(recent.length, levelRecords.size()), n);
+            for (int i = 0; i < n; i++) {
+                assertEquals((int)levelRecords.get(levelRecords.size() - 1 - i), recent[i].index);
+            }
+        }
+
+        int n = history.last(recent);
+        assertEquals(Math.min(recent.length, count), n);
+        for (int i = 0; i < n; i++) {
+            assertEquals(count - 1 - i, recent[i].index);
+            assertEquals(appended.get(count - 1 - i)[1], recent[i].ticks);
+        }
+        assertFalse(history.best(5, record));
+    }
+
+    @Test
+    public void indexMatchesFullScan() {
+        appendRandom(500, 42L);
+        assertIndexMatches(500);
+    }
+
+    @Test
+    public void growsPastInitialMapping() {
+        appendRandom(10000, 7L);
+        assertIndexMatches(10000);
+        assertTrue(file.length() >= 512 + 10000L * RunHistory.RECORD_BYTES);
+    }
+
+    @Test
+    public void reopenKeepsRecords() throws IOException {
+        appendRandom(300, 3L);
+        history.dispose();
+        history = new RunHistory(file);
+        assertIndexMatches(300);
+
+        appendRandom(50, 4L);
+        assertIndexMatches(350);
+    }
+
+    // 레코드와 색인은 썼지만 개수를 올리기 전에 꺼진 것처럼 개수를 되돌림
+    @Test
+    public void rebuildsIndexAfterInterruptedAppend() throws IOException {
+        appendRandom(200, 5L);
+        history.dispose();
+        RandomAccessFile raw = new RandomAccessFile(file, "rw");
+        try {
+            raw.seek(16);   // 헤더의 개수 위치
+            raw.writeLong(190);
+        } finally {
+            raw.close();
+        }
+        history = new RunHistory(file);
+        assertIndexMatches(190);
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsOtherFiles() throws IOException {
+        File other = folder.newFile("other.bin");
+        RandomAccessFile raw = new RandomAccessFile(other, "rw");
+        try {
+            raw.setLength(4096);
+        } finally {
+            raw.close();
+        }
+        new RunHistory(other);
+    }
+}
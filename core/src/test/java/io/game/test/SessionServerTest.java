@@ -0,0 +1,41 @@
+package io.game.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+// 세션들이 고정 주기로 돌고, 예정보다 많이 돌지는 않는지 (스케줄러 두 가지)
+public class SessionServerTest {
+    private static SessionServer.Report run(boolean forcePool) throws InterruptedException {
+        SessionServer server = new SessionServer(60, forcePool);
+        for (int i = 0; i < 4; i++) {
+            server.addSession(2, 0x5EED0000L + i);
+        }
+        server.start();
+        Thread.sleep(1000);
+        server.stop();
+        return server.report();
+    }
+
+    private static void assertReport(SessionServer.Report report) {
+        assertEquals(4, report.sessions);
+        assertTrue("ticks " + report.ticks, report.getTickRatio() > 0.5);
+        // 세션마다 시작이 한 주기 안에서 어긋나 있으므로 많아야 세션당 한 틱 더
+        assertTrue("ticks " + report.ticks + " of " + report.expectedTicks,
+            report.ticks <= report.expectedTicks + report.sessions);
+        assertEquals(report.ticks, report.tickTime.getCount());
+        assertEquals(report.ticks, report.lateness.getCount());
+    }
+
+    @Test
+    public void scheduledPoolKeepsRate() throws InterruptedException {
+        assertReport(run(true));
+    }
+
+    // JDK 21 이상이면 가상 스레드, 아니면 풀로 대신함
+    @Test
+    public void defaultSchedulerKeepsRate() throws InterruptedException {
+        assertReport(run(false));
+    }
+}
@@ -0,0 +1,138 @@
+package io.game.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+// 발행 버퍼 교환, 명령 세대, 일시정지/게임 오버 중 발행 안 함, 실제 스레드로 돌 때 틱이 쌓이는지
+public class SimulationThreadTest {
+    private static GameSimulation create(long seed) {
+        GameSimulation simulation = GameSimulation.createHeadless(1, seed);
+        simulation.setRecordEvents(false);
+        return simulation;
+    }
+
+    @Test
+    public void publishedFrameMatchesSimulation() {
+        GameSimulation simulation = create(4L);
+        GameSimulation reference = create(4L);
+        GameSimulation view = create(0L);
+        SimulationThread simThread = new SimulationThread(simulation, null);
+
+        long lastSequence = 0;
+        for (int i = 0; i < 120; i++) {
+            simThread.tick(System.nanoTime());
+            reference.step();
+
+            SimulationThread.Frame frame = simThread.latest();
+            assertTrue(frame.sequence > lastSequence);
+            lastSequence = frame.sequence;
+            assertEquals(i + 1, frame.totalTicks);
+            // 새로 발행된 게 없으면 같은 버퍼를 그대로 돌려줌
+            assertSame(frame, simThread.latest());
+
+            frame.state.restore(view);
+            StateSnapshot expected = new StateSnapshot();
+            StateSnapshot actual = new StateSnapshot();
+            expected.save(reference);
+            actual.save(view);
+            assertTrue("tick " + i, expected.contentEquals(actual));
+        }
+        simulation.getLevelManager().dispose();
+        reference.getLevelManager().dispose();
+        view.getLevelManager().dispose();
+    }
+
+    @Test
+    public void commandsRunBeforeTheNextTick() {
+        GameSimulation simulation = create(4L);
+        SimulationThread simThread = new SimulationThread(simulation, null);
+        for (int i = 0; i < 30; i++) {
+            simThread.tick(System.nanoTime());
+        }
+        final long[] tickSeen = new long[1];
+        int generation = simThread.post(new SimulationThread.Command() {
+            @Override
+            public void run(GameSimulation simulation) {
+                tickSeen[0] = simulation.getTick();
+            }
+        });
+        assertTrue(simThread.latest().generation < generation);
+
+        simThread.tick(System.nanoTime());
+        assertEquals(30, tickSeen[0]);
+        assertEquals(generation, simThread.latest().generation);
+        simulation.getLevelManager().dispose();
+    }
+
+    @Test
+    public void pausedTicksDoNotPublish() {
+        GameSimulation simulation = create(4L);
+        SimulationThread simThread = new SimulationThread(simulation, null);
+        simThread.tick(System.nanoTime());
+        simThread.setPaused(true);
+        SimulationThread.Frame frame = simThread.latest();
+        long sequence = frame.sequence;
+        for (int i = 0; i < 10; i++) {
+            simThread.tick(System.nanoTime());
+        }
+        assertSame(frame, simThread.latest());
+        assertEquals(sequence, frame.sequence);
+        assertEquals(1, frame.totalTicks);
+
+        // 일시정지 중이라도 명령이 실행되면 발행
+        int generation = simThread.post(new SimulationThread.Command() {
+            @Override
+            public void run(GameSimulation simulation) {
+                simulation.loadCurrentLevel();
+            }
+        });
+        simThread.tick(System.nanoTime());
+        frame = simThread.latest();
+        assertEquals(sequence + 1, frame.sequence);
+        assertEquals(generation, frame.generation);
+        simulation.getLevelManager().dispose();
+    }
+
+    // 게임 오버 뒤에는 틱이 진행되지 않으므로 같은 상태를 다시 발행하지 않음
+    @Test
+    public void finishedSimulationDoesNotPublish() {
+        GameSimulation simulation = create(4L);
+        SimulationThread simThread = new SimulationThread(simulation, null);
+        for (int i = 0; i < 100000 && simulation.getOutcome() == GameSimulation.Outcome.NONE; i++) {
+            simThread.tick(System.nanoTime());
+        }
+        assertTrue(simulation.getOutcome() != GameSimulation.Outcome.NONE);
+        SimulationThread.Frame frame = simThread.latest();
+        long sequence = frame.sequence;
+        long ticks = frame.totalTicks;
+        for (int i = 0; i < 10; i++) {
+            simThread.tick(System.nanoTime());
+        }
+        assertSame(frame, simThread.latest());
+        assertEquals(sequence, frame.sequence);
+        assertEquals(ticks, frame.totalTicks);
+        simulation.getLevelManager().dispose();
+    }
+
+    @Test
+    public void threadAdvancesAtTickRate() throws InterruptedException {
+        GameSimulation simulation = create(4L);
+        SimulationThread simThread = new SimulationThread(simulation, null);
+        simThread.start();
+        long deadline = System.nanoTime() + 5000000000L;
+        long lastSequence = 0;
+        while (simThread.latest().totalTicks < 30) {
+            SimulationThread.Frame frame = simThread.latest();
+            assertTrue(frame.sequence >= lastSequence);
+            lastSequence = frame.sequence;
+            assertTrue("simulation thread stalled", System.nanoTime() < deadline);
+            Thread.sleep(1);
+        }
+        simThread.stop();
+        assertTrue(simThread.getTickTime().getCount() >= 30);
+        simulation.getLevelManager().dispose();
+    }
+}
@@ -0,0 +1,89 @@
+package io.game.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+// 그리는 시뮬레이션 동기화: 한 스레드에서 바로 진행, 시뮬레이션 스레드에서 발행된 상태를 복원
+public class SimulationViewTest {
+    // 시작 스냅샷으로 되돌리는 명령 (실행 횟수를 셈)
+    private static final class Restart implements SimulationThread.Command {
+        final StateSnapshot start = new StateSnapshot();
+        volatile int runs;
+
+        @Override
+        public void run(GameSimulation simulation) {
+            start.restore(simulation);
+            runs++;
+        }
+    }
+
+    @Test
+    public void inlineAdvancesOnlyWhileRunning() {
+        GameSimulation simulation = GameSimulation.createHeadless(0, 5L);
+        simulation.setRecordEvents(false);
+        SimulationView view = new SimulationView(simulation, simulation, new FlickInput(null));
+        view.start(null);
+        assertFalse(view.isThreaded());
+
+        int ticks = 0;
+        for (int frame = 0; frame < 30; frame++) {
+            ticks += view.update(1 / 60f, true);
+        }
+        assertTrue(ticks >= 29);
+        assertEquals(ticks, view.getTotalTicks());
+        assertEquals(ticks, simulation.getTick());
+        assertEquals(0, view.update(1 / 60f, false));
+
+        // 한 스레드에서는 명령이 바로 반영됨
+        Restart restart = new Restart();
+        restart.start.save(GameSimulation.createHeadless(0, 5L));
+        view.runAndAwait(restart);
+        assertEquals(1, restart.runs);
+        assertTrue(view.isCurrent());
+        assertEquals(0, simulation.getTick());
+        view.dispose();
+        simulation.getLevelManager().dispose();
+    }
+
+    @Test
+    public void threadedRestoresPublishedState() throws InterruptedException {
+        GameSimulation simulation = GameSimulation.createHeadless(0, 5L);
+        simulation.setRecordEvents(false);
+        GameSimulation drawn = GameSimulation.createHeadless(0, 0L);
+        drawn.setRecordEvents(false);
+        Restart restart = new Restart();
+        restart.start.save(simulation);
+
+        SimulationView view = new SimulationView(drawn, simulation, new FlickInput(null));
+        view.start(null);
+        assertTrue(view.isThreaded());
+        try {
+            long ticks = 0;
+            for (int frame = 0; frame < 30; frame++) {
+                Thread.sleep(10);
+                ticks += view.update(1 / 60f, true);
+            }
+            assertTrue(ticks > 0);
+            assertEquals(ticks, view.getTotalTicks());
+            assertEquals(drawn.getTick(), view.getTotalTicks());
+
+            // 재시작 명령이 반영된 상태가 보일 때까지는 결과를 판정하지 않음
+            view.runAndAwait(restart);
+            long waited = 0;
+            while (!view.isCurrent() && waited < 2000) {
+                Thread.sleep(5);
+                waited += 5;
+                view.update(1 / 60f, true);
+            }
+            assertTrue(view.isCurrent());
+            assertEquals(1, restart.runs);
+            assertTrue(drawn.getTick() < ticks);
+        } finally {
+            view.dispose();
+            drawn.getLevelManager().dispose();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package io.game.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+// 루프백으로 SpectatorServer 에 SpectatorViewer 를 붙이고, 틱마다 재구성된 상태가 LevelManager 와 같은지
+public class SpectatorStreamTest {
+    private static final float EPSILON = 1e-3f;
+
+    private SpectatorServer server;
+    private SocketChannel channel;
+    private final SpectatorViewer viewer = new SpectatorViewer();
+
+    @Before
+    public void connect() throws IOException {
+        server = new SpectatorServer(0);
+        channel = SocketChannel.open(new InetSocketAddress("127.0.0.1", server.getPort()));
+        channel.configureBlocking(false);
+    }
+
+    @After
+    public void close() throws IOException {
+        channel.close();
+        server.dispose();
+    }
+
+    // 틱 하나 발행하고 관전자가 그 틱까지 받을 때까지 읽음
+    private void publishAndReceive(GameSimulation simulation) throws IOException {
+        server.publish(simulation.getTick(), GameSimulation.TICK_DT, simulation.getLevelManager());
+        long deadline = System.nanoTime() + 2000000000L;
+        while (server.getClientCount() > 0 && viewer.getTick() != simulation.getTick()) {
+            assertTrue("viewer fell behind", viewer.read(channel) >= 0);
+            assertTrue("timed out waiting for tick " + simulation.getTick(), System.nanoTime() < deadline);
+        }
+    }
+
+    private void assertMatches(LevelManager levels) {
+        String at = "tick " + viewer.getTick();
+        assertEquals(at, levels.getCurrentLevelNumber() - 1, viewer.getLevelIndex());
+        assertEquals(at, levels.getPlayer().getX(), viewer.getPlayerX(), EPSILON);
+        assertEquals(at, levels.getPlayer().getY(), viewer.getPlayerY(), EPSILON);
+
+        ArrayList<Enemy> enemies = levels.getEnemies();
+        assertEquals(at, enemies.size(), viewer.getEnemyCount());
+        for (int i = 0; i < enemies.size(); i++) {
+            assertEquals(at, enemies.get(i).getX(), viewer.getEnemyX(i), EPSILON);
+            assertEquals(at, enemies.get(i).getY(), viewer.getEnemyY(i), EPSILON);
+        }
+
+        ArrayList<Bullet> bullets = levels.getBullets();
+        assertEquals(at, bullets.size(), viewer.getBullets().size());
+        for (Bullet bullet : bullets) {
+            SpectatorViewer.RemoteBullet remote = viewer.getBullets().get(bullet.getId());
+            assertNotNull(at + " bullet " + bullet.getId(), remote);
+            assertEquals(at, bullet.getX(), remote.x, EPSILON);
+            assertEquals(at, bullet.getY(), remote.y, EPSILON);
+            assertEquals(at, bullet.getRadius(), remote.radius, EPSILON);
+        }
+
+        ArrayList<Obstacle> obstacles = levels.getObstacles();
+        assertEquals(at, obstacles.size(), viewer.getObstacles().size());
+        for (Obstacle obstacle : obstacles) {
+            SpectatorViewer.RemoteObstacle remote = viewer.getObstacles().get(obstacle.getId());
+            assertNotNull(at + " obstacle " + obstacle.getId(), remote);
+            assertEquals(at, obstacle.getType(), remote.type);
+            assertEquals(at, obstacle.getX(), remote.x, EPSILON);
+            assertEquals(at, obstacle.getY(), remote.y, EPSILON);
+        }
+    }
+
+    @Test
+    public void viewerMirrorsSimulationEveryTick() throws IOException {
+        GameSimulation simulation = GameSimulation.createHeadless(2, 5L);
+        simulation.setRecordEvents(false);
+        int bulletTicks = 0;
+        for (int tick = 0; tick < 900 && simulation.getOutcome() == GameSimulation.Outcome.NONE; tick++) {
+            if (tick % 40 == 0) {
+                simulation.applyImpulse(tick % 80 == 0 ? 300f : -300f, 150f);
+            }
+            simulation.step();
+            publishAndReceive(simulation);
+            assertEquals("client dropped", 1, server.getClientCount());
+            assertMatches(simulation.getLevelManager());
+            if (!simulation.getLevelManager().getBullets().isEmpty()) bulletTicks++;
+        }
+        assertTrue("no bullets were streamed", bulletTicks > 0);
+        assertTrue(server.getTotalBytes() > 0);
+        assertTrue(server.getLastFrameBytes() > 0);
+        simulation.getLevelManager().dispose();
+    }
+
+    // 스냅샷 복원 뒤에는 키 프레임을 다시 보내서 같은 id 의 다른 탄환이 남지 않게 함
+    @Test
+    public void keyframeAfterRestoreResynchronises() throws IOException {
+        GameSimulation simulation = GameSimulation.createHeadless(1, 9L);
+        simulation.setRecordEvents(false);
+        StateSnapshot snapshot = new StateSnapshot();
+        for (int tick = 0; tick < 300 && simulation.getOutcome() == GameSimulation.Outcome.NONE; tick++) {
+            simulation.step();
+            publishAndReceive(simulation);
+            if (tick == 60) {
+                snapshot.save(simulation);
+            }
+        }
+        snapshot.restore(simulation);
+        server.requestKeyframe();
+        for (int tick = 0; tick < 60 && simulation.getOutcome() == GameSimulation.Outcome.NONE; tick++) {
+            simulation.step();
+            publishAndReceive(simulation);
+            assertMatches(simulation.getLevelManager());
+        }
+        simulation.getLevelManager().dispose();
+    }
+
+    // 화면보다 큰 월드: 적이 많아도 잘리지 않고, 한 프레임이 기본 버퍼보다 커도 끊기지 않음
+    @Test
+    public void largeWorldStreamsAllEnemies() throws IOException {
+        GameSimulation simulation = GameSimulation.createHeadless(0, 2L);
+        simulation.setRecordEvents(false);
+        LevelManager levels = simulation.getLevelManager();
+        Level level = levels.createTestWorld(8, 8);
+        // 화면 안에 쏘지 않는 적 40 마리를 더 둠 (예전 상한 32 를 넘김)
+        for (int i = 0; i < 40; i++) {
+            level.addEnemy(new Level.EnemyData(100f + (i % 10) * 60f, 350f + (i / 10) * 60f, 20f,
+                Enemy.ShootPattern.CIRCLE, 1000f, 200f, 1, Enemy.MovementPattern.HORIZONTAL, 1.0f, 40f));
+        }
+        levels.addLevel(level);
+        levels.setCurrentLevelIndex(levels.getTotalLevels() - 1);
+        simulation.loadCurrentLevel();
+
+        // 키 프레임이 기본 프레임 버퍼(256 KB)보다 커지도록 플레이어에게서 먼 구석에 멈춘 탄환을 채움
+        ArrayList<Bullet> extra = new ArrayList<Bullet>();
+        float left = simulation.getWorld().getWidth() - 600f;
+        float bottom = simulation.getWorld().getHeight() - 600f;
+        for (int i = 0; i < 12000; i++) {
+            extra.add(new Bullet(null, left + (i % 100) * 4f, bottom + (i / 100) * 4f, 0f, 0f, Bullet.RADIUS));
+        }
+        levels.addBullets(extra);
+
+        for (int tick = 0; tick < 30 && simulation.getOutcome() == GameSimulation.Outcome.NONE; tick++) {
+            simulation.step();
+            publishAndReceive(simulation);
+            assertEquals("client dropped", 1, server.getClientCount());
+            assertMatches(levels);
+        }
+        assertTrue(viewer.getEnemyCount() > 40);
+        levels.dispose();
+    }
+}
@@ -0,0 +1,152 @@
+package io.game.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+import org.junit.Test;
+
+// 저장 -> 복원 -> 저장 이 바이트 단위로 같은지 (같은 시뮬레이션, 새 헤드리스 시뮬레이션 둘 다)
+public class StateSnapshotTest {
+    private static final int TICKS = 600;
+
+    // 탄환/장애물이 쌓이도록 플릭을 섞어 가며 진행 (죽으면 그 틱에서 멈춤)
+    private static GameSimulation run(int levelIndex, long seed, int ticks) {
+        GameSimulation simulation = GameSimulation.createHeadless(levelIndex, seed);
+        simulation.setRecordEvents(false);
+        for (int tick = 0; tick < ticks && simulation.getOutcome() == GameSimulation.Outcome.NONE; tick++) {
+            if (tick % 45 == 0) {
+                simulation.applyImpulse((tick % 90 == 0 ? 1f : -1f) * 300f, 200f);
+            }
+            simulation.step();
+        }
+        return simulation;
+    }
+
+    @Test
+    public void restoreIntoSameSimulationIsBitIdentical() {
+        for (int level = 0; level < 3; level++) {
+            GameSimulation simulation = run(level, 7L, TICKS);
+            assertTrue(simulation.getTick() > 60);
+            StateSnapshot first = new StateSnapshot();
+            first.save(simulation);
+
+            // 조금 더 진행해서 상태를 바꾼 뒤 되돌림
+            for (int tick = 0; tick < 120; tick++) {
+                simulation.step();
+            }
+            first.restore(simulation);
+            StateSnapshot second = new StateSnapshot();
+            second.save(simulation);
+
+            assertTrue("level " + level, first.contentEquals(second));
+            simulation.getLevelManager().dispose();
+        }
+    }
+
+    @Test
+    public void restoreIntoFreshSimulationIsBitIdentical() {
+        for (int level = 0; level < 3; level++) {
+            GameSimulation simulation = run(level, 7L, TICKS);
+            StateSnapshot first = new StateSnapshot();
+            first.save(simulation);
+
+            GameSimulation fresh = GameSimulation.createHeadless(0, 99L);
+            fresh.setRecordEvents(false);
+            first.restore(fresh);
+            StateSnapshot second = new StateSnapshot();
+            second.save(fresh);
+
+            assertTrue("level " + level, first.contentEquals(second));
+            assertEquals(first.getSizeBytes(), second.getSizeBytes());
+            simulation.getLevelManager().dispose();
+            fresh.getLevelManager().dispose();
+        }
+    }
+
+    @Test
+    public void restoredSimulationsStayInStep() {
+        GameSimulation simulation = run(1, 3L, TICKS / 2);
+        StateSnapshot snapshot = new StateSnapshot();
+        snapshot.save(simulation);
+        GameSimulation fresh = GameSimulation.createHeadless(0, 0L);
+        fresh.setRecordEvents(false);
+        snapshot.restore(fresh);
+
+        // 같은 상태에서 같은 입력이면 계속 같은 상태
+        for (int tick = 0; tick < TICKS / 2; tick++) {
+            if (tick % 60 == 0) {
+                simulation.applyImpulse(250f, -150f);
+                fresh.applyImpulse(250f, -150f);
+            }
+            simulation.step();
+            fresh.step();
+        }
+        StateSnapshot a = new StateSnapshot();
+        StateSnapshot b = new StateSnapshot();
+        a.save(simulation);
+        b.save(fresh);
+        assertTrue(a.contentEquals(b));
+        simulation.getLevelManager().dispose();
+        fresh.getLevelManager().dispose();
+    }
+
+    // 렌더 스레드처럼 매 틱 같은 대상에 복원 (죽으면 레벨을 다시 시작): 결과는 같고, 장애물은 번호마다
+    // 같은 객체를 유지하며 탄환/장애물 객체 수는 동시에 살아 있던 최대 수(장애물은 나타난 번호 수)를 넘지 않음.
+    // 장애물마다 자기 번호를 StaticLayer 회차처럼 찍어 두고, 다른 번호로 재사용되면 지워지는지도 확인
+    @Test
+    public void restoringEveryTickReusesObjects() {
+        GameSimulation simulation = GameSimulation.createHeadless(1, 11L);
+        simulation.setRecordEvents(false);
+        GameSimulation view = GameSimulation.createHeadless(0, 0L);
+        view.setRecordEvents(false);
+        StateSnapshot snapshot = new StateSnapshot();
+        StateSnapshot check = new StateSnapshot();
+
+        HashMap<Integer, Obstacle> obstacleById = new HashMap<Integer, Obstacle>();
+        IdentityHashMap<Obstacle, Boolean> obstacleObjects = new IdentityHashMap<Obstacle, Boolean>();
+        IdentityHashMap<Bullet, Boolean> bulletObjects = new IdentityHashMap<Bullet, Boolean>();
+        int maxBullets = 0;
+        int restarts = 0;
+        for (int tick = 0; tick < TICKS * 2; tick++) {
+            if (simulation.getOutcome() != GameSimulation.Outcome.NONE) {
+                simulation.loadCurrentLevel();
+                restarts++;
+            }
+            if (tick % 45 == 0) {
+                simulation.applyImpulse((tick % 90 == 0 ? 1f : -1f) * 300f, 200f);
+            }
+            simulation.step();
+            snapshot.save(simulation);
+            snapshot.restore(view);
+            check.save(view);
+            assertTrue("tick " + tick, snapshot.contentEquals(check));
+
+            LevelManager levels = view.getLevelManager();
+            for (Obstacle obstacle : levels.getObstacles()) {
+                Obstacle previous = obstacleById.put(obstacle.getId(), obstacle);
+                if (previous != null) {
+                    assertSame("obstacle " + obstacle.getId(), previous, obstacle);
+                }
+                obstacleObjects.put(obstacle, Boolean.TRUE);
+                // 정적 레이어 표시는 같은 장애물일 때만 남음 (풀에서 다른 번호로 재사용되면 지워짐)
+                int stamp = obstacle.getBakedStamp();
+                assertTrue(stamp == 0 || stamp == obstacle.getId());
+                obstacle.setBakedStamp(obstacle.getId());
+            }
+            for (Bullet bullet : levels.getBullets()) {
+                bulletObjects.put(bullet, Boolean.TRUE);
+            }
+            maxBullets = Math.max(maxBullets, levels.getBullets().size());
+        }
+        assertTrue(restarts > 0);
+        assertTrue(maxBullets > 0);
+        assertTrue(bulletObjects.size() + " bullets for " + maxBullets, bulletObjects.size() <= maxBullets);
+        assertTrue(obstacleObjects.size() <= obstacleById.size());
+        simulation.getLevelManager().dispose();
+        view.getLevelManager().dispose();
+    }
+}
@@ -0,0 +1,55 @@
+package io.game.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import javax.imageio.ImageIO;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+// 축소 단계 (한 옥타브에 두 단계, 최소 크기에서 멈춤), 그리고 생성한 파일과 목록이 맞는지
+public class TextureVariantsTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void sizesStepDownToMinimum() {
+        ArrayList<int[]> sizes = TextureVariants.sizes(762, 762);
+        assertEquals(572, sizes.get(0)[0]);
+        assertEquals(381, sizes.get(1)[0]);
+        for (int i = 1; i < sizes.size(); i++) {
+            assertTrue(sizes.get(i)[0] < sizes.get(i - 1)[0]);
+        }
+        assertTrue(sizes.get(sizes.size() - 1)[0] >= 16);
+        assertTrue(TextureVariants.sizes(16, 16).isEmpty());
+    }
+
+    @Test
+    public void writesVariantsAndManifest() throws IOException {
+        File assets = folder.newFolder("assets");
+        File output = folder.newFolder("output");
+        ImageIO.write(new BufferedImage(64, 32, BufferedImage.TYPE_INT_ARGB), "png", new File(assets, "wide.png"));
+        Files.write(new File(assets, "notes.txt").toPath(), "not an image".getBytes(StandardCharsets.UTF_8));
+
+        // 64x32 -> 48x24, 32x16 (다음 24x12 는 최소 크기보다 작음)
+        assertEquals(2, TextureVariants.generate(assets, output));
+        List<String> lines = Files.readAllLines(new File(output, TextureAssets.VARIANT_MANIFEST).toPath(),
+            StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertEquals("wide.png 64 32 variants/wide@48x24.png 48 24", lines.get(0));
+        assertEquals("wide.png 64 32 variants/wide@32x16.png 32 16", lines.get(1));
+
+        BufferedImage smallest = ImageIO.read(new File(output, "variants/wide@32x16.png"));
+        assertEquals(32, smallest.getWidth());
+        assertEquals(16, smallest.getHeight());
+    }
+}
@@ -0,0 +1,263 @@
+package io.game.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+// 세 단과 넘침 목록의 만료가 정확한 틱에 일어나는지, 지난 기한, 리셋 후 재구성,
+// 그리고 GameSimulation 에서 오래된 id 무시와 스냅샷 복원 뒤 만료 틱이 같은지
+public class TimingWheelTest {
+    // 발생한 틱을 id 별로 기록
+    private static final class Recorder implements TimingWheel.Handler {
+        final TimingWheel wheel;
+        final long[] firedAt;
+        int count;
+
+        Recorder(TimingWheel wheel, int ids) {
+            this.wheel = wheel;
+            this.firedAt = new long[ids];
+            Arrays.fill(firedAt, -1L);
+        }
+
+        @Override
+        public void onTimer(Object target, int kind, int id) {
+            assertEquals("id " + id + " fired twice", -1L, firedAt[id]);
+            firedAt[id] = wheel.getNow();
+            count++;
+        }
+    }
+
+    @Test
+    public void randomDeadlinesFireOnExactTick() {
+        // 0, 단 경계 바로 앞, 넘침 목록 경계 바로 앞에서 시작
+        long[] starts = { 0L, 63L, 4095L, 262143L - 10L, 1000003L };
+        GameRandom random = new GameRandom(7L);
+        for (long start : starts) {
+            TimingWheel wheel = new TimingWheel(start);
+            int count = 400;
+            long[] deadlines = new long[count];
+            long last = start;
+            for (int i = 0; i < count; i++) {
+                long delta;
+                switch (i % 4) {
+                    case 0: delta = 1 + random.nextInt(63); break;
+                    case 1: delta = 64 + random.nextInt(4096 - 64); break;
+                    case 2: delta = 4096 + random.nextInt(262144 - 4096); break;
+                    default: delta = 262144 + random.nextInt(400000); break;
+                }
+                deadlines[i] = start + delta;
+                last = Math.max(last, deadlines[i]);
+                wheel.schedule(deadlines[i], null, 0, i);
+            }
+            assertEquals(count, wheel.size());
+
+            // 한 틱씩, 또는 여러 틱을 한 번에 진행
+            Recorder recorder = new Recorder(wheel, count);
+            while (wheel.getNow() < last) {
+                long target = random.nextInt(2) == 0 ? wheel.getNow() + 1 : wheel.getNow() + 1 + random.nextInt(5000);
+                wheel.advance(target, recorder);
+            }
+            for (int i = 0; i < count; i++) {
+                assertEquals("start " + start + " id " + i, deadlines[i], recorder.firedAt[i]);
+            }
+            assertEquals(0, wheel.size());
+            assertEquals(count, wheel.getFired());
+        }
+    }
+
+    @Test
+    public void pastDeadlineIsClampedToNextTick() {
+        TimingWheel wheel = new TimingWheel(10L);
+        wheel.schedule(5L, null, 0, 0);
+        wheel.schedule(10L, null, 0, 1);
+        wheel.schedule(-1L, null, 0, 2);
+        Recorder recorder = new Recorder(wheel, 3);
+        wheel.advance(11L, recorder);
+        assertEquals(11L, recorder.firedAt[0]);
+        assertEquals(11L, recorder.firedAt[1]);
+        assertEquals(11L, recorder.firedAt[2]);
+        assertEquals(0, wheel.size());
+    }
+
+    // GameSimulation.rebuildTimers 처럼: 진행 도중 reset(tick - 1) 뒤 남은 것만 다시 예약
+    @Test
+    public void resetThenRebuildFiresOnlyRescheduled() {
+        TimingWheel wheel = new TimingWheel();
+        GameRandom random = new GameRandom(11L);
+        int count = 200;
+        long[] deadlines = new long[count];
+        for (int i = 0; i < count; i++) {
+            deadlines[i] = random.nextInt(10000);
+            wheel.schedule(deadlines[i], null, 0, i);
+        }
+        Recorder before = new Recorder(wheel, count);
+        int tick = 5000;
+        wheel.advance(tick - 1, before);
+
+        wheel.reset(tick - 1);
+        assertEquals(0, wheel.size());
+        assertEquals(tick - 1, wheel.getNow());
+        int remaining = 0;
+        for (int i = 0; i < count; i++) {
+            if (deadlines[i] >= tick) {
+                wheel.schedule(deadlines[i], null, 0, i);
+                remaining++;
+            }
+        }
+
+        Recorder after = new Recorder(wheel, count);
+        wheel.advance(10000L, after);
+        assertEquals(remaining, after.count);
+        for (int i = 0; i < count; i++) {
+            if (deadlines[i] >= tick) {
+                assertEquals(-1L, before.firedAt[i]);
+                assertEquals(deadlines[i], after.firedAt[i]);
+            } else {
+                assertEquals(Math.max(deadlines[i], 0L), before.firedAt[i]);
+                assertEquals(-1L, after.firedAt[i]);
+            }
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    // 휠에는 취소가 없으므로 id 가 다른 엔트리는 받는 쪽이 무시해야 함
+    @Test
+    public void staleIdsAreIgnored() {
+        GameSimulation simulation = runningLevel3(200);
+        Bullet bullet = findBullet(simulation);
+        Obstacle obstacle = findObstacle(simulation);
+        TimingWheel timers = simulation.getTimers();
+        int tick = simulation.getTick();
+
+        timers.schedule(tick, bullet, GameSimulation.TIMER_BULLET_EXPIRE, bullet.getId() + 1);
+        timers.schedule(tick, obstacle, GameSimulation.TIMER_OBSTACLE_DYING, obstacle.getId() + 1);
+        timers.schedule(tick, obstacle, GameSimulation.TIMER_OBSTACLE_EXPIRE, obstacle.getId() + 1);
+        pinnedStep(simulation);
+        assertTrue(bullet.isActive());
+        assertTrue(simulation.getLevelManager().getBullets().contains(bullet));
+        assertFalse(obstacle.isDying());
+        assertTrue(simulation.getLevelManager().getObstacles().contains(obstacle));
+
+        // 같은 id 면 처리됨
+        tick = simulation.getTick();
+        timers.schedule(tick, bullet, GameSimulation.TIMER_BULLET_EXPIRE, bullet.getId());
+        timers.schedule(tick, obstacle, GameSimulation.TIMER_OBSTACLE_DYING, obstacle.getId());
+        pinnedStep(simulation);
+        assertFalse(simulation.getLevelManager().getBullets().contains(bullet));
+        assertTrue(obstacle.isDying());
+
+        tick = simulation.getTick();
+        timers.schedule(tick, obstacle, GameSimulation.TIMER_OBSTACLE_EXPIRE, obstacle.getId());
+        pinnedStep(simulation);
+        assertFalse(simulation.getLevelManager().getObstacles().contains(obstacle));
+        simulation.getLevelManager().dispose();
+    }
+
+    // 복원한 쪽은 휠을 상태에서 다시 만든다. 이후 매 틱 두 시뮬레이션의 탄환/장애물과 만료 틱이 같아야 함
+    @Test
+    public void restoredSimulationKeepsExpiryTicks() {
+        GameSimulation original = runningLevel3(200);
+        StateSnapshot snapshot = new StateSnapshot();
+        snapshot.save(original);
+        GameSimulation restored = GameSimulation.createHeadless(2, 99L);
+        restored.setRecordEvents(false);
+        snapshot.restore(restored);
+        assertEquals(original.getTick(), restored.getTick());
+        assertEquals(describe(original, true), describe(restored, true));
+
+        int bulletsExpired = 0;
+        int obstaclesExpired = 0;
+        while (original.getOutcome() == GameSimulation.Outcome.NONE) {
+            int tick = restored.getTick();
+            ArrayList<Bullet> expiring = new ArrayList<Bullet>();
+            for (Bullet bullet : restored.getLevelManager().getBullets()) {
+                if (bullet.getExpireTick() == tick) expiring.add(bullet);
+            }
+            ArrayList<Obstacle> obstaclesExpiring = new ArrayList<Obstacle>();
+            for (Obstacle obstacle : restored.getLevelManager().getObstacles()) {
+                if (obstacle.getExpireTick() == tick) obstaclesExpiring.add(obstacle);
+            }
+
+            pinnedStep(original);
+            pinnedStep(restored);
+            assertEquals("tick " + tick, describe(original, false), describe(restored, false));
+            assertEquals(original.getOutcome(), restored.getOutcome());
+
+            // 만료 틱에 정확히 사라지고 죽어가기 시작함
+            for (Bullet bullet : expiring) {
+                assertFalse(restored.getLevelManager().getBullets().contains(bullet));
+                bulletsExpired++;
+            }
+            for (Obstacle obstacle : obstaclesExpiring) {
+                assertFalse(restored.getLevelManager().getObstacles().contains(obstacle));
+                obstaclesExpired++;
+            }
+            for (Obstacle obstacle : restored.getLevelManager().getObstacles()) {
+                if (obstacle.getExpireTick() < 0) continue;
+                assertTrue(obstacle.getExpireTick() > tick);
+                assertEquals(obstacle.getDyingTick() <= tick, obstacle.isDying());
+            }
+        }
+        assertTrue(bulletsExpired > 0);
+        assertTrue(obstaclesExpired > 0);
+        original.getLevelManager().dispose();
+        restored.getLevelManager().dispose();
+    }
+
+    // 장애물이 생기고 사라지는 레벨, 시간으로 끝나지 않게 해서 ticks 만큼 진행
+    private static GameSimulation runningLevel3(int ticks) {
+        GameSimulation simulation = GameSimulation.createHeadless(2, 3L);
+        simulation.setRecordEvents(false);
+        simulation.getLevelManager().getLevel(2).setSurvivalTime(Float.MAX_VALUE);
+        simulation.loadCurrentLevel();
+        for (int i = 0; i < ticks; i++) {
+            pinnedStep(simulation);
+        }
+        assertEquals(GameSimulation.Outcome.NONE, simulation.getOutcome());
+        return simulation;
+    }
+
+    // 입력 없이 두 시뮬레이션이 같게 진행되도록 플레이어를 구석에 고정 (탄환이 오래 남음)
+    private static void pinnedStep(GameSimulation simulation) {
+        Player player = simulation.getLevelManager().getPlayer();
+        player.setX(0f);
+        player.setY(0f);
+        player.setVx(0f);
+        player.setVy(0f);
+        simulation.step();
+    }
+
+    private static Bullet findBullet(GameSimulation simulation) {
+        for (Bullet bullet : simulation.getLevelManager().getBullets()) {
+            if (bullet.isActive() && bullet.getExpireTick() > simulation.getTick() + 10) return bullet;
+        }
+        throw new AssertionError("no bullet");
+    }
+
+    private static Obstacle findObstacle(GameSimulation simulation) {
+        for (Obstacle obstacle : simulation.getLevelManager().getObstacles()) {
+            if (!obstacle.isDying() && obstacle.getDyingTick() > simulation.getTick() + 10) return obstacle;
+        }
+        throw new AssertionError("no spawned obstacle");
+    }
+
+    // 탄환/장애물 (id) 와 만료 틱 목록
+    // 새 고유 번호는 nextEntityId 에서 나오고 이것은 스냅샷에 없으므로 복원 뒤 생긴 것끼리는 id 를 비교하지 않는다
+    private static String describe(GameSimulation simulation, boolean ids) {
+        StringBuilder builder = new StringBuilder();
+        for (Bullet bullet : simulation.getLevelManager().getBullets()) {
+            builder.append('b').append(ids ? bullet.getId() : 0).append(':').append(bullet.getExpireTick())
+                .append(bullet.isActive() ? ' ' : '-');
+        }
+        for (Obstacle obstacle : simulation.getLevelManager().getObstacles()) {
+            builder.append('o').append(ids ? obstacle.getId() : 0).append(':').append(obstacle.getDyingTick())
+                .append('/').append(obstacle.getExpireTick()).append(obstacle.isDying() ? '*' : ' ');
+        }
+        return builder.toString();
+    }
+}
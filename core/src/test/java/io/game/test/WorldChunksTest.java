@@ -0,0 +1,101 @@
+package io.game.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+// 로드 범위 계산, 그리고 16 -> 64 화면 크기로 월드를 키워도 로드된 칸/엔티티/힙이 그대로인지
+public class WorldChunksTest {
+    private static final float VIEW_WIDTH = GameSimulation.WORLD_WIDTH;
+    private static final float VIEW_HEIGHT = GameSimulation.WORLD_HEIGHT;
+
+    // 알림을 그대로 모음
+    private static final class Recorder implements WorldChunks.Listener {
+        final ArrayList<Integer> loaded = new ArrayList<Integer>();
+        final ArrayList<Integer> unloaded = new ArrayList<Integer>();
+
+        @Override
+        public void onLoad(int chunk) { loaded.add(chunk); }
+
+        @Override
+        public void onUnload(int chunk) { unloaded.add(chunk); }
+    }
+
+    @Test
+    public void loadsRectangleAroundFocus() {
+        WorldChunks chunks = new WorldChunks(VIEW_WIDTH * 8, VIEW_HEIGHT * 8, VIEW_WIDTH, VIEW_HEIGHT);
+        Recorder recorder = new Recorder();
+        assertTrue(chunks.update(VIEW_WIDTH * 4, VIEW_HEIGHT * 4, recorder));
+        assertEquals(chunks.getLoadedCount(), recorder.loaded.size());
+        for (int chunk = 0; chunk < chunks.getChunkCount(); chunk++) {
+            assertEquals(recorder.loaded.contains(chunk), chunks.isLoaded(chunk));
+        }
+        assertTrue(chunks.isLoaded(chunks.chunkAt(VIEW_WIDTH * 4, VIEW_HEIGHT * 4)));
+        assertFalse(chunks.isLoaded(chunks.chunkAt(0f, 0f)));
+
+        // 같은 칸 안에서 움직이면 그대로
+        assertFalse(chunks.update(VIEW_WIDTH * 4 + 1f, VIEW_HEIGHT * 4 + 1f, recorder));
+    }
+
+    @Test
+    public void unloadsWhatItLeavesBehind() {
+        WorldChunks chunks = new WorldChunks(VIEW_WIDTH * 8, VIEW_HEIGHT * 8, VIEW_WIDTH, VIEW_HEIGHT);
+        Recorder recorder = new Recorder();
+        for (float x = 0f; x <= VIEW_WIDTH * 8; x += 50f) {
+            chunks.update(x, VIEW_HEIGHT * 2, recorder);
+            assertEquals(chunks.getLoadedCount(), recorder.loaded.size() - recorder.unloaded.size());
+        }
+        assertEquals(recorder.loaded.size(), chunks.getLoads());
+        assertEquals(recorder.unloaded.size(), chunks.getUnloads());
+        assertTrue(chunks.getPeakLoaded() < chunks.getChunkCount() / 4);
+        // 지나온 칸은 모두 치움
+        for (int chunk : recorder.unloaded) {
+            assertFalse(chunks.isLoaded(chunk));
+        }
+    }
+
+    @Test
+    public void stateRoundTrips() {
+        WorldChunks chunks = new WorldChunks(VIEW_WIDTH * 4, VIEW_HEIGHT * 4, VIEW_WIDTH, VIEW_HEIGHT);
+        chunks.update(VIEW_WIDTH * 3, VIEW_HEIGHT, new Recorder());
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        chunks.writeState(buffer);
+        buffer.flip();
+
+        WorldChunks restored = new WorldChunks(VIEW_WIDTH * 4, VIEW_HEIGHT * 4, VIEW_WIDTH, VIEW_HEIGHT);
+        restored.readState(buffer);
+        assertEquals(chunks.getFirstColumn(), restored.getFirstColumn());
+        assertEquals(chunks.getLastColumn(), restored.getLastColumn());
+        assertEquals(chunks.getFirstRow(), restored.getFirstRow());
+        assertEquals(chunks.getLastRow(), restored.getLastRow());
+        assertEquals(chunks.getActiveLeft(), restored.getActiveLeft(), 0f);
+        assertEquals(chunks.getActiveTop(), restored.getActiveTop(), 0f);
+        // 복원은 알림 없이 범위만 바꾸므로 같은 위치로 다시 갱신해도 바뀐 것 없음
+        assertFalse(restored.update(VIEW_WIDTH * 3, VIEW_HEIGHT, new Recorder()));
+    }
+
+    @Test
+    public void costStaysFlatFromSixteenToSixtyFourScreens() {
+        WorldChunksBench.Result small = WorldChunksBench.traverse(4, 3600);
+        WorldChunksBench.Result large = WorldChunksBench.traverse(8, 3600);
+
+        assertTrue(large.chunks > small.chunks * 3);
+        assertTrue(large.loads > 0);
+        assertEquals(small.maxLoaded, large.maxLoaded);
+        assertTrue(large.maxEnemies <= small.maxEnemies);
+        assertTrue(large.maxObstacles <= small.maxObstacles);
+        assertTrue(large.maxBullets <= small.maxBullets * 2);
+        // 레벨 정의는 월드 크기에 비례하지만 로드된 것은 그대로라서 힙 차이는 작음
+        assertTrue("heap grew by " + (large.heapBytes - small.heapBytes) / 1024 + " KB",
+            large.heapBytes - small.heapBytes < 2L * 1024 * 1024);
+
+        assertTrue(small.restores > 0);
+        assertEquals(0, small.mismatches);
+        assertEquals(0, large.mismatches);
+    }
+}
@@ -0,0 +1,39 @@
+package io.game.test;
+
+// 헤드리스로 봇을 최대 속도로 돌려서 레벨별 결과 출력
+// 실행: ./gradlew core:runTool -Ptool=AutoPlayBench -Pargs="[level] [runs] [seed]"
+public class AutoPlayBench {
+    public static void main(String[] args) {
+        int level = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1L;
+
+        AutoPlayBot bot = new AutoPlayBot();
+        GameRandom seeds = new GameRandom(seed);
+        int clears = 0;
+        long simulatedTicks = 0;
+        long start = System.nanoTime();
+
+        for (int run = 0; run < runs; run++) {
+            GameSimulation simulation = GameSimulation.createHeadless(level - 1, seeds.nextLong());
+            while (simulation.getOutcome() == GameSimulation.Outcome.NONE) {
+                bot.control(simulation);
+                simulation.step();
+            }
+            boolean cleared = simulation.getOutcome() != GameSimulation.Outcome.GAME_OVER;
+            if (cleared) clears++;
+            simulatedTicks += simulation.getTick();
+            System.out.printf("run %d: %s after %.1fs%n", run + 1, cleared ? "cleared" : "died",
+                simulation.getTick() * GameSimulation.TICK_DT);
+            simulation.getLevelManager().dispose();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double gameSeconds = simulatedTicks * GameSimulation.TICK_DT;
+        System.out.printf("Level %d: %d/%d cleared | %.0fs of play in %.1fs (%.0fx real time)%n",
+            level, clears, runs, gameSeconds, seconds, gameSeconds / seconds);
+        System.out.printf("decisions %d flicks %d rollout ticks %d | decision %s%n",
+            bot.getDecisions(), bot.getFlicks(), bot.getRolloutTicks(), bot.getDecisionTime().summary());
+        bot.dispose();
+    }
+}
@@ -0,0 +1,300 @@
+package io.game.test;
+
+import java.io.FileWriter;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 레벨 난이도 스윕 (헤드리스)
+// 레벨 파라미터를 격자로 바꿔 가며 칸마다 시드가 다른 봇 세션을 N 번 돌리고,
+// 생존율 / 사망까지 걸린 시간 표를 출력한다. 세션 하나가 작업 하나라서 모든 코어를 쓴다.
+//
+// 실행 예:
+//   ./gradlew core:runTool -Ptool=DifficultySweep -Pargs="--level 3 --runs 20 \
+//       --grid dragK=0.6,0.8,1.0 --grid shootCooldown=0.75,1,1.25 --out sweep.csv"
+//
+// 파라미터 (지정하지 않으면 레벨 기본값):
+//   dragK, maxSpeed, flickCooldown, bulletDensity   레벨 값을 그대로 덮어씀
+//   shootCooldown, bulletsPerShot                   모든 적의 값에 곱하는 배율
+//   spawnInterval, maxObstacles, obstacleLifetime   장애물 동적 스폰 (지정하면 스폰 켬)
+public class DifficultySweep {
+    public static final String[] PARAMETERS = {
+        "dragK", "maxSpeed", "flickCooldown", "bulletDensity",
+        "shootCooldown", "bulletsPerShot",
+        "spawnInterval", "maxObstacles", "obstacleLifetime"
+    };
+    private static final int DRAG_K = 0;
+    private static final int MAX_SPEED = 1;
+    private static final int FLICK_COOLDOWN = 2;
+    private static final int BULLET_DENSITY = 3;
+    private static final int SHOOT_COOLDOWN = 4;
+    private static final int BULLETS_PER_SHOT = 5;
+    private static final int SPAWN_INTERVAL = 6;
+    private static final int MAX_OBSTACLES = 7;
+    private static final int OBSTACLE_LIFETIME = 8;
+
+    // 격자 한 칸 (NaN = 기본값)
+    public static class Cell {
+        public final float[] values;
+
+        // 결과 (세션마다 자기 칸에만 기록)
+        public final float[] survivedSeconds;
+        public final boolean[] cleared;
+
+        public Cell(float[] values, int runs) {
+            this.values = values;
+            this.survivedSeconds = new float[runs];
+            this.cleared = new boolean[runs];
+        }
+
+        public int getClears() {
+            int clears = 0;
+            for (boolean c : cleared) {
+                if (c) clears++;
+            }
+            return clears;
+        }
+
+        public float getSurvivalRate() {
+            return (float)getClears() / cleared.length;
+        }
+
+        // 죽은 세션들의 사망 시각 (정렬됨)
+        public float[] getDeathTimes() {
+            float[] times = new float[cleared.length - getClears()];
+            int index = 0;
+            for (int i = 0; i < cleared.length; i++) {
+                if (!cleared[i]) times[index++] = survivedSeconds[i];
+            }
+            Arrays.sort(times);
+            return times;
+        }
+    }
+
+    // 레벨 데이터에 칸 값 적용
+    public static void apply(Level level, float[] values) {
+        if (!Float.isNaN(values[DRAG_K])) level.setDragK(values[DRAG_K]);
+        if (!Float.isNaN(values[MAX_SPEED])) level.setMaxSpeed(values[MAX_SPEED]);
+        if (!Float.isNaN(values[FLICK_COOLDOWN])) level.setFlickCooldown(values[FLICK_COOLDOWN]);
+        if (!Float.isNaN(values[BULLET_DENSITY])) level.setBulletDensity(values[BULLET_DENSITY]);
+
+        for (Level.EnemyData enemy : level.getEnemies()) {
+            if (!Float.isNaN(values[SHOOT_COOLDOWN])) {
+                enemy.shootCooldown *= values[SHOOT_COOLDOWN];
+            }
+            if (!Float.isNaN(values[BULLETS_PER_SHOT])) {
+                enemy.bulletsPerShot = Math.max(1, Math.round(enemy.bulletsPerShot * values[BULLETS_PER_SHOT]));
+            }
+        }
+
+        if (!Float.isNaN(values[SPAWN_INTERVAL]) || !Float.isNaN(values[MAX_OBSTACLES]) ||
+            !Float.isNaN(values[OBSTACLE_LIFETIME])) {
+            level.setObstacleSpawn(true,
+                Float.isNaN(values[SPAWN_INTERVAL]) ? level.getObstacleSpawnInterval() : values[SPAWN_INTERVAL],
+                Float.isNaN(values[MAX_OBSTACLES]) ? level.getMaxObstacles() : (int)values[MAX_OBSTACLES],
+                Float.isNaN(values[OBSTACLE_LIFETIME]) ? level.getObstacleLifetime() : values[OBSTACLE_LIFETIME]);
+        }
+    }
+
+    // 칸 값을 적용한 헤드리스 시뮬레이션 생성
+    public static GameSimulation createSimulation(int levelIndex, float[] values, long seed) {
+        GameSimulation simulation = GameSimulation.createHeadless(levelIndex, seed);
+        apply(simulation.getLevelManager().getLevel(levelIndex), values);
+        // 바뀐 값으로 다시 로드 (적 생성자가 난수를 쓰므로 시드도 다시 맞춤)
+        simulation.getLevelManager().setSeed(seed);
+        simulation.loadCurrentLevel();
+        return simulation;
+    }
+
+    // 세션 하나 실행, 결과는 칸의 run 번째 자리에 기록
+    private static void runSession(int levelIndex, Cell cell, int run, long seed) {
+        GameSimulation simulation = createSimulation(levelIndex, cell.values, seed);
+        // 봇의 미리보기도 같은 파라미터여야 예측이 맞음
+        AutoPlayBot bot = new AutoPlayBot(createSimulation(levelIndex, cell.values, seed), 90, 4);
+
+        while (simulation.getOutcome() == GameSimulation.Outcome.NONE) {
+            bot.control(simulation);
+            simulation.step();
+        }
+        cell.cleared[run] = simulation.getOutcome() != GameSimulation.Outcome.GAME_OVER;
+        cell.survivedSeconds[run] = simulation.getTick() * GameSimulation.TICK_DT;
+        simulation.getLevelManager().dispose();
+        bot.dispose();
+    }
+
+    // 격자의 모든 조합 생성
+    static ArrayList<float[]> expand(float[][] axes) {
+        ArrayList<float[]> cells = new ArrayList<float[]>();
+        cells.add(new float[PARAMETERS.length]);
+        Arrays.fill(cells.get(0), Float.NaN);
+        for (int p = 0; p < PARAMETERS.length; p++) {
+            if (axes[p] == null) continue;
+            ArrayList<float[]> next = new ArrayList<float[]>();
+            for (float[] cell : cells) {
+                for (float value : axes[p]) {
+                    float[] copy = cell.clone();
+                    copy[p] = value;
+                    next.add(copy);
+                }
+            }
+            cells = next;
+        }
+        return cells;
+    }
+
+    private static int parameterIndex(String name) {
+        for (int i = 0; i < PARAMETERS.length; i++) {
+            if (PARAMETERS[i].equals(name)) return i;
+        }
+        throw new IllegalArgumentException("Unknown parameter: " + name + " (expected one of " +
+            Arrays.toString(PARAMETERS) + ")");
+    }
+
+    public static void main(String[] args) throws Exception {
+        int level = 1;
+        int runs = 20;
+        long seed = 1L;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String out = null;
+        float[][] axes = new float[PARAMETERS.length][];
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.equals("--level")) level = Integer.parseInt(args[++i]);
+            else if (arg.equals("--runs")) runs = Integer.parseInt(args[++i]);
+            else if (arg.equals("--seed")) seed = Long.parseLong(args[++i]);
+            else if (arg.equals("--threads")) threads = Integer.parseInt(args[++i]);
+            else if (arg.equals("--out")) out = args[++i];
+            else if (arg.equals("--grid")) {
+                String[] parts = args[++i].split("=");
+                String[] values = parts[1].split(",");
+                float[] axis = new float[values.length];
+                for (int v = 0; v < values.length; v++) {
+                    axis[v] = Float.parseFloat(values[v]);
+                }
+                axes[parameterIndex(parts[0])] = axis;
+            } else {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+
+        final int levelIndex = level - 1;
+        ArrayList<float[]> grid = expand(axes);
+        final ArrayList<Cell> cells = new ArrayList<Cell>();
+        for (float[] values : grid) {
+            cells.add(new Cell(values, runs));
+        }
+
+        // 모든 칸이 같은 시드 목록을 씀 (파라미터 차이만 비교되도록)
+        final long[] seeds = new long[runs];
+        GameRandom seedRandom = new GameRandom(seed);
+        for (int i = 0; i < runs; i++) {
+            seeds[i] = seedRandom.nextLong();
+        }
+
+        final int total = cells.size() * runs;
+        final AtomicInteger done = new AtomicInteger();
+        System.out.printf("Level %d: %d cells x %d runs = %d sessions on %d threads%n",
+            level, cells.size(), runs, total, threads);
+
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (final Cell cell : cells) {
+            for (int run = 0; run < runs; run++) {
+                final int r = run;
+                pool.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        runSession(levelIndex, cell, r, seeds[r]);
+                        int finished = done.incrementAndGet();
+                        if (finished % Math.max(1, total / 10) == 0) {
+                            System.out.printf("  %d / %d sessions%n", finished, total);
+                        }
+                    }
+                });
+            }
+        }
+        pool.shutdown();
+        pool.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        double playSeconds = 0;
+        for (Cell cell : cells) {
+            for (float s : cell.survivedSeconds) playSeconds += s;
+        }
+        System.out.printf("Finished in %.1fs (%.0fs of play, %.0fx real time)%n",
+            seconds, playSeconds, playSeconds / seconds);
+
+        printTable(cells, axes, System.out);
+        if (out != null) {
+            PrintWriter writer = new PrintWriter(new FileWriter(out));
+            try {
+                writeCsv(cells, axes, writer);
+            } finally {
+                writer.close();
+            }
+            System.out.println("Wrote " + out);
+        }
+    }
+
+    private static void printTable(ArrayList<Cell> cells, float[][] axes, java.io.PrintStream out) {
+        StringBuilder header = new StringBuilder();
+        for (int p = 0; p < PARAMETERS.length; p++) {
+            if (axes[p] != null) header.append(String.format("%17s", PARAMETERS[p]));
+        }
+        header.append(String.format("%10s %10s %10s %10s", "survival", "ttd_mean", "ttd_p50", "ttd_min"));
+        out.println(header);
+
+        for (Cell cell : cells) {
+            StringBuilder row = new StringBuilder();
+            for (int p = 0; p < PARAMETERS.length; p++) {
+                if (axes[p] != null) row.append(String.format(Locale.ROOT, "%17.3f", cell.values[p]));
+            }
+            float[] deaths = cell.getDeathTimes();
+            row.append(String.format(Locale.ROOT, "%9.0f%% %10s %10s %10s", cell.getSurvivalRate() * 100,
+                deaths.length > 0 ? String.format(Locale.ROOT, "%.1fs", mean(deaths)) : "-",
+                deaths.length > 0 ? String.format(Locale.ROOT, "%.1fs", deaths[deaths.length / 2]) : "-",
+                deaths.length > 0 ? String.format(Locale.ROOT, "%.1fs", deaths[0]) : "-"));
+            out.println(row);
+        }
+    }
+
+    private static void writeCsv(ArrayList<Cell> cells, float[][] axes, PrintWriter out) {
+        StringBuilder header = new StringBuilder();
+        for (int p = 0; p < PARAMETERS.length; p++) {
+            if (axes[p] != null) header.append(PARAMETERS[p]).append(',');
+        }
+        header.append("runs,clears,survival_rate,deaths,ttd_mean,ttd_p50,ttd_min");
+        out.println(header);
+
+        for (Cell cell : cells) {
+            StringBuilder row = new StringBuilder();
+            for (int p = 0; p < PARAMETERS.length; p++) {
+                if (axes[p] != null) row.append(cell.values[p]).append(',');
+            }
+            float[] deaths = cell.getDeathTimes();
+            row.append(cell.cleared.length).append(',')
+                .append(cell.getClears()).append(',')
+                .append(String.format(Locale.ROOT, "%.4f", cell.getSurvivalRate())).append(',')
+                .append(deaths.length).append(',');
+            if (deaths.length > 0) {
+                row.append(String.format(Locale.ROOT, "%.2f,%.2f,%.2f", mean(deaths),
+                    deaths[deaths.length / 2], deaths[0]));
+            } else {
+                row.append(",,");
+            }
+            out.println(row);
+        }
+    }
+
+    private static float mean(float[] values) {
+        float sum = 0f;
+        for (float v : values) sum += v;
+        return sum / values.length;
+    }
+}
@@ -0,0 +1,35 @@
+package io.game.test;
+
+// 새 JVM 에서 레벨 첫 1초(60틱)의 틱 시간 측정: JitWarmupBench [level] [warmupTicks] [runs]
+// 예열 유무를 비교하려면 warmupTicks 를 0 과 N 으로 바꿔 각각 새 프로세스로 실행한다.
+public class JitWarmupBench {
+    public static void main(String[] args) {
+        int level = args.length > 0 ? Integer.parseInt(args[0]) - 1 : 2;
+        int warmupTicks = args.length > 1 ? Integer.parseInt(args[1]) : 6000;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+
+        JitWarmup warmup = new JitWarmup(warmupTicks);
+        if (warmup.warmUp(level)) {
+            System.out.println(String.format("Warm-up: %d ticks in %.1f ms", warmup.getLastTicks(),
+                warmup.getLastNanos() / 1e6));
+        }
+
+        StateSnapshot snapshot = new StateSnapshot();
+        for (int run = 0; run < runs; run++) {
+            GameSimulation simulation = GameSimulation.createHeadless(level, 1234L + run);
+            LatencyHistogram tickTime = new LatencyHistogram();
+            for (int i = 0; i < GameSimulation.TICKS_PER_SECOND && simulation.getOutcome() == GameSimulation.Outcome.NONE; i++) {
+                long start = System.nanoTime();
+                if (i % JitWarmup.FLICK_INTERVAL_TICKS == 0) {
+                    simulation.applyImpulse(400f, 250f);
+                }
+                simulation.step();
+                snapshot.save(simulation);
+                tickTime.record(System.nanoTime() - start);
+            }
+            System.out.println(String.format("Level %d first second (warm-up %d ticks): %s total %s",
+                level + 1, warmupTicks, tickTime.summary(),
+                LatencyHistogram.format((long)(tickTime.getMean() * tickTime.getCount()))));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.game.test;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+
+// 파티클 비용 확인: ParticleBench [frames]
+// 가득 찬 풀을 frames 번 갱신한 비용/할당량과, 같은 수의 탄환을 같은 비율로 만들고 해제하며 갱신한 비용 비교
+// 스레드별 할당량은 HotSpot 의 com.sun.management 확장으로 잼
+public class ParticleBench {
+    public static void main(String[] args) {
+        int frames = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        float dt = GameSimulation.TICK_DT;
+
+        ParticleSystem particles = new ParticleSystem(ParticleSystem.DEFAULT_CAPACITY);
+        ParticleSystem.Emitter[] emitters = ParticleSystem.Emitter.values();
+        GameRandom random = new GameRandom(1L);
+        ThreadMXBean allocations = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long particleNanos = 0;
+        long particleUpdates = 0;
+        long allocated = 0;
+        for (int frame = 0; frame < frames; frame++) {
+            // 프레임마다 방출 몇 개 (게임 오버 한 번 + 튕김/막힘 여러 번보다 많게)
+            for (int n = 0; n < 12; n++) {
+                ParticleSystem.Emitter emitter = emitters[random.nextInt(emitters.length)];
+                particles.emit(emitter, random.nextFloat() * 1280f, random.nextFloat() * 720f, 1f, 0f);
+            }
+            long bytes = allocations.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            particles.update(dt);
+            long elapsed = System.nanoTime() - start;
+            if (frame >= frames / 2) {
+                particleNanos += elapsed;
+                particleUpdates += particles.getCount();
+                allocated += allocations.getThreadAllocatedBytes(threadId) - bytes;
+            }
+        }
+
+        // 같은 수의 탄환 (객체 하나씩, 시뮬레이션 갱신 경로)
+        GameSimulation simulation = GameSimulation.createHeadless(0, 1L);
+        Player player = simulation.getLevelManager().getPlayer();
+        int bulletCount = Math.max(1, (int)(particleUpdates / Math.max(1, frames - frames / 2)));
+        ArrayList<Bullet> bullets = new ArrayList<Bullet>();
+        for (int i = 0; i < bulletCount; i++) {
+            bullets.add(new Bullet(null, 640f, 360f, random.nextFloat() * 2f - 1f, random.nextFloat() * 2f - 1f,
+                Bullet.RADIUS));
+        }
+        // 파티클 평균 수명(약 30 프레임)에 맞춰 프레임마다 1/30 을 새로 만들고 해제
+        int replaced = Math.max(1, bulletCount / 30);
+        long bulletNanos = 0;
+        long bulletAllocated = 0;
+        for (int frame = 0; frame < frames; frame++) {
+            long bytes = allocations.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            for (int n = 0; n < replaced; n++) {
+                int index = (frame * replaced + n) % bullets.size();
+                bullets.get(index).dispose();
+                bullets.set(index, new Bullet(null, 640f, 360f, random.nextFloat() * 2f - 1f,
+                    random.nextFloat() * 2f - 1f, Bullet.RADIUS));
+            }
+            for (int i = 0; i < bullets.size(); i++) {
+                bullets.get(i).update(dt, player, simulation.getWorld());
+            }
+            long elapsed = System.nanoTime() - start;
+            if (frame >= frames / 2) {
+                bulletNanos += elapsed;
+                bulletAllocated += allocations.getThreadAllocatedBytes(threadId) - bytes;
+            }
+        }
+        for (Bullet bullet : bullets) {
+            bullet.dispose();
+        }
+        simulation.getLevelManager().dispose();
+
+        System.out.println(String.format("particles: %.1f ns/particle, %d live on average (cap %d), %d bytes allocated in %d frames",
+            (double)particleNanos / Math.max(1, particleUpdates), bulletCount, ParticleSystem.DEFAULT_CAPACITY, allocated,
+            frames - frames / 2));
+        System.out.println(String.format("bullets:   %.1f ns/bullet for the same count and churn, %d bytes allocated",
+            (double)bulletNanos / ((long)bulletCount * (frames - frames / 2)), bulletAllocated));
+        System.out.println(String.format("emissions %d, dropped emissions %d, dropped particles %d",
+            particles.getEmitted(), particles.getDroppedEmissions(), particles.getDroppedParticles()));
+    }
+}
@@ -0,0 +1,71 @@
+package io.game.test;
+
+import java.io.File;
+import java.io.IOException;
+
+// 기록 수에 따른 추가/열기/조회 시간: RunHistoryBench [records]
+public class RunHistoryBench {
+    public static void main(String[] args) throws IOException {
+        int records = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        File file = File.createTempFile("run_history", ".bin");
+        file.deleteOnExit();
+        if (!file.delete()) {
+            throw new IOException("Could not reset " + file);
+        }
+
+        GameRandom random = new GameRandom(42L);
+        RunHistory history = new RunHistory(file);
+        long start = System.nanoTime();
+        for (int i = 0; i < records; i++) {
+            int level = random.nextInt(3);
+            boolean cleared = random.nextInt(10) == 0;
+            int ticks = cleared ? 1800 : random.nextInt(1800);
+            history.append(level, random.nextLong(), ticks, random.nextFloat() * 1280f, random.nextFloat() * 720f,
+                random.nextInt(40), cleared ? RunHistory.Cause.CLEARED : RunHistory.Cause.BULLET);
+        }
+        long appendNanos = System.nanoTime() - start;
+        history.dispose();
+
+        start = System.nanoTime();
+        history = new RunHistory(file);
+        long openNanos = System.nanoTime() - start;
+
+        RunHistory.Record record = new RunHistory.Record();
+        RunHistory.Record[] last = new RunHistory.Record[10];
+        for (int i = 0; i < last.length; i++) {
+            last[i] = new RunHistory.Record();
+        }
+        LatencyHistogram best = new LatencyHistogram();
+        LatencyHistogram recent = new LatencyHistogram();
+        LatencyHistogram recentLevel = new LatencyHistogram();
+        for (int i = 0; i < 200000; i++) {
+            int level = i % 3;
+            long t0 = System.nanoTime();
+            history.best(level, record);
+            long t1 = System.nanoTime();
+            history.last(last);
+            long t2 = System.nanoTime();
+            history.lastForLevel(level, last);
+            long t3 = System.nanoTime();
+            // 앞쪽 절반은 JIT 예열
+            if (i >= 100000) {
+                best.record(t1 - t0);
+                recent.record(t2 - t1);
+                recentLevel.record(t3 - t2);
+            }
+        }
+
+        System.out.println(String.format("%d records, %.1f MB file", history.size(), file.length() / 1048576f));
+        System.out.println(String.format("append %s per record, reopen %s",
+            LatencyHistogram.format(appendNanos / records), LatencyHistogram.format(openNanos)));
+        for (int level = 0; level < 3; level++) {
+            history.best(level, record);
+            System.out.println(String.format("level %d: %d attempts, %d clears, best %.2fs (record %d)", level + 1,
+                history.getAttempts(level), history.getClears(level), record.getSurvivalSeconds(), record.index));
+        }
+        System.out.println("best per level:   " + best.summary());
+        System.out.println("last 10:          " + recent.summary());
+        System.out.println("last 10 of level: " + recentLevel.summary());
+        history.dispose();
+    }
+}
@@ -0,0 +1,244 @@
+package io.game.test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// 헤드리스 멀티 세션 서버
+// 한 JVM 에서 여러 GameSession 을 고정 주기(기본 60Hz)로 돌린다.
+//  - JDK 21 이상: 세션마다 가상 스레드 하나 (틱 사이에는 parkNanos 로 양보)
+//  - 그 외 (Java 8 타깃): 코어 수만큼의 ScheduledThreadPoolExecutor. 예정 시각 순서로 실행되므로 공평하다.
+//
+// 실행 예:
+//   ./gradlew core:runTool -Ptool=SessionServer -Pargs="--sessions 200 --level 3 --seconds 10"
+//   ./gradlew core:runTool -Ptool=SessionServer -Pargs="--capacity --level 3"
+//   ./gradlew core:runTool -Ptool=SessionServer -Pargs="--sessions 20 --bot"   (세션마다 자동 플레이 봇)
+public class SessionServer {
+    private final ArrayList<GameSession> sessions = new ArrayList<GameSession>();
+    private final long periodNanos;
+    private final boolean forcePool;
+    private boolean bots;
+
+    private volatile boolean running;
+    private ExecutorService executor;
+    private String schedulerName;
+    private long startNanos;
+    private long stopNanos;
+
+    public SessionServer(int hz, boolean forcePool) {
+        this.periodNanos = 1000000000L / hz;
+        this.forcePool = forcePool;
+    }
+
+    public GameSession addSession(int levelIndex, long seed) {
+        GameSession session = new GameSession(sessions.size(), levelIndex, seed);
+        if (bots) {
+            session.setController(new AutoPlayBot());
+        }
+        sessions.add(session);
+        return session;
+    }
+
+    // 세션마다 AutoPlayBot 을 붙임
+    public void setBots(boolean bots) {
+        this.bots = bots;
+    }
+
+    public void start() {
+        running = true;
+        startNanos = System.nanoTime();
+        int count = sessions.size();
+
+        ExecutorService virtualThreads = forcePool ? null : newVirtualThreadExecutor();
+        if (virtualThreads != null) {
+            schedulerName = "virtual threads";
+            executor = virtualThreads;
+            for (int i = 0; i < count; i++) {
+                // 세션마다 시작 시각을 조금씩 어긋나게 해서 틱이 한꺼번에 몰리지 않게 함
+                final GameSession session = sessions.get(i);
+                final long firstTick = startNanos + periodNanos * i / count;
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        long next = firstTick;
+                        while (running) {
+                            long wait = next - System.nanoTime();
+                            if (wait > 0) {
+                                LockSupport.parkNanos(wait);
+                                continue;
+                            }
+                            session.tick(next);
+                            next += periodNanos;
+                        }
+                    }
+                });
+            }
+        } else {
+            int threads = Runtime.getRuntime().availableProcessors();
+            schedulerName = "scheduled pool (" + threads + " threads)";
+            ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(threads);
+            executor = pool;
+            for (int i = 0; i < count; i++) {
+                final GameSession session = sessions.get(i);
+                final long offset = periodNanos * i / count;
+                // 고정 주기 실행은 등록 시점 기준이므로 예정 시각도 등록 시점에서 계산
+                final long firstTick = System.nanoTime() + offset;
+                pool.scheduleAtFixedRate(new Runnable() {
+                    private long next = firstTick;
+
+                    @Override
+                    public void run() {
+                        if (!running) return;
+                        session.tick(next);
+                        next += periodNanos;
+                    }
+                }, offset, periodNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    public void stop() {
+        running = false;
+        stopNanos = System.nanoTime();
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() 가 있으면 사용 (Java 8 로 컴파일하므로 리플렉션)
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService)factory.invoke(null);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // 실행 결과 요약
+    public static class Report {
+        public int sessions;
+        public long expectedTicks;
+        public long ticks;
+        public long lateTicks;       // 한 주기 이상 늦게 시작한 틱
+        public LatencyHistogram tickTime = new LatencyHistogram();
+        public LatencyHistogram lateness = new LatencyHistogram();
+
+        public double getTickRatio() {
+            return expectedTicks > 0 ? (double)ticks / expectedTicks : 0;
+        }
+
+        // 목표 틱 수의 99% 이상을 돌렸고, 99% 의 틱이 한 주기 안에 시작했으면 유지 가능
+        public boolean isSustainable() {
+            return getTickRatio() >= 0.99 && lateTicks <= ticks / 100;
+        }
+    }
+
+    public Report report() {
+        Report report = new Report();
+        report.sessions = sessions.size();
+        double seconds = (stopNanos - startNanos) / 1e9;
+        report.expectedTicks = (long)(seconds * 1e9 / periodNanos) * sessions.size();
+        for (GameSession session : sessions) {
+            report.ticks += session.getTicks();
+            report.lateTicks += session.getLateness().countAbove(periodNanos);
+            report.tickTime.add(session.getTickTime());
+            report.lateness.add(session.getLateness());
+        }
+        return report;
+    }
+
+    public void printReport(Report report, boolean perSession) {
+        System.out.printf("%d sessions on %s: %.1f%% of target ticks, %d late (> %s)%n",
+            report.sessions, schedulerName, report.getTickRatio() * 100, report.lateTicks,
+            LatencyHistogram.format(periodNanos));
+        System.out.println("  tick time: " + report.tickTime.summary());
+        System.out.println("  lateness:  " + report.lateness.summary());
+        if (perSession) {
+            for (GameSession session : sessions) {
+                System.out.printf("  session %d: ticks %d deaths %d clears %d | tick %s | late %s%n",
+                    session.getId(), session.getTicks(), session.getDeaths(), session.getClears(),
+                    session.getTickTime().summary(), session.getLateness().summary());
+            }
+        }
+    }
+
+    public static Report run(int sessionCount, int levelIndex, int hz, double seconds, boolean forcePool,
+                             boolean bots, boolean verbose) {
+        SessionServer server = new SessionServer(hz, forcePool);
+        server.setBots(bots);
+        for (int i = 0; i < sessionCount; i++) {
+            server.addSession(levelIndex, 0x5EED0000L + i);
+        }
+        server.start();
+        try {
+            Thread.sleep((long)(seconds * 1000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        server.stop();
+
+        Report report = server.report();
+        server.printReport(report, verbose && sessionCount <= 16);
+        return report;
+    }
+
+    public static void main(String[] args) {
+        int sessionCount = 16;
+        int level = 3;
+        int hz = 60;
+        double seconds = 10;
+        boolean capacity = false;
+        boolean forcePool = false;
+        boolean bots = false;
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.equals("--sessions")) sessionCount = Integer.parseInt(args[++i]);
+            else if (arg.equals("--level")) level = Integer.parseInt(args[++i]);
+            else if (arg.equals("--hz")) hz = Integer.parseInt(args[++i]);
+            else if (arg.equals("--seconds")) seconds = Double.parseDouble(args[++i]);
+            else if (arg.equals("--capacity")) capacity = true;
+            else if (arg.equals("--pool")) forcePool = true;
+            else if (arg.equals("--bot")) bots = true;
+            else throw new IllegalArgumentException("Unknown argument: " + arg);
+        }
+
+        if (!capacity) {
+            run(sessionCount, level - 1, hz, seconds, forcePool, bots, true);
+            return;
+        }
+
+        // 유지 가능한 최대 세션 수 찾기: 두 배씩 늘린 뒤 이분 탐색
+        double trialSeconds = Math.min(seconds, 5);
+        int good = 0;
+        int bad = 0;
+        for (int n = 1; ; n *= 2) {
+            if (run(n, level - 1, hz, trialSeconds, forcePool, bots, false).isSustainable()) {
+                good = n;
+            } else {
+                bad = n;
+                break;
+            }
+        }
+        while (bad - good > Math.max(1, good / 20)) {
+            int mid = (good + bad) / 2;
+            if (run(mid, level - 1, hz, trialSeconds, forcePool, bots, false).isSustainable()) {
+                good = mid;
+            } else {
+                bad = mid;
+            }
+        }
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("Level %d at %d Hz: %d sessions sustainable on %d core(s), about %d on 16 cores if it scales linearly%n",
+            level, hz, good, cores, good * 16 / cores);
+    }
+}
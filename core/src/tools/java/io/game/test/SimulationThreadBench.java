@@ -0,0 +1,102 @@
+package io.game.test;
+
+import java.util.concurrent.locks.LockSupport;
+
+// 탄환이 많은 레벨에서 렌더 스레드 프레임 시간 분산 비교: SimulationThreadBench [seconds] [bulletDensityScale] [drawNanosPerBullet]
+// inline: 렌더 루프에서 시뮬레이션 진행 + 그리기, thread: 시뮬레이션 스레드 + 렌더 루프는 복원 + 그리기
+// 그리기는 GPU 가 없으므로 탄환/장애물 수에 비례하는 바쁜 대기로 흉내낸다. 봇이 조종하고 게임 오버면 레벨을 다시 로드한다.
+public class SimulationThreadBench {
+    public static void main(String[] args) throws Exception {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        float densityScale = args.length > 1 ? Float.parseFloat(args[1]) : 3f;
+        long drawNanosPerEntity = args.length > 2 ? Long.parseLong(args[2]) : 4000L;
+
+        System.out.println(String.format("Level 3, bullet density x%.1f, %ds per mode, %d ns draw per entity, %d cpus",
+            densityScale, seconds, drawNanosPerEntity, Runtime.getRuntime().availableProcessors()));
+        for (int pass = 0; pass < 2; pass++) {
+            // 첫 번째는 JIT 예열
+            LatencyHistogram inline = measure(false, pass == 0 ? 2 : seconds, densityScale, drawNanosPerEntity);
+            LatencyHistogram threaded = measure(true, pass == 0 ? 2 : seconds, densityScale, drawNanosPerEntity);
+            if (pass == 0) continue;
+            System.out.println(String.format("inline  frame work: %s stddev %s",
+                inline.summary(), LatencyHistogram.format((long)inline.getStdDev())));
+            System.out.println(String.format("thread  frame work: %s stddev %s",
+                threaded.summary(), LatencyHistogram.format((long)threaded.getStdDev())));
+        }
+    }
+
+    private static GameSimulation createHeavy(float densityScale, long seed) {
+        GameSimulation simulation = GameSimulation.createHeadless(2, seed);
+        Level level = simulation.getLevelManager().getLevel(2);
+        level.setBulletDensity(level.getBulletDensity() * densityScale);
+        simulation.loadCurrentLevel();
+        return simulation;
+    }
+
+    private static LatencyHistogram measure(boolean threaded, int seconds, float densityScale,
+                                            long drawNanosPerEntity) {
+        GameSimulation simulation = createHeavy(densityScale, 7L);
+        GameSimulation view = threaded ? createHeavy(densityScale, 7L) : simulation;
+        AutoPlayBot bot = new AutoPlayBot(GameSimulation.createHeadless(0, 0L), 60, 4);
+        SimulationThread simThread = threaded ? new SimulationThread(simulation, bot) : null;
+        if (simThread != null) {
+            simThread.start();
+        }
+
+        LatencyHistogram frameWork = new LatencyHistogram();
+        SimulationThread.Command reload = new SimulationThread.Command() {
+            @Override
+            public void run(GameSimulation simulation) {
+                simulation.loadCurrentLevel();
+            }
+        };
+        int awaited = 0;
+        long viewSequence = 0;
+        long frames = seconds * 60L;
+        long next = System.nanoTime();
+        for (long frame = 0; frame < frames; frame++) {
+            long start = System.nanoTime();
+
+            if (simThread == null) {
+                simulation.advance(GameSimulation.TICK_DT, bot);
+                if (simulation.getOutcome() != GameSimulation.Outcome.NONE) {
+                    simulation.loadCurrentLevel();
+                }
+            } else {
+                SimulationThread.Frame latest = simThread.latest();
+                if (latest.sequence != viewSequence) {
+                    viewSequence = latest.sequence;
+                    latest.state.restore(view);
+                    if (latest.generation >= awaited && view.getOutcome() != GameSimulation.Outcome.NONE) {
+                        awaited = simThread.post(reload);
+                    }
+                }
+            }
+
+            // 그리기 흉내
+            LevelManager levelManager = view.getLevelManager();
+            int entities = levelManager.getBullets().size() + levelManager.getObstacles().size() +
+                levelManager.getEnemies().size() + 1;
+            long drawEnd = System.nanoTime() + entities * drawNanosPerEntity;
+            while (System.nanoTime() < drawEnd) {
+                // 바쁜 대기
+            }
+
+            frameWork.record(System.nanoTime() - start);
+
+            // 수직 동기 대기 흉내
+            next += SimulationThread.TICK_NANOS;
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            } else {
+                next = System.nanoTime();
+            }
+        }
+
+        if (simThread != null) {
+            simThread.stop();
+        }
+        return frameWork;
+    }
+}
@@ -0,0 +1,38 @@
+package io.game.test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+
+// 관전 스트림에 붙어서 초마다 받은 프레임/대역폭과 재구성된 상태 요약을 출력
+// 실행: ./gradlew core:runTool -Ptool=SpectatorWatch -Pargs="[host] [port]"
+public class SpectatorWatch {
+    public static void main(String[] args) throws IOException {
+        String host = args.length > 0 ? args[0] : "127.0.0.1";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 7777;
+
+        SpectatorViewer viewer = new SpectatorViewer();
+        SocketChannel channel = SocketChannel.open(new InetSocketAddress(host, port));
+
+        long windowStart = System.nanoTime();
+        long windowBytes = 0;
+        int windowFrames = 0;
+
+        while (viewer.read(channel) >= 0) {
+            long now = System.nanoTime();
+            if (now - windowStart >= 1000000000L) {
+                double seconds = (now - windowStart) / 1e9;
+                System.out.printf("tick %d level %d | %d frames/s %.1f KB/s | player (%.1f, %.1f) bullets %d obstacles %d%n",
+                    viewer.getTick(), viewer.getLevelIndex() + 1,
+                    (int)((viewer.getReceivedFrames() - windowFrames) / seconds),
+                    (viewer.getReceivedBytes() - windowBytes) / seconds / 1024.0,
+                    viewer.getPlayerX(), viewer.getPlayerY(),
+                    viewer.getBullets().size(), viewer.getObstacles().size());
+                windowStart = now;
+                windowBytes = viewer.getReceivedBytes();
+                windowFrames = viewer.getReceivedFrames();
+            }
+        }
+        channel.close();
+    }
+}
@@ -0,0 +1,41 @@
+package io.game.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.locks.LockSupport;
+
+// 렌더 스레드 비용과 흘린 프레임 확인: TelemetryBench [seconds] [fps]
+// 60fps 보다 빠르게 넣어서 기록 스레드가 따라오는지 본 뒤 TelemetryReader 로 다시 읽는다.
+public class TelemetryBench {
+    public static void main(String[] args) throws IOException {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        int fps = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        File file = File.createTempFile("telemetry", ".bin");
+        file.deleteOnExit();
+
+        FrameTelemetry telemetry = new FrameTelemetry(file);
+        telemetry.start();
+        LatencyHistogram recordTime = new LatencyHistogram();
+        long frameNanos = 1000000000L / fps;
+        long frames = (long)seconds * fps;
+        long next = System.nanoTime();
+        for (long frame = 0; frame < frames; frame++) {
+            long start = System.nanoTime();
+            telemetry.record(start, frameNanos / 1e9f, (int)(frame % 2), (int)(frame % 300), 4, 12,
+                120000L, 900000L, 1100000L);
+            recordTime.record(System.nanoTime() - start);
+            next += frameNanos;
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+        }
+        telemetry.stop();
+
+        TelemetryReader reader = new TelemetryReader(file);
+        System.out.println(String.format("%d frames at %d fps: record() %s, dropped %d, %.1f KB (%d bytes/frame)",
+            frames, fps, recordTime.summary(), telemetry.getDropped(), file.length() / 1024f,
+            frames > 0 ? file.length() / frames : 0));
+        System.out.println(String.format("read back %d rows, %d blocks", reader.getRowCount(), reader.getBlockCount()));
+    }
+}
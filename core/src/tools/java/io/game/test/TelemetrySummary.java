@@ -0,0 +1,30 @@
+package io.game.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+// FrameTelemetry 파일의 열별 요약 (최소/평균/p50/p99/최대): TelemetrySummary <파일>
+public class TelemetrySummary {
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("usage: TelemetrySummary <file>");
+            return;
+        }
+        TelemetryReader reader = new TelemetryReader(new File(args[0]));
+        System.out.println(String.format("%d frames in %d blocks", reader.getRowCount(), reader.getBlockCount()));
+        System.out.println(String.format("%-12s %12s %12s %12s %12s %12s", "column", "min", "mean", "p50", "p99", "max"));
+        for (String name : reader.getColumnNames()) {
+            double[] values = Arrays.copyOf(reader.getColumn(name), reader.getRowCount());
+            if (values.length == 0) continue;
+            double sum = 0;
+            for (double value : values) {
+                sum += value;
+            }
+            Arrays.sort(values);
+            System.out.println(String.format("%-12s %12.1f %12.1f %12.1f %12.1f %12.1f", name, values[0],
+                sum / values.length, values[values.length / 2],
+                values[Math.min(values.length - 1, (int)(values.length * 0.99))], values[values.length - 1]));
+        }
+    }
+}
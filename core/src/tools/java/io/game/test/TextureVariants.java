@@ -0,0 +1,104 @@
+package io.game.test;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import javax.imageio.ImageIO;
+
+// 텍스처 크기별 축소본 생성 (빌드 시 core:generateTextureVariants 가 실행)
+// assets/*.png 마다 원본의 3/4, 1/2, 3/8, 1/4 ... (한 옥타브에 두 단계) 크기를 MIN_SIZE 까지 만들고
+// 목록을 variants/variants.txt 에 남긴다. 한 줄: 원본경로 원본가로 원본세로 축소본경로 가로 세로
+// 축소는 절반씩 반복하는 쌍선형 보간이라 크게 줄여도 계단 현상이 적다.
+// TextureAssets 가 이 목록을 읽어 화면에 필요한 픽셀 수를 덮는 가장 작은 것을 고른다.
+// libGDX 네이티브 없이 돌도록 ImageIO 를 쓴다: TextureVariants <assets 폴더> <출력 폴더>
+// 빌드 도구라서 게임 jar 에는 들어가지 않음 (경로는 TextureAssets 와 공유)
+public final class TextureVariants {
+    private static final String DIRECTORY = TextureAssets.VARIANT_DIRECTORY;
+    private static final int MIN_SIZE = 16;
+
+    private TextureVariants() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        File assets = new File(args.length > 0 ? args[0] : "assets");
+        File output = new File(args.length > 1 ? args[1] : "build/generated/textureVariants");
+        generate(assets, output);
+    }
+
+    // assets 의 PNG 마다 축소본과 목록을 output 아래에 만듦, 만든 축소본 수 반환
+    static int generate(File assets, File output) throws IOException {
+        File directory = new File(output, DIRECTORY);
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Could not create " + directory);
+        }
+
+        File[] files = assets.listFiles();
+        if (files == null) {
+            throw new IOException("Not a directory: " + assets);
+        }
+        Arrays.sort(files);
+
+        int count = 0;
+        Writer manifest = new FileWriter(new File(output, TextureAssets.VARIANT_MANIFEST));
+        try {
+            for (File file : files) {
+                if (!file.isFile() || !file.getName().endsWith(".png")) continue;
+                BufferedImage source = ImageIO.read(file);
+                if (source == null) continue;
+
+                String name = file.getName().substring(0, file.getName().length() - 4);
+                int width = source.getWidth();
+                int height = source.getHeight();
+                for (int[] size : sizes(width, height)) {
+                    String path = DIRECTORY + "/" + name + "@" + size[0] + "x" + size[1] + ".png";
+                    ImageIO.write(scale(source, size[0], size[1]), "png", new File(output, path));
+                    manifest.write(file.getName() + " " + width + " " + height + " " +
+                        path + " " + size[0] + " " + size[1] + "\n");
+                    count++;
+                }
+            }
+        } finally {
+            manifest.close();
+        }
+        return count;
+    }
+
+    // 원본보다 작은 크기들 (큰 것부터), 짧은 변이 MIN_SIZE 보다 작아지면 멈춤
+    static ArrayList<int[]> sizes(int width, int height) {
+        ArrayList<int[]> sizes = new ArrayList<int[]>();
+        float factor = 1f;
+        for (int step = 0; ; step++) {
+            factor *= (step % 2 == 0) ? 0.75f : 2f / 3f;
+            int w = Math.round(width * factor);
+            int h = Math.round(height * factor);
+            if (Math.min(w, h) < MIN_SIZE) break;
+            sizes.add(new int[] { w, h });
+        }
+        return sizes;
+    }
+
+    // 목표의 두 배보다 크면 절반씩 줄인 뒤 마지막에 목표 크기로
+    private static BufferedImage scale(BufferedImage image, int width, int height) {
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= width && current.getHeight() / 2 >= height) {
+            current = resize(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        return resize(current, width, height);
+    }
+
+    private static BufferedImage resize(BufferedImage image, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        graphics.drawImage(image, 0, 0, width, height, null);
+        graphics.dispose();
+        return scaled;
+    }
+}
@@ -0,0 +1,132 @@
+package io.game.test;
+
+// 화면 1/4/16/64 개 크기의 시험 월드를 지그재그로 가로지르며 비교: WorldChunksBench [ticks]
+// 월드가 커져도 틱 비용, 살아 있는 적/장애물/탄환 수, 힙이 거의 같아야 함. 중간중간 스냅샷을 다른 시뮬레이션에 복원해서 맞춰 봄
+public class WorldChunksBench {
+    // 월드 하나를 가로지른 결과
+    static final class Result {
+        int chunks;
+        int maxLoaded;
+        int maxEnemies;
+        int maxObstacles;
+        int maxBullets;
+        long loads;
+        long unloads;
+        long heapBytes;
+        long elapsedNanos;
+        int deaths;
+        int restores;
+        int mismatches;
+    }
+
+    public static void main(String[] args) {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 3600;
+        System.out.println(String.format("%-8s %7s %7s %8s %9s %8s %8s %7s %8s %8s %6s",
+            "screens", "chunks", "loaded", "enemies", "obstacles", "bullets", "us/tick", "loads", "unloads",
+            "heap KB", "deaths"));
+        for (int side = 1; side <= 8; side *= 2) {
+            Result result = traverse(side, ticks);
+            System.out.println(String.format("%-8s %7d %7d %8d %9d %8d %8.1f %7d %8d %8d %6d%s",
+                side + "x" + side, result.chunks, result.maxLoaded, result.maxEnemies, result.maxObstacles,
+                result.maxBullets, result.elapsedNanos / 1000.0 / ticks, result.loads, result.unloads,
+                result.heapBytes / 1024, result.deaths,
+                result.mismatches > 0 ? "  (" + result.mismatches + " snapshot mismatches)" : ""));
+        }
+    }
+
+    // side x side 화면 크기 월드를 ticks 동안 가로지름
+    static Result traverse(int side, int ticks) {
+        GameSimulation simulation = createTestSimulation(side, 1L);
+        GameSimulation mirror = createTestSimulation(side, 0L);
+        LevelManager levels = simulation.getLevelManager();
+        StateSnapshot snapshot = new StateSnapshot();
+        StateSnapshot check = new StateSnapshot();
+        Result result = new Result();
+
+        // 지그재그 경로 (행마다 좌우 끝으로)
+        float width = simulation.getWorld().getWidth();
+        float height = simulation.getWorld().getHeight();
+        int lanes = Math.max(1, (int)((height - 200f) / 500f));
+        float[] pathX = new float[lanes * 2];
+        float[] pathY = new float[lanes * 2];
+        for (int lane = 0; lane < lanes; lane++) {
+            float y = Math.min(height - 150f, 150f + lane * 500f);
+            pathX[lane * 2] = lane % 2 == 0 ? width - 150f : 150f;
+            pathX[lane * 2 + 1] = lane % 2 == 0 ? width - 150f : 150f;
+            pathY[lane * 2] = y;
+            pathY[lane * 2 + 1] = Math.min(height - 150f, y + 500f);
+        }
+
+        int waypoint = 0;
+        for (int tick = 0; tick < ticks; tick++) {
+            Player player = levels.getPlayer();
+            float dx = pathX[waypoint] - player.getX();
+            float dy = pathY[waypoint] - player.getY();
+            float distance = (float)Math.sqrt(dx * dx + dy * dy);
+            if (distance < 150f) {
+                waypoint = (waypoint + 1) % pathX.length;
+            } else if (player.isFlickReady()) {
+                simulation.applyImpulse(dx / distance * 600f, dy / distance * 600f);
+            }
+
+            long start = System.nanoTime();
+            simulation.step();
+            result.elapsedNanos += System.nanoTime() - start;
+
+            WorldChunks chunks = levels.getChunks();
+            result.maxEnemies = Math.max(result.maxEnemies, levels.getEnemies().size());
+            result.maxObstacles = Math.max(result.maxObstacles, levels.getObstacles().size());
+            result.maxBullets = Math.max(result.maxBullets, levels.getBullets().size());
+            result.maxLoaded = Math.max(result.maxLoaded, chunks != null ? chunks.getLoadedCount() : 1);
+
+            // 복원한 쪽을 다시 저장했을 때 바이트 단위로 같아야 함
+            if (tick % 300 == 0) {
+                snapshot.save(simulation);
+                snapshot.restore(mirror);
+                check.save(mirror);
+                result.restores++;
+                if (!snapshot.contentEquals(check)) {
+                    result.mismatches++;
+                }
+            }
+
+            // 탄에 맞으면 그 자리에서 다시 시작 (격자를 새로 만들므로 로드 수는 따로 합산)
+            if (simulation.getOutcome() != GameSimulation.Outcome.NONE) {
+                result.deaths++;
+                if (levels.getChunks() != null) {
+                    result.loads += levels.getChunks().getLoads();
+                    result.unloads += levels.getChunks().getUnloads();
+                }
+                float x = player.getX();
+                float y = player.getY();
+                simulation.loadCurrentLevel();
+                levels.getPlayer().setX(x);
+                levels.getPlayer().setY(y);
+            }
+        }
+
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        result.heapBytes = runtime.totalMemory() - runtime.freeMemory();
+        WorldChunks chunks = levels.getChunks();
+        result.chunks = chunks != null ? chunks.getChunkCount() : 1;
+        if (chunks != null) {
+            result.loads += chunks.getLoads();
+            result.unloads += chunks.getUnloads();
+        }
+
+        levels.dispose();
+        mirror.getLevelManager().dispose();
+        return result;
+    }
+
+    static GameSimulation createTestSimulation(int side, long seed) {
+        GameSimulation simulation = GameSimulation.createHeadless(0, seed);
+        simulation.setRecordEvents(false);
+        LevelManager levels = simulation.getLevelManager();
+        levels.addLevel(levels.createTestWorld(side, side));
+        levels.setCurrentLevelIndex(levels.getTotalLevels() - 1);
+        simulation.loadCurrentLevel();
+        return simulation;
+    }
+}
@@ -3,16 +3,32 @@ package io.game.test.lwjgl3;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 import io.game.test.Main;
+import io.game.test.StartupTiming;
 
 /** Launches the desktop (LWJGL3) application. */
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
-        if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
-        createApplication();
+        StartupTiming.markMain();
+        // StartupHelper only has work to do on macOS (-XstartOnFirstThread relaunch) and Windows (natives path).
+        // Elsewhere we skip it entirely so nothing extra is loaded before the window opens.
+        if (needsStartupHelper() && StartupHelper.startNewJvmIfRequired()) return;
+        createApplication(hasArgument(args, "--bot"));
     }
 
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new Main(), getDefaultConfiguration());
+    private static boolean needsStartupHelper() {
+        String osName = System.getProperty("os.name", "").toLowerCase();
+        return osName.contains("mac") || osName.contains("windows");
+    }
+
+    private static Lwjgl3Application createApplication(boolean autoPlay) {
+        return new Lwjgl3Application(new Main(autoPlay), getDefaultConfiguration());
+    }
+
+    private static boolean hasArgument(String[] args, String name) {
+        for (String arg : args) {
+            if (arg.equals(name)) return true;
+        }
+        return false;
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {
@@ -20,10 +36,13 @@ public class Lwjgl3Launcher {
         configuration.setTitle("2dgame");
         //// Vsync limits the frames per second to what your hardware can display, and helps eliminate
         //// screen tearing. This setting doesn't always work on Linux, so the line after is a safeguard.
-        configuration.useVsync(true);
+        //// -Dgame.vsync=false and -Dgame.fps=N (0 = uncapped) override both for latency tuning;
+        //// the input-to-display latency histogram is logged on exit.
+        configuration.useVsync(Boolean.parseBoolean(System.getProperty("game.vsync", "true")));
         //// Limits FPS to the refresh rate of the currently active monitor, plus 1 to try to match fractional
         //// refresh rates. The Vsync setting above should limit the actual FPS to match the monitor.
-        configuration.setForegroundFPS(Lwjgl3ApplicationConfiguration.getDisplayMode().refreshRate + 1);
+        configuration.setForegroundFPS(Integer.getInteger("game.fps",
+            Lwjgl3ApplicationConfiguration.getDisplayMode().refreshRate + 1));
         //// If you remove the above line and set Vsync to false, you can get unlimited FPS, which can be
         //// useful for testing performance, but can also be very stressful to some hardware.
         //// You may also need to configure GPU drivers to fully disable Vsync; this can cause screen tearing.